@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.migrations.util;
+
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.ARRAY_TYPE;
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.ITEMS_KEY;
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.OBJECT_TYPE;
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.ONEOF_KEY;
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.PROPERTIES_KEY;
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.REF_KEY;
+import static io.airbyte.protocol.models.JsonSchemaReferenceTypes.TYPE_KEY;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.protocol.migrations.util.RecordMigrations.Transformer;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A schema compiled for
+ * {@link RecordMigrations#mutateDataNode(JsonSchemaValidator, Function, Transformer, JsonNode, JsonNode)},
+ * so that the schema is walked once per stream rather than once per record. Records are mutated the
+ * same way, with two differences:
+ * <ul>
+ * <li>the record is mutated in place, and only along the paths of the schema which lead to a node to
+ * transform;</li>
+ * <li>whether a node matches its schema is only checked under a oneOf, which is the only place where
+ * it decides how the node is mutated.</li>
+ * </ul>
+ */
+public abstract class RecordMigrationPlan {
+
+  /**
+   * @param schemaMatcher see
+   *        {@link RecordMigrations#mutateDataNode(JsonSchemaValidator, Function, Transformer, JsonNode, JsonNode)}
+   * @param transformer see
+   *        {@link RecordMigrations#mutateDataNode(JsonSchemaValidator, Function, Transformer, JsonNode, JsonNode)}
+   */
+  public static RecordMigrationPlan compile(final JsonSchemaValidator validator,
+                                            final Function<JsonNode, Boolean> schemaMatcher,
+                                            final Transformer transformer,
+                                            final JsonNode schema) {
+    if (!schema.hasNonNull(REF_KEY) && !schema.hasNonNull(TYPE_KEY) && schema.hasNonNull(ONEOF_KEY)) {
+      final List<RecordMigrationPlan> options = new ArrayList<>();
+      for (final JsonNode option : schema.get(ONEOF_KEY)) {
+        options.add(compile(validator, schemaMatcher, transformer, option));
+      }
+      if (options.isEmpty()) {
+        return new PrimitivePlan(validator, schema);
+      }
+      return new OneOfPlan(options);
+    }
+
+    if (schemaMatcher.apply(schema)) {
+      return new TransformPlan(transformer, schema);
+    }
+
+    final PrimitivePlan primitivePlan = new PrimitivePlan(validator, schema);
+    final ObjectPlan objectPlan = isSchemaOfType(schema, OBJECT_TYPE, PROPERTIES_KEY)
+        ? compileObject(validator, schemaMatcher, transformer, schema)
+        : null;
+    final ArrayPlan arrayPlan = isSchemaOfType(schema, ARRAY_TYPE, ITEMS_KEY)
+        ? compileArray(validator, schemaMatcher, transformer, schema)
+        : null;
+    return new ContainerPlan(primitivePlan, objectPlan, arrayPlan);
+  }
+
+  /**
+   * Mutates the node in place, as far as it can be.
+   *
+   * @return the mutated node, which is a different node only if the given one cannot be mutated in
+   *         place (e.g. a primitive node)
+   */
+  public abstract JsonNode apply(JsonNode data);
+
+  /**
+   * @return whether {@link #apply(JsonNode)} would find the node to match the schema, without
+   *         mutating it
+   */
+  abstract boolean matches(JsonNode data);
+
+  /**
+   * @return whether {@link #apply(JsonNode)} might mutate a node, if not the plan can be skipped
+   */
+  abstract boolean transforms();
+
+  /**
+   * The schema is of a type when it declares it (on its own or among others), or when it declares no
+   * type nor reference but has the keyword of that type.
+   */
+  private static boolean isSchemaOfType(final JsonNode schema, final String type, final String keyword) {
+    if (schema.hasNonNull(REF_KEY)) {
+      return false;
+    } else if (schema.hasNonNull(TYPE_KEY)) {
+      final JsonNode typeNode = schema.get(TYPE_KEY);
+      if (typeNode.isArray()) {
+        for (final JsonNode typeItem : typeNode) {
+          if (type.equals(typeItem.asText())) {
+            return true;
+          }
+        }
+        return false;
+      }
+      return type.equals(typeNode.asText());
+    } else {
+      return schema.hasNonNull(keyword);
+    }
+  }
+
+  private static ObjectPlan compileObject(final JsonSchemaValidator validator,
+                                          final Function<JsonNode, Boolean> schemaMatcher,
+                                          final Transformer transformer,
+                                          final JsonNode schema) {
+    final Map<String, RecordMigrationPlan> properties = new LinkedHashMap<>();
+    final JsonNode propertiesNode = schema.get(PROPERTIES_KEY);
+    if (propertiesNode != null) {
+      final Iterator<Entry<String, JsonNode>> fields = propertiesNode.fields();
+      while (fields.hasNext()) {
+        final Entry<String, JsonNode> field = fields.next();
+        if (!field.getValue().isNull()) {
+          properties.put(field.getKey(), compile(validator, schemaMatcher, transformer, field.getValue()));
+        }
+      }
+    }
+    return new ObjectPlan(properties);
+  }
+
+  private static ArrayPlan compileArray(final JsonSchemaValidator validator,
+                                        final Function<JsonNode, Boolean> schemaMatcher,
+                                        final Transformer transformer,
+                                        final JsonNode schema) {
+    final JsonNode itemsNode = schema.get(ITEMS_KEY);
+    if (itemsNode == null) {
+      return new ArrayPlan(null, null);
+    } else if (itemsNode.isArray()) {
+      final List<RecordMigrationPlan> tupleItems = new ArrayList<>();
+      for (final JsonNode item : itemsNode) {
+        tupleItems.add(compile(validator, schemaMatcher, transformer, item));
+      }
+      return new ArrayPlan(tupleItems, null);
+    } else {
+      return new ArrayPlan(null, compile(validator, schemaMatcher, transformer, itemsNode));
+    }
+  }
+
+  /**
+   * Leaves the node as it is, and checks it against the schema with the validator. The schemas which
+   * only declare a basic type are checked without it.
+   */
+  private static class PrimitivePlan extends RecordMigrationPlan {
+
+    private final JsonSchemaValidator validator;
+    private final JsonNode schema;
+    private final Predicate<JsonNode> typeCheck;
+
+    PrimitivePlan(final JsonSchemaValidator validator, final JsonNode schema) {
+      this.validator = validator;
+      this.schema = schema;
+      this.typeCheck = compileTypeCheck(schema);
+    }
+
+    @Override
+    public JsonNode apply(final JsonNode data) {
+      return data;
+    }
+
+    @Override
+    boolean matches(final JsonNode data) {
+      return typeCheck != null ? typeCheck.test(data) : validator.test(schema, data);
+    }
+
+    @Override
+    boolean transforms() {
+      return false;
+    }
+
+    /**
+     * @return the check of a schema made only of a type, or null if the validator is needed
+     */
+    private static Predicate<JsonNode> compileTypeCheck(final JsonNode schema) {
+      if (schema.size() != 1 || !schema.has(TYPE_KEY)) {
+        return null;
+      }
+      final JsonNode typeNode = schema.get(TYPE_KEY);
+      Predicate<JsonNode> check = node -> false;
+      for (final JsonNode type : typeNode.isArray() ? typeNode : List.of(typeNode)) {
+        final Predicate<JsonNode> typeCheck = switch (type.asText()) {
+          case "string" -> JsonNode::isTextual;
+          case "boolean" -> JsonNode::isBoolean;
+          case "null" -> JsonNode::isNull;
+          case OBJECT_TYPE -> JsonNode::isObject;
+          case ARRAY_TYPE -> JsonNode::isArray;
+          // numbers depend on how they are represented, which the validator knows better
+          default -> null;
+        };
+        if (typeCheck == null) {
+          return null;
+        }
+        check = check.or(typeCheck);
+      }
+      return check;
+    }
+
+  }
+
+  private static class TransformPlan extends RecordMigrationPlan {
+
+    private final Transformer transformer;
+    private final JsonNode schema;
+
+    TransformPlan(final Transformer transformer, final JsonNode schema) {
+      this.transformer = transformer;
+      this.schema = schema;
+    }
+
+    @Override
+    public JsonNode apply(final JsonNode data) {
+      return transformer.apply(schema, data).node();
+    }
+
+    @Override
+    boolean matches(final JsonNode data) {
+      return transformer.apply(schema, data).matchedSchema();
+    }
+
+    @Override
+    boolean transforms() {
+      return true;
+    }
+
+  }
+
+  /**
+   * Applies the first option which matches the node, or the first option if none does.
+   */
+  private static class OneOfPlan extends RecordMigrationPlan {
+
+    private final List<RecordMigrationPlan> options;
+    private final boolean transforms;
+
+    OneOfPlan(final List<RecordMigrationPlan> options) {
+      this.options = options;
+      this.transforms = options.stream().anyMatch(RecordMigrationPlan::transforms);
+    }
+
+    @Override
+    public JsonNode apply(final JsonNode data) {
+      if (!transforms) {
+        return data;
+      }
+      for (final RecordMigrationPlan option : options) {
+        if (option.matches(data)) {
+          return option.apply(data);
+        }
+      }
+      return options.get(0).apply(data);
+    }
+
+    @Override
+    boolean matches(final JsonNode data) {
+      for (final RecordMigrationPlan option : options) {
+        if (option.matches(data)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    boolean transforms() {
+      return transforms;
+    }
+
+  }
+
+  /**
+   * Dispatches on the kind of node, since a schema may be of several types. A node which is not of a
+   * type of the schema is left as it is, and does not match it.
+   */
+  private static class ContainerPlan extends RecordMigrationPlan {
+
+    private final PrimitivePlan primitivePlan;
+    private final ObjectPlan objectPlan;
+    private final ArrayPlan arrayPlan;
+    private final boolean transforms;
+
+    ContainerPlan(final PrimitivePlan primitivePlan, final ObjectPlan objectPlan, final ArrayPlan arrayPlan) {
+      this.primitivePlan = primitivePlan;
+      this.objectPlan = objectPlan;
+      this.arrayPlan = arrayPlan;
+      this.transforms = (objectPlan != null && objectPlan.transforms()) || (arrayPlan != null && arrayPlan.transforms());
+    }
+
+    @Override
+    public JsonNode apply(final JsonNode data) {
+      if (!transforms) {
+        return data;
+      } else if (data.isObject()) {
+        return objectPlan != null && objectPlan.transforms() ? objectPlan.apply(data) : data;
+      } else if (data.isArray()) {
+        return arrayPlan != null && arrayPlan.transforms() ? arrayPlan.apply(data) : data;
+      } else {
+        return data;
+      }
+    }
+
+    @Override
+    boolean matches(final JsonNode data) {
+      if (data.isObject()) {
+        return objectPlan != null && objectPlan.matches(data);
+      } else if (data.isArray()) {
+        return arrayPlan != null && arrayPlan.matches(data);
+      } else {
+        return primitivePlan.matches(data);
+      }
+    }
+
+    @Override
+    boolean transforms() {
+      return transforms;
+    }
+
+  }
+
+  /**
+   * Properties without a schema are additional properties, which are left as they are.
+   */
+  private static class ObjectPlan extends RecordMigrationPlan {
+
+    private final Map<String, RecordMigrationPlan> properties;
+    // the properties which need to be visited when applying the plan
+    private final Map<String, RecordMigrationPlan> transformedProperties = new LinkedHashMap<>();
+
+    ObjectPlan(final Map<String, RecordMigrationPlan> properties) {
+      this.properties = properties;
+      properties.forEach((name, plan) -> {
+        if (plan.transforms()) {
+          transformedProperties.put(name, plan);
+        }
+      });
+    }
+
+    @Override
+    public JsonNode apply(final JsonNode data) {
+      final ObjectNode object = (ObjectNode) data;
+      for (final Entry<String, RecordMigrationPlan> property : transformedProperties.entrySet()) {
+        final JsonNode value = object.get(property.getKey());
+        if (value != null) {
+          final JsonNode mutatedValue = property.getValue().apply(value);
+          if (mutatedValue != value) {
+            object.set(property.getKey(), mutatedValue);
+          }
+        }
+      }
+      return object;
+    }
+
+    @Override
+    boolean matches(final JsonNode data) {
+      for (final Entry<String, RecordMigrationPlan> property : properties.entrySet()) {
+        final JsonNode value = data.get(property.getKey());
+        if (value != null && !property.getValue().matches(value)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    boolean transforms() {
+      return !transformedProperties.isEmpty();
+    }
+
+  }
+
+  /**
+   * Elements past the ones with a schema in a tuple are left as they are.
+   */
+  private static class ArrayPlan extends RecordMigrationPlan {
+
+    // at most one of them is set, none if the schema has no items
+    private final List<RecordMigrationPlan> tupleItems;
+    private final RecordMigrationPlan items;
+    private final boolean transforms;
+
+    ArrayPlan(final List<RecordMigrationPlan> tupleItems, final RecordMigrationPlan items) {
+      this.tupleItems = tupleItems;
+      this.items = items;
+      this.transforms = (items != null && items.transforms())
+          || (tupleItems != null && tupleItems.stream().anyMatch(RecordMigrationPlan::transforms));
+    }
+
+    @Override
+    public JsonNode apply(final JsonNode data) {
+      final ArrayNode array = (ArrayNode) data;
+      final int size = tupleItems != null ? Math.min(array.size(), tupleItems.size()) : array.size();
+      for (int i = 0; i < size; i++) {
+        final JsonNode element = array.get(i);
+        final JsonNode mutatedElement = (tupleItems != null ? tupleItems.get(i) : items).apply(element);
+        if (mutatedElement != element) {
+          array.set(i, mutatedElement);
+        }
+      }
+      return array;
+    }
+
+    @Override
+    boolean matches(final JsonNode data) {
+      if (tupleItems == null && items == null) {
+        return true;
+      }
+      final int size = tupleItems != null ? Math.min(data.size(), tupleItems.size()) : data.size();
+      for (int i = 0; i < size; i++) {
+        if (!(tupleItems != null ? tupleItems.get(i) : items).matches(data.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    boolean transforms() {
+      return transforms;
+    }
+
+  }
+
+}
@@ -11,29 +11,41 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.protocol.migrations.AirbyteMessageMigration;
-import io.airbyte.commons.protocol.migrations.util.RecordMigrations;
+import io.airbyte.commons.protocol.migrations.util.RecordMigrationPlan;
 import io.airbyte.commons.protocol.migrations.util.RecordMigrations.MigratedNode;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.Version;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.JsonSchemaReferenceTypes;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 // Disable V1 Migration, uncomment to re-enable
 // @Singleton
 public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.airbyte.protocol.models.v0.AirbyteMessage, AirbyteMessage> {
 
+  private static final Pattern NUMERIC_LITERAL = Pattern.compile("-?\\d+(\\.\\d+)?");
+
   private final JsonSchemaValidator validator;
+  // plans are compiled once per catalog, which is given again with every message of a sync. Catalogs
+  // are compared by identity, and dropped once no longer referenced.
+  private final LoadingCache<ConfiguredAirbyteCatalog, Map<AirbyteStreamNameNamespacePair, RecordMigrationPlan>> downgradePlans;
 
   public AirbyteMessageMigrationV1() {
     this(new JsonSchemaValidator());
@@ -42,11 +54,23 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
   @VisibleForTesting
   public AirbyteMessageMigrationV1(final JsonSchemaValidator validator) {
     this.validator = validator;
+    this.downgradePlans = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(this::compileDowngradePlans));
   }
 
   @Override
   public io.airbyte.protocol.models.v0.AirbyteMessage downgrade(final AirbyteMessage oldMessage,
                                                                 final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    if (oldMessage.getType() == Type.RECORD && oldMessage.getRecord() != null) {
+      // Records are copied field by field rather than through json, since there is one per row
+      final io.airbyte.protocol.models.v0.AirbyteMessage newMessage = new io.airbyte.protocol.models.v0.AirbyteMessage()
+          .withType(io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD)
+          .withRecord(downgradeRecordMessage(oldMessage.getRecord(), configuredAirbyteCatalog));
+      oldMessage.getAdditionalProperties().forEach(newMessage::setAdditionalProperty);
+      return newMessage;
+    }
+
     final io.airbyte.protocol.models.v0.AirbyteMessage newMessage = Jsons.object(
         Jsons.jsonNode(oldMessage),
         io.airbyte.protocol.models.v0.AirbyteMessage.class);
@@ -55,31 +79,62 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
         final JsonNode schema = stream.getJsonSchema();
         SchemaMigrationV1.downgradeSchema(schema);
       }
-    } else if (oldMessage.getType() == Type.RECORD && oldMessage.getRecord() != null) {
-      if (configuredAirbyteCatalog.isPresent()) {
-        final ConfiguredAirbyteCatalog catalog = configuredAirbyteCatalog.get();
-        final io.airbyte.protocol.models.v0.AirbyteRecordMessage record = newMessage.getRecord();
-        final Optional<ConfiguredAirbyteStream> maybeStream = catalog.getStreams().stream()
-            .filter(stream -> Objects.equals(stream.getStream().getName(), record.getStream())
-                && Objects.equals(stream.getStream().getNamespace(), record.getNamespace()))
-            .findFirst();
-        // If this record doesn't belong to any configured stream, then there's no point downgrading it
-        // So only do the downgrade if we can find its stream
-        if (maybeStream.isPresent()) {
-          final JsonNode schema = maybeStream.get().getStream().getJsonSchema();
-          final JsonNode oldData = record.getData();
-          final MigratedNode downgradedNode = downgradeRecord(oldData, schema);
-          record.setData(downgradedNode.node());
-        }
-      }
     }
     return newMessage;
   }
 
+  private io.airbyte.protocol.models.v0.AirbyteRecordMessage downgradeRecordMessage(final AirbyteRecordMessage oldRecord,
+                                                                                    final Optional<ConfiguredAirbyteCatalog> maybeCatalog) {
+    final io.airbyte.protocol.models.v0.AirbyteRecordMessage newRecord = new io.airbyte.protocol.models.v0.AirbyteRecordMessage()
+        .withNamespace(oldRecord.getNamespace())
+        .withStream(oldRecord.getStream())
+        .withEmittedAt(oldRecord.getEmittedAt());
+    oldRecord.getAdditionalProperties().forEach(newRecord::setAdditionalProperty);
+    if (oldRecord.getData() == null) {
+      return newRecord;
+    }
+
+    final JsonNode data = oldRecord.getData().deepCopy();
+    // If this record doesn't belong to any configured stream, then there's no point downgrading it
+    // So only do the downgrade if we can find its stream
+    final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(oldRecord.getStream(), oldRecord.getNamespace());
+    final RecordMigrationPlan plan = maybeCatalog
+        .map(catalog -> downgradePlans.getUnchecked(catalog).get(pair))
+        .orElse(null);
+    return newRecord.withData(plan != null ? plan.apply(data) : data);
+  }
+
+  private Map<AirbyteStreamNameNamespacePair, RecordMigrationPlan> compileDowngradePlans(final ConfiguredAirbyteCatalog catalog) {
+    final Map<AirbyteStreamNameNamespacePair, RecordMigrationPlan> plans = new HashMap<>();
+    for (final ConfiguredAirbyteStream stream : catalog.getStreams()) {
+      // the first stream wins if there are duplicates
+      plans.computeIfAbsent(
+          new AirbyteStreamNameNamespacePair(stream.getStream().getName(), stream.getStream().getNamespace()),
+          pair -> compileDowngradePlan(stream.getStream().getJsonSchema()));
+    }
+    return plans;
+  }
+
   @Override
   public AirbyteMessage upgrade(final io.airbyte.protocol.models.v0.AirbyteMessage oldMessage,
                                 final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
-    // We're not introducing any changes to the structure of the record/catalog
+    if (oldMessage.getType() == io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD && oldMessage.getRecord() != null) {
+      // upgradeRecord already copies the data, so the rest of the record is copied field by field
+      final io.airbyte.protocol.models.v0.AirbyteRecordMessage oldRecord = oldMessage.getRecord();
+      final AirbyteRecordMessage newRecord = new AirbyteRecordMessage()
+          .withNamespace(oldRecord.getNamespace())
+          .withStream(oldRecord.getStream())
+          .withEmittedAt(oldRecord.getEmittedAt())
+          .withData(oldRecord.getData() != null ? upgradeRecord(oldRecord.getData()) : null);
+      oldRecord.getAdditionalProperties().forEach(newRecord::setAdditionalProperty);
+      final AirbyteMessage newMessage = new AirbyteMessage()
+          .withType(Type.RECORD)
+          .withRecord(newRecord);
+      oldMessage.getAdditionalProperties().forEach(newMessage::setAdditionalProperty);
+      return newMessage;
+    }
+
+    // We're not introducing any changes to the structure of the catalog
     // so just clone a new message object, which we can edit in-place
     final AirbyteMessage newMessage = Jsons.object(
         Jsons.jsonNode(oldMessage),
@@ -89,10 +144,6 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
         final JsonNode schema = stream.getJsonSchema();
         SchemaMigrationV1.upgradeSchema(schema);
       }
-    } else if (oldMessage.getType() == io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD && oldMessage.getRecord() != null) {
-      final JsonNode oldData = newMessage.getRecord().getData();
-      final JsonNode newData = upgradeRecord(oldData);
-      newMessage.getRecord().setData(newData);
     }
     return newMessage;
   }
@@ -141,8 +192,8 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
    * downgrade anything that we can definitively say is a number. Should _not_ throw an exception if
    * bad things happen (e.g. we try to parse a non-numerical string as a number).
    */
-  private MigratedNode downgradeRecord(final JsonNode data, final JsonNode schema) {
-    return RecordMigrations.mutateDataNode(
+  private RecordMigrationPlan compileDowngradePlan(final JsonNode schema) {
+    return RecordMigrationPlan.compile(
         validator,
         s -> {
           if (s.hasNonNull(REF_KEY)) {
@@ -154,7 +205,7 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
           }
         },
         (s, d) -> {
-          if (d.asText().matches("-?\\d+(\\.\\d+)?")) {
+          if (NUMERIC_LITERAL.matcher(d.asText()).matches()) {
             // If this string is a numeric literal, convert it to a numeric node.
             return new MigratedNode(Jsons.deserialize(d.asText()), true);
           } else {
@@ -162,7 +213,7 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
             return new MigratedNode(d, false);
           }
         },
-        data, schema);
+        schema);
   }
 
   @Override
@@ -1216,6 +1216,27 @@ class AirbyteMessageMigrationV1Test {
       assertEquals(expectedMessage, downgradedMessage);
     }
 
+    @Test
+    void testDowngradeLeavesOldMessageUnchanged() {
+      final ConfiguredAirbyteCatalog catalog = createConfiguredAirbyteCatalog(
+          """
+          {
+            "type": "object",
+            "properties": {
+              "int": {"$ref": "WellKnownTypes.json#/definitions/Integer"}
+            }
+          }
+          """);
+      final AirbyteMessage oldMessage = createRecordMessage(Jsons.deserialize("{\"int\": \"42\"}"));
+
+      // the second downgrade goes through the plan compiled for the catalog by the first one
+      for (int i = 0; i < 2; i++) {
+        final io.airbyte.protocol.models.v0.AirbyteMessage downgradedMessage = migration.downgrade(oldMessage, Optional.of(catalog));
+        assertEquals(Jsons.deserialize("{\"int\": 42}"), downgradedMessage.getRecord().getData());
+      }
+      assertEquals(Jsons.deserialize("{\"int\": \"42\"}"), oldMessage.getRecord().getData());
+    }
+
     @Test
     void testNullDowngrade() {
       final AirbyteMessage oldMessage = new AirbyteMessage().withType(Type.RECORD);
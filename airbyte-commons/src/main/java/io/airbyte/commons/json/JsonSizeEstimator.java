@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+/**
+ * Estimates the size in bytes of JSON values serialized in UTF-8 by {@link Jsons#serialize(Object)},
+ * by walking them instead of serializing them. This makes it cheap enough to measure every record
+ * or row, rather than a sample of them.
+ *
+ * <p>
+ * The estimation is exact for strings, booleans, nulls, integers and decimals. Floating point
+ * numbers which are not integral are formatted to be measured. Values which are not JSON nodes nor
+ * basic types fall back to serializing them.
+ * </p>
+ */
+public final class JsonSizeEstimator {
+
+  // largest double that is still formatted without an exponent
+  private static final double MAX_PLAIN_DOUBLE = 1e7;
+  private static final double LOG10_OF_2 = Math.log10(2);
+
+  private JsonSizeEstimator() {}
+
+  /**
+   * @return estimated size of the serialized value, or 0 if it is null
+   */
+  public static long estimateByteSize(final Object value) {
+    if (value == null) {
+      return 0L;
+    } else if (value instanceof JsonNode) {
+      return estimateByteSize((JsonNode) value);
+    } else if (value instanceof CharSequence) {
+      return estimateStringByteSize((CharSequence) value);
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? 4L : 5L;
+    } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      return estimateLongByteSize(((Number) value).longValue());
+    } else if (value instanceof BigDecimal) {
+      return estimateDecimalByteSize((BigDecimal) value);
+    }
+    return estimateUtf8ByteSize(Jsons.serialize(value));
+  }
+
+  /**
+   * @return estimated size of the serialized node, or 0 if it is null or missing
+   */
+  public static long estimateByteSize(final JsonNode node) {
+    if (node == null) {
+      return 0L;
+    }
+    switch (node.getNodeType()) {
+      case OBJECT -> {
+        // braces and a comma between each field
+        long size = 2L + Math.max(0, node.size() - 1);
+        final Iterator<Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          final Entry<String, JsonNode> field = fields.next();
+          // name, colon and value
+          size += estimateStringByteSize(field.getKey()) + 1L + estimateByteSize(field.getValue());
+        }
+        return size;
+      }
+      case ARRAY -> {
+        long size = 2L + Math.max(0, node.size() - 1);
+        for (final JsonNode element : node) {
+          size += estimateByteSize(element);
+        }
+        return size;
+      }
+      case STRING -> {
+        return estimateStringByteSize(node.textValue());
+      }
+      case NUMBER -> {
+        return estimateNumberByteSize(node);
+      }
+      case BOOLEAN -> {
+        return node.booleanValue() ? 4L : 5L;
+      }
+      case NULL -> {
+        return 4L;
+      }
+      case BINARY -> {
+        // quoted base64, padded
+        return 2L + 4L * ((((BinaryNode) node).binaryValue().length + 2L) / 3L);
+      }
+      case MISSING -> {
+        return 0L;
+      }
+      default -> {
+        return estimateUtf8ByteSize(Jsons.serialize(node));
+      }
+    }
+  }
+
+  /**
+   * @return size of the string once quoted, escaped and encoded in UTF-8
+   */
+  public static long estimateStringByteSize(final CharSequence value) {
+    return 2L + estimateUtf8ByteSize(value, true);
+  }
+
+  private static long estimateUtf8ByteSize(final CharSequence value) {
+    return estimateUtf8ByteSize(value, false);
+  }
+
+  private static long estimateUtf8ByteSize(final CharSequence value, final boolean isEscaped) {
+    long size = 0L;
+    final int length = value.length();
+    for (int i = 0; i < length; i++) {
+      final char c = value.charAt(i);
+      if (c >= 0x80) {
+        // each half of a surrogate pair accounts for half of a 4-byte character
+        size += c < 0x800 || Character.isSurrogate(c) ? 2L : 3L;
+      } else if (!isEscaped || c >= 0x20 && c != '"' && c != '\\') {
+        size++;
+      } else {
+        size += switch (c) {
+          case '"', '\\', '\b', '\f', '\n', '\r', '\t' -> 2L;
+          default -> 6L;
+        };
+      }
+    }
+    return size;
+  }
+
+  private static long estimateNumberByteSize(final JsonNode node) {
+    switch (node.numberType()) {
+      case INT, LONG -> {
+        return estimateLongByteSize(node.longValue());
+      }
+      case BIG_INTEGER -> {
+        return (node.bigIntegerValue().signum() < 0 ? 1L : 0L) + (long) (node.bigIntegerValue().bitLength() * LOG10_OF_2) + 1L;
+      }
+      case BIG_DECIMAL -> {
+        return estimateDecimalByteSize(node.decimalValue());
+      }
+      default -> {
+        final double value = node.doubleValue();
+        if (value == Math.rint(value) && Math.abs(value) < MAX_PLAIN_DOUBLE) {
+          // formatted with a trailing ".0"
+          return estimateLongByteSize((long) value) + 2L + (value == 0 && 1 / value < 0 ? 1L : 0L);
+        }
+        return node.asText().length();
+      }
+    }
+  }
+
+  private static long estimateLongByteSize(final long value) {
+    if (value == Long.MIN_VALUE) {
+      return 20L;
+    }
+    long size = value < 0 ? 2L : 1L;
+    for (long remainder = Math.abs(value); remainder >= 10; remainder /= 10) {
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Decimals are written in plain notation, see {@link io.airbyte.commons.jackson.MoreMappers}.
+   */
+  private static long estimateDecimalByteSize(final BigDecimal value) {
+    final int precision = value.precision();
+    final int scale = value.scale();
+    final long sign = value.signum() < 0 ? 1L : 0L;
+    if (scale <= 0) {
+      // trailing zeros
+      return sign + precision - (long) scale;
+    } else if (scale < precision) {
+      // decimal point
+      return sign + precision + 1L;
+    }
+    // leading "0." and zeros
+    return sign + scale + 2L;
+  }
+
+}
@@ -129,6 +129,10 @@ public class Jsons {
     return OBJECT_MAPPER.createArrayNode();
   }
 
+  public static ObjectNode objectNode() {
+    return OBJECT_MAPPER.createObjectNode();
+  }
+
   public static <T> T object(final JsonNode jsonNode, final Class<T> klass) {
     return OBJECT_MAPPER.convertValue(jsonNode, klass);
   }
@@ -163,14 +167,11 @@ public class Jsons {
   }
 
   /**
-   * Use string length as an estimation for byte size, because all ASCII characters are one byte long
-   * in UTF-8, and ASCII characters cover most of the use cases. To be more precise, we can convert
-   * the string to byte[] and use the length of the byte[]. However, this conversion is expensive in
-   * memory consumption. Given that the byte size of the serialized JSON is already an estimation of
-   * the actual size of the JSON object, using a cheap operation seems an acceptable compromise.
+   * Estimates the byte size of the serialized JSON without serializing it, see
+   * {@link JsonSizeEstimator}.
    */
   public static int getEstimatedByteSize(final JsonNode jsonNode) {
-    return serialize(jsonNode).length();
+    return (int) Math.min(Integer.MAX_VALUE, JsonSizeEstimator.estimateByteSize(jsonNode));
   }
 
   public static Set<String> keys(final JsonNode jsonNode) {
@@ -130,4 +130,20 @@ public class AutoCloseableIterators {
     return new CompositeIterator<>(iterators);
   }
 
+  /**
+   * Concatenates the iterators like {@link #concatWithEagerClose(List)}, but reads up to
+   * maxConcurrency of them at the same time, see {@link ConcurrentCompositeIterator}.
+   *
+   * @param iterators iterators to concatenate
+   * @param maxConcurrency max number of iterators read at the same time
+   * @param queueCapacity max number of elements read ahead of the consumer
+   * @param <T> type
+   * @return iterator interleaving the elements of all iterators
+   */
+  public static <T> ConcurrentCompositeIterator<T> concatWithConcurrency(final List<AutoCloseableIterator<T>> iterators,
+                                                                         final int maxConcurrency,
+                                                                         final int queueCapacity) {
+    return new ConcurrentCompositeIterator<>(iterators, maxConcurrency, queueCapacity);
+  }
+
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Composes multiple {@link AutoCloseableIterator}s like {@link CompositeIterator}, except that up to
+ * maxConcurrency internal iterators are drained at the same time, each one by its own thread, into a
+ * bounded queue that this iterator reads from.
+ *
+ * <p>
+ * The elements of the different internal iterators are interleaved, but the elements of any single
+ * internal iterator are returned in the order it produced them. Internal iterators are started in
+ * the order they were given, and each one is closed by its thread as soon as it is exhausted. The
+ * threads are only started on the first call to {@link #hasNext()}, and block while the queue is
+ * full.
+ * </p>
+ * <p>
+ * If an internal iterator throws, the exception is rethrown by this iterator, after the elements
+ * that were queued before it. Calling {@link #close()} stops the threads, waits for them to terminate
+ * and then attempts to close each internal iterator once, rethrowing the _first_ exception that it
+ * encountered, like {@link CompositeIterator#close()}. An internal iterator is thus never closed
+ * while a thread is still reading it.
+ * </p>
+ *
+ * @param <T> type
+ */
+public final class ConcurrentCompositeIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCompositeIterator.class);
+
+  private static final Object END_OF_ITERATOR = new Object();
+  private static final long ENQUEUE_TIMEOUT_MILLIS = 100;
+  private static final long TERMINATION_LOG_INTERVAL_SECONDS = 30;
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final int maxConcurrency;
+  private final BlockingQueue<Object> queue;
+
+  private ExecutorService executor;
+  private int exhaustedIterators;
+  private volatile Exception failure;
+  private volatile boolean hasClosed;
+
+  ConcurrentCompositeIterator(final List<AutoCloseableIterator<T>> iterators, final int maxConcurrency, final int queueCapacity) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkArgument(maxConcurrency > 0, "maxConcurrency must be positive");
+    Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be positive");
+
+    this.iterators = iterators;
+    this.maxConcurrency = maxConcurrency;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.exhaustedIterators = 0;
+    this.hasClosed = false;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected T computeNext() {
+    assertHasNotClosed();
+
+    if (executor == null) {
+      start();
+    }
+
+    while (exhaustedIterators < iterators.size()) {
+      final Object element;
+      try {
+        element = queue.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      if (element != END_OF_ITERATOR) {
+        return (T) element;
+      }
+      exhaustedIterators++;
+      if (failure != null) {
+        throw failure instanceof RuntimeException ? (RuntimeException) failure : new RuntimeException(failure);
+      }
+    }
+    return endOfData();
+  }
+
+  private void start() {
+    executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxConcurrency, iterators.size())), new BasicThreadFactory.Builder()
+        .namingPattern("concurrent-iterator-%d")
+        .daemon(true)
+        .build());
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      executor.execute(() -> drain(iterator));
+    }
+    executor.shutdown();
+  }
+
+  private void drain(final AutoCloseableIterator<T> iterator) {
+    try {
+      while (!hasClosed && failure == null && iterator.hasNext()) {
+        if (!enqueue(iterator.next())) {
+          break;
+        }
+      }
+      iterator.close();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (final Exception e) {
+      LOGGER.error("exception while reading iterator", e);
+      if (failure == null) {
+        failure = e;
+      }
+    }
+    try {
+      enqueue(END_OF_ITERATOR);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Waits for room in the queue, unless this iterator gets closed, in which case nothing reads the
+   * queue anymore. This does not rely on interruptions, which the internal iterators may swallow.
+   *
+   * @return whether the element was queued
+   */
+  private boolean enqueue(final Object element) throws InterruptedException {
+    while (!hasClosed) {
+      if (queue.offer(element, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void close() throws Exception {
+    hasClosed = true;
+
+    if (executor != null) {
+      executor.shutdownNow();
+      // the internal iterators are not thread safe, they are only closed once no thread reads them
+      while (!executor.awaitTermination(TERMINATION_LOG_INTERVAL_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("waiting for the iterator threads to terminate before closing their iterators");
+      }
+    }
+
+    final List<Exception> exceptions = new ArrayList<>();
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      try {
+        iterator.close();
+      } catch (final Exception e) {
+        LOGGER.error("exception while closing", e);
+        exceptions.add(e);
+      }
+    }
+
+    if (!exceptions.isEmpty()) {
+      throw exceptions.get(0);
+    }
+  }
+
+  private void assertHasNotClosed() {
+    Preconditions.checkState(!hasClosed);
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonSizeEstimatorTest {
+
+  @Test
+  void testEstimatesSerializedSize() {
+    final ObjectNode node = (ObjectNode) Jsons.deserialize("""
+                                                           {
+                                                             "string": "abc",
+                                                             "escaped": "quote \\" backslash \\\\ newline \\n control \\u0001",
+                                                             "unicode": "\u00e9t\u00e9 \u4e2d\u6587 \ud83d\ude00",
+                                                             "empty_object": {},
+                                                             "empty_array": [],
+                                                             "array": [1, -20, 9223372036854775807, -9223372036854775808, true, false, null],
+                                                             "object": {"nested": {"key": "value"}},
+                                                             "double": 1.5,
+                                                             "integral_double": -20.0,
+                                                             "small_double": 0.000012345,
+                                                             "large_double": 12345678901.5
+                                                           }
+                                                           """);
+    node.put("big_integer", new BigInteger("-123456789012345678901234567890"));
+    node.put("decimal", new BigDecimal("-1234.5600"));
+    node.put("small_decimal", new BigDecimal("0.00012"));
+    node.put("large_decimal", new BigDecimal("1.2E+5"));
+    node.put("zero_decimal", BigDecimal.ZERO);
+    node.set("binary", new BinaryNode(new byte[] {1, 2, 3, 4, 5}));
+
+    assertEquals(Jsons.toBytes(node).length, JsonSizeEstimator.estimateByteSize(node));
+    assertEquals(Jsons.toBytes(node).length, Jsons.getEstimatedByteSize(node));
+  }
+
+  @Test
+  void testEstimatesValueSize() {
+    assertEquals(0L, JsonSizeEstimator.estimateByteSize((Object) null));
+    assertEquals(7L, JsonSizeEstimator.estimateByteSize("12345"));
+    assertEquals(5L, JsonSizeEstimator.estimateByteSize(12345));
+    assertEquals(5L, JsonSizeEstimator.estimateByteSize(false));
+    assertEquals(15L, JsonSizeEstimator.estimateByteSize(Map.of("key", "value")));
+  }
+
+}
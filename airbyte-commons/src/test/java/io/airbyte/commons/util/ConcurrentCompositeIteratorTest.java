@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCompositeIteratorTest {
+
+  private VoidCallable onClose1;
+  private VoidCallable onClose2;
+  private VoidCallable onClose3;
+
+  @BeforeEach
+  void setup() {
+    onClose1 = mock(VoidCallable.class);
+    onClose2 = mock(VoidCallable.class);
+    onClose3 = mock(VoidCallable.class);
+  }
+
+  @Test
+  void testEmptyInput() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(Collections.emptyList(), 2, 10);
+    assertFalse(iterator.hasNext());
+    iterator.close();
+  }
+
+  @Test
+  void testKeepsOrderWithinEachIterator() throws Exception {
+    final List<String> first = generate("a", 1000);
+    final List<String> second = generate("b", 1000);
+    final List<String> third = generate("c", 1000);
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(first.iterator(), onClose1),
+        AutoCloseableIterators.fromIterator(second.iterator(), onClose2),
+        AutoCloseableIterators.fromIterator(third.iterator(), onClose3)), 2, 10);
+
+    final List<String> output = new ArrayList<>();
+    iterator.forEachRemaining(output::add);
+
+    assertEquals(first, output.stream().filter(s -> s.startsWith("a")).collect(Collectors.toList()));
+    assertEquals(second, output.stream().filter(s -> s.startsWith("b")).collect(Collectors.toList()));
+    assertEquals(third, output.stream().filter(s -> s.startsWith("c")).collect(Collectors.toList()));
+    assertEquals(3000, output.size());
+    // each internal iterator is closed as soon as it is exhausted
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+
+    iterator.close();
+
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+  }
+
+  @Test
+  void testRethrowsFailure() throws Exception {
+    final Iterator<String> failing = new Iterator<>() {
+
+      private int count = 0;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        if (count++ == 5) {
+          throw new IllegalStateException("read failed");
+        }
+        return "b" + count;
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(generate("a", 1000).iterator(), onClose1),
+        AutoCloseableIterators.fromIterator(failing, onClose2)), 2, 10);
+
+    final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> iterator.forEachRemaining(s -> {}));
+    assertEquals("read failed", exception.getMessage());
+
+    iterator.close();
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+  }
+
+  @Test
+  void testCloseBeforeUsingItUp() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(generate("a", 1000).iterator(), onClose1),
+        AutoCloseableIterators.fromIterator(generate("b", 1000).iterator(), onClose2)), 2, 10);
+
+    assertTrue(iterator.hasNext());
+    iterator.next();
+    iterator.close();
+
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    assertThrows(IllegalStateException.class, iterator::hasNext);
+    iterator.close(); // still allowed to close again.
+  }
+
+  @Test
+  void testClosesIteratorsOnceTheirThreadsTerminated() throws Exception {
+    final CountDownLatch slowReadStarted = new CountDownLatch(1);
+    final AtomicBoolean reading = new AtomicBoolean();
+    final AtomicBoolean closedWhileReading = new AtomicBoolean();
+    // the second element takes a while to be read, and the read ignores interruptions
+    final Iterator<String> slowIterator = new Iterator<>() {
+
+      private int count;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        if (count > 0) {
+          reading.set(true);
+          slowReadStarted.countDown();
+          final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+          while (System.nanoTime() < deadline) {
+            try {
+              Thread.sleep(10);
+            } catch (final InterruptedException e) {
+              // ignored, like a blocking read of a socket
+            }
+          }
+          reading.set(false);
+        }
+        return "a" + count++;
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(slowIterator, () -> closedWhileReading.compareAndSet(false, reading.get()))), 1, 1);
+
+    assertEquals("a0", iterator.next());
+    assertTrue(slowReadStarted.await(10, TimeUnit.SECONDS));
+    iterator.close();
+
+    assertFalse(reading.get());
+    assertFalse(closedWhileReading.get());
+  }
+
+  private static List<String> generate(final String prefix, final int count) {
+    return IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.toList());
+  }
+
+}
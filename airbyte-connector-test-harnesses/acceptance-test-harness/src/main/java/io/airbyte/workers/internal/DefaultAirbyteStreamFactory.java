@@ -4,13 +4,22 @@
 
 package io.airbyte.workers.internal;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.cfg.CoercionAction;
+import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
+import com.fasterxml.jackson.databind.type.LogicalType;
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.text.CharacterIterator;
@@ -35,6 +44,7 @@ import org.slf4j.LoggerFactory;
 public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAirbyteStreamFactory.class);
+  private static final ObjectReader MESSAGE_READER = createMessageReader();
   private final double MAX_SIZE_RATIO = 0.8;
 
   private final MdcScope.Builder containerLogMdcBuilder;
@@ -80,6 +90,21 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
     this.maxMemory = maxMemory;
   }
 
+  /**
+   * Scalars are not coerced, so that a message with a field of the wrong type (e.g. a numeric stream
+   * name) fails deserialization, as it failed the validation of the whole message against the
+   * protocol schema.
+   */
+  private static ObjectReader createMessageReader() {
+    final ObjectMapper mapper = MoreMappers.initMapper().configure(MapperFeature.ALLOW_COERCION_OF_SCALARS, false);
+    // coercions of scalars to strings are not covered by ALLOW_COERCION_OF_SCALARS
+    mapper.coercionConfigFor(LogicalType.Textual)
+        .setCoercion(CoercionInputShape.Integer, CoercionAction.Fail)
+        .setCoercion(CoercionInputShape.Float, CoercionAction.Fail)
+        .setCoercion(CoercionInputShape.Boolean, CoercionAction.Fail);
+    return mapper.readerFor(AirbyteMessage.class);
+  }
+
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
     return bufferedReader
@@ -101,39 +126,52 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
             }
           }
         })
-        .flatMap(this::parseJson)
-        .filter(this::validate)
-        .flatMap(this::toAirbyteMessage)
+        .flatMap(this::parseMessage)
         .filter(this::filterLog);
   }
 
-  protected Stream<JsonNode> parseJson(final String line) {
-    final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
-    if (jsonLine.isEmpty()) {
+  /**
+   * Binds the line directly to an {@link AirbyteMessage} and validates its envelope. The data of a
+   * record is not walked by the protocol schema validator: a record is valid as long as it has a
+   * stream, an emitted_at and object data, which are the requirements of the protocol. Other, much
+   * less frequent, messages are validated against the whole protocol schema.
+   */
+  protected Stream<AirbyteMessage> parseMessage(final String line) {
+    final AirbyteMessage message;
+    try {
+      message = MESSAGE_READER.readValue(line);
+    } catch (final JsonParseException e) {
       // we log as info all the lines that are not valid json
       // some sources actually log their process on stdout, we
       // want to make sure this info is available in the logs.
       try (final var mdcScope = containerLogMdcBuilder.build()) {
         logger.info(line);
       }
+      return Stream.empty();
+    } catch (final IOException e) {
+      logger.error("Deserialization failed: {}", line);
+      return Stream.empty();
     }
-    return jsonLine.stream();
-  }
-
-  protected boolean validate(final JsonNode json) {
-    final boolean res = protocolValidator.test(json);
-    if (!res) {
-      logger.error("Validation failed: {}", Jsons.serialize(json));
+    if (!isValidEnvelope(message)) {
+      logger.error("Validation failed: {}", line);
+      return Stream.empty();
     }
-    return res;
+    return Stream.of(message);
   }
 
-  protected Stream<AirbyteMessage> toAirbyteMessage(final JsonNode json) {
-    final Optional<AirbyteMessage> m = Jsons.tryObject(json, AirbyteMessage.class);
-    if (m.isEmpty()) {
-      logger.error("Deserialization failed: {}", Jsons.serialize(json));
+  private boolean isValidEnvelope(final AirbyteMessage message) {
+    if (message.getType() == null) {
+      return false;
+    }
+    if (message.getType() == AirbyteMessage.Type.RECORD) {
+      final AirbyteRecordMessage record = message.getRecord();
+      return record != null
+          && record.getStream() != null
+          && record.getEmittedAt() != null
+          && record.getData() != null
+          && record.getData().isObject();
     }
-    return m.stream();
+    return protocolValidator.test(Jsons.jsonNode(message));
   }
 
   protected boolean filterLog(final AirbyteMessage message) {
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -107,6 +108,51 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  void testRecordDataIsNotValidatedAgainstProtocol() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream(Jsons.serialize(record1));
+
+    assertEquals(List.of(record1), messageStream.collect(Collectors.toList()));
+    verifyNoInteractions(protocolPredicate);
+  }
+
+  @Test
+  void testFailRecordValidation() {
+    final String invalidRecord = "{ \"type\": \"RECORD\", \"record\": { \"stream\": \"user_preferences\", \"data\": \"green\" } }";
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream(invalidRecord);
+
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    verify(logger).error(anyString(), anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testFailRecordWithCoercedScalars() {
+    final String invalidRecord = "{ \"type\": \"RECORD\", \"record\": { \"stream\": 42, \"emitted_at\": 1, \"data\": {} } }";
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream(invalidRecord);
+
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    verify(logger).error(anyString(), anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testFailNonRecordValidation() {
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+
+    when(protocolPredicate.test(Jsons.jsonNode(logMessage))).thenReturn(false);
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStream(Jsons.serialize(logMessage));
+
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    verify(logger).error(anyString(), anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
   @Test
   void testFailsSize() {
     final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
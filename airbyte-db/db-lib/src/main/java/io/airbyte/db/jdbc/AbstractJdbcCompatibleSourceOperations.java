@@ -8,16 +8,17 @@ import static io.airbyte.db.DataTypeUtils.TIMESTAMPTZ_FORMATTER;
 import static io.airbyte.db.DataTypeUtils.TIMETZ_FORMATTER;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.JdbcCompatibleSourceOperations;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -28,7 +29,6 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.chrono.IsoEra;
 import java.time.format.DateTimeParseException;
-import java.util.Collections;
 import javax.xml.bind.DatatypeConverter;
 
 /**
@@ -41,30 +41,146 @@ public abstract class AbstractJdbcCompatibleSourceOperations<Datatype> implement
    */
   private static final Date ONE_CE = Date.valueOf("0001-01-01");
 
+  // row mapper of the result set last read by each thread, see #rowToJson(ResultSet)
+  private final ThreadLocal<RowMapper> rowMappers = new ThreadLocal<>();
+
+  /**
+   * Puts the value of a column of the current row of a result set into a JSON object, like the put*
+   * methods of this class.
+   */
+  @FunctionalInterface
+  protected interface ColumnPutter {
+
+    void put(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException;
+
+  }
+
+  /**
+   * Copies a column of the current row of a result set into a JSON object, null values included. The
+   * column name, index and type are resolved once per result set by
+   * {@link #getColumnCopier(ResultSetMetaData, int)}.
+   */
+  @FunctionalInterface
+  protected interface ColumnCopier {
+
+    void copy(ResultSet resultSet, ObjectNode node) throws SQLException;
+
+  }
+
+  /**
+   * Converts the current row of the result set to JSON. On the first row of a result set, each column
+   * is resolved from the metadata into a {@link ColumnCopier}, which is then reused for every row of
+   * that result set, so that the column count, names and types are not looked up for each row.
+   */
   @Override
   public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
+    RowMapper rowMapper = rowMappers.get();
+    if (rowMapper == null || !rowMapper.isMapperOf(queryContext)) {
+      rowMapper = compileRowMapper(queryContext);
+      rowMappers.set(rowMapper);
+    }
+    return rowMapper.map(queryContext);
+  }
+
+  private RowMapper compileRowMapper(final ResultSet resultSet) throws SQLException {
     // the first call communicates with the database. after that the result is cached.
-    final int columnCount = queryContext.getMetaData().getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+    final ResultSetMetaData metadata = resultSet.getMetaData();
+    final ColumnCopier[] columnCopiers = new ColumnCopier[metadata.getColumnCount()];
+    for (int i = 1; i <= columnCopiers.length; i++) {
+      columnCopiers[i - 1] = getColumnCopier(metadata, i);
+    }
+    return new RowMapper(resultSet, columnCopiers);
+  }
 
-    for (int i = 1; i <= columnCount; i++) {
+  /**
+   * Resolves how to copy a column into JSON. By default, null values are skipped and the others are
+   * copied with {@link #copyToJsonField(ResultSet, int, ObjectNode)}, which resolves the type of the
+   * column for each value. Subclasses should override it to resolve the type once, with
+   * {@link #skipNulls(ColumnPutter, String, int)} or
+   * {@link #skipNullsAfterRead(ColumnPutter, String, int)}.
+   *
+   * @param colIndex 1-based column index.
+   */
+  protected ColumnCopier getColumnCopier(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    return (resultSet, node) -> {
       // attempt to access the column. this allows us to know if it is null before we do type-specific
       // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
       // checking for null values with jdbc.
-      queryContext.getObject(i);
-      if (queryContext.wasNull()) {
-        continue;
+      resultSet.getObject(colIndex);
+      if (!resultSet.wasNull()) {
+        // convert to java types that will convert into reasonable json.
+        copyToJsonField(resultSet, colIndex, node);
       }
+    };
+  }
 
-      // convert to java types that will convert into reasonable json.
-      copyToJsonField(queryContext, i, jsonNode);
+  /**
+   * Copies a single column with the copier resolved by
+   * {@link #getColumnCopier(ResultSetMetaData, int)}, for subclasses implementing
+   * {@link #copyToJsonField(ResultSet, int, ObjectNode)} with it. Such subclasses must override
+   * {@link #getColumnCopier(ResultSetMetaData, int)}.
+   */
+  protected void copyColumnToJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
+    getColumnCopier(resultSet.getMetaData(), colIndex).copy(resultSet, json);
+  }
+
+  /**
+   * @return a copier which checks whether the value is null with getObject() before putting it, so
+   *         that the putter never sees null values
+   */
+  protected static ColumnCopier skipNulls(final ColumnPutter putter, final String columnName, final int index) {
+    return (resultSet, node) -> {
+      resultSet.getObject(index);
+      if (!resultSet.wasNull()) {
+        putter.put(node, columnName, resultSet, index);
+      }
+    };
+  }
+
+  /**
+   * @return a copier which reads the column only once: the value is put, then removed if wasNull().
+   *         Only for putters reading the column with a getter which returns null, 0 or false for SQL
+   *         NULL, e.g. getInt() or getString(), rather than failing.
+   */
+  protected static ColumnCopier skipNullsAfterRead(final ColumnPutter putter, final String columnName, final int index) {
+    return (resultSet, node) -> {
+      putter.put(node, columnName, resultSet, index);
+      if (resultSet.wasNull()) {
+        node.remove(columnName);
+      }
+    };
+  }
+
+  /**
+   * Copiers of the columns of a result set.
+   */
+  private static final class RowMapper {
+
+    // weak, so that the last result set read by a thread is not kept alive by this mapper
+    private final WeakReference<ResultSet> resultSet;
+    private final ColumnCopier[] columnCopiers;
+
+    private RowMapper(final ResultSet resultSet, final ColumnCopier[] columnCopiers) {
+      this.resultSet = new WeakReference<>(resultSet);
+      this.columnCopiers = columnCopiers;
+    }
+
+    private boolean isMapperOf(final ResultSet resultSet) {
+      return this.resultSet.get() == resultSet;
+    }
+
+    private JsonNode map(final ResultSet resultSet) throws SQLException {
+      final ObjectNode node = Jsons.objectNode();
+      for (final ColumnCopier columnCopier : columnCopiers) {
+        columnCopier.copy(resultSet, node);
+      }
+      return node;
     }
 
-    return jsonNode;
   }
 
   protected void putArray(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
-    final ArrayNode arrayNode = new ObjectMapper().createArrayNode();
+    final ArrayNode arrayNode = Jsons.arrayNode();
     final ResultSet arrayResultSet = resultSet.getArray(index).getResultSet();
     while (arrayResultSet.next()) {
       arrayNode.add(arrayResultSet.getString(2));
@@ -17,6 +17,7 @@ import io.airbyte.protocol.models.JsonSchemaType;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,28 +39,32 @@ public class JdbcSourceOperations extends AbstractJdbcCompatibleSourceOperations
 
   @Override
   public void copyToJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final int columnTypeInt = resultSet.getMetaData().getColumnType(colIndex);
-    final String columnName = resultSet.getMetaData().getColumnName(colIndex);
-    final JDBCType columnType = safeGetJdbcType(columnTypeInt);
+    copyColumnToJsonField(resultSet, colIndex, json);
+  }
+
+  @Override
+  protected ColumnCopier getColumnCopier(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    final String columnName = metadata.getColumnName(colIndex);
+    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
 
     // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case TIMESTAMP_WITH_TIMEZONE -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+    return switch (columnType) {
+      case BIT, BOOLEAN -> skipNullsAfterRead(this::putBoolean, columnName, colIndex);
+      case TINYINT, SMALLINT -> skipNullsAfterRead(this::putShortInt, columnName, colIndex);
+      case INTEGER -> skipNullsAfterRead(this::putInteger, columnName, colIndex);
+      case BIGINT -> skipNullsAfterRead(this::putBigInt, columnName, colIndex);
+      case FLOAT, DOUBLE -> skipNullsAfterRead(this::putDouble, columnName, colIndex);
+      case REAL -> skipNullsAfterRead(this::putFloat, columnName, colIndex);
+      case NUMERIC, DECIMAL -> skipNullsAfterRead(this::putBigDecimal, columnName, colIndex);
+      case CHAR, VARCHAR, LONGVARCHAR -> skipNullsAfterRead(this::putString, columnName, colIndex);
+      case DATE -> skipNulls(this::putDate, columnName, colIndex);
+      case TIME -> skipNulls(this::putTime, columnName, colIndex);
+      case TIMESTAMP -> skipNulls(this::putTimestamp, columnName, colIndex);
+      case TIMESTAMP_WITH_TIMEZONE -> skipNulls(this::putTimestampWithTimezone, columnName, colIndex);
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> skipNulls(this::putBinary, columnName, colIndex);
+      case ARRAY -> skipNulls(this::putArray, columnName, colIndex);
+      default -> skipNullsAfterRead(this::putDefault, columnName, colIndex);
+    };
   }
 
   @Override
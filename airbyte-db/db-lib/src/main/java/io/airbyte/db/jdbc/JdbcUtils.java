@@ -35,10 +35,12 @@ public class JdbcUtils {
   public static final String CONNECTION_PROPERTIES_KEY = "connection_properties";
   public static final String DATABASE_KEY = "database";
   public static final String ENCRYPTION_KEY = "encryption";
+  public static final String FULL_REFRESH_CHUNK_SIZE_KEY = "full_refresh_chunk_size";
   public static final String HOST_KEY = "host";
   public static final List<String> HOST_LIST_KEY = List.of("host");
   public static final String JDBC_URL_KEY = "jdbc_url";
   public static final String JDBC_URL_PARAMS_KEY = "jdbc_url_params";
+  public static final String MAX_CONCURRENT_STREAM_READS_KEY = "max_concurrent_stream_reads";
   public static final String PASSWORD_KEY = "password";
   public static final String PORT_KEY = "port";
 
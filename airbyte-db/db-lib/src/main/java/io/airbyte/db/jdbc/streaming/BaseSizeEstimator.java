@@ -5,7 +5,7 @@
 package io.airbyte.db.jdbc.streaming;
 
 import com.google.common.annotations.VisibleForTesting;
-import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.JsonSizeEstimator;
 
 /**
  * Fetch size (number of rows) = target buffer byte size / max row byte size
@@ -32,24 +32,17 @@ public abstract class BaseSizeEstimator implements FetchSizeEstimator {
 
   /**
    * What we really want is to know how much memory each {@code rowData} takes. However, there is no
-   * easy way to measure that. So we use the byte size of the serialized row to approximate that.
+   * easy way to measure that. So we use the byte size of the serialized row to approximate that,
+   * which {@link JsonSizeEstimator} computes without serializing the row.
    */
   @VisibleForTesting
   public static long getEstimatedByteSize(final Object rowData) {
     if (rowData == null) {
       return 0L;
     }
-    // The string length is multiplied by 4 assuming each character is a
-    // full UTF-8 character. In reality, a UTF-8 character is encoded as
-    // 1 to 4 bytes. So this is an overestimation. This is alright, because
-    // the whole method only provides an estimation. Please never convert
-    // the string to byte[] to get the exact length. That conversion is known
-    // to introduce a lot of memory overhead.
-    //
-    // We are using 3L as the median byte-size of a serialized char here assuming that most chars fit
-    // into the ASCII space (fewer bytes)
-
-    return Jsons.serialize(rowData).length() * 3L;
+    // The serialized byte size is multiplied by 3 to account for the overhead of the row in memory
+    // over its serialized form, e.g. object headers, references and strings stored as UTF-16.
+    return JsonSizeEstimator.estimateByteSize(rowData) * 3L;
   }
 
   /**
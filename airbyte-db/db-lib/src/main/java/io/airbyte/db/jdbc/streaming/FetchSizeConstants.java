@@ -14,8 +14,8 @@ public final class FetchSizeConstants {
   public static final long MIN_BUFFER_BYTE_SIZE = 250L * 1024L * 1024L; // 250 MB
   // sample size for making the first estimation of the row size
   public static final int INITIAL_SAMPLE_SIZE = 10;
-  // sample every N rows during the post-initial stage
-  public static final int SAMPLE_FREQUENCY = 100;
+  // sample every N rows during the post-initial stage, measuring a row does not serialize it
+  public static final int SAMPLE_FREQUENCY = 1;
 
   public static final int MIN_FETCH_SIZE = 1;
   public static final int DEFAULT_FETCH_SIZE = 1000;
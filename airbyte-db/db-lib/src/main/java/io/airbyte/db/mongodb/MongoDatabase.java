@@ -19,6 +19,7 @@ import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.AbstractDatabase;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -30,6 +31,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,15 +106,21 @@ public class MongoDatabase extends AbstractDatabase implements AutoCloseable {
     return database.getName();
   }
 
+  /**
+   * Reads the documents of a collection as raw BSON, each document being converted to json straight
+   * from the bytes returned by the server.
+   */
   public Stream<JsonNode> read(final String collectionName, final List<String> columnNames, final Optional<Bson> filter) {
     try {
-      final MongoCollection<Document> collection = database.getCollection(collectionName);
-      final MongoCursor<Document> cursor = collection
+      final MongoCollection<RawBsonDocument> collection = database.getCollection(collectionName, RawBsonDocument.class);
+      final MongoCursor<RawBsonDocument> cursor = collection
           .find(filter.orElse(new BsonDocument()))
           .batchSize(BATCH_SIZE)
           .cursor();
+      // looked up for each field of each document
+      final Set<String> columns = new HashSet<>(columnNames);
 
-      return getStream(cursor, (document) -> MongoUtils.toJsonNode(document, columnNames))
+      return getStream(cursor, (document) -> MongoUtils.toJsonNode(document, columns))
           .onClose(() -> {
             try {
               cursor.close();
@@ -127,13 +135,13 @@ public class MongoDatabase extends AbstractDatabase implements AutoCloseable {
     }
   }
 
-  private Stream<JsonNode> getStream(final MongoCursor<Document> cursor, final CheckedFunction<Document, JsonNode, Exception> mapper) {
+  private <T> Stream<JsonNode> getStream(final MongoCursor<T> cursor, final CheckedFunction<T, JsonNode, Exception> mapper) {
     return StreamSupport.stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
 
       @Override
       public boolean tryAdvance(final Consumer<? super JsonNode> action) {
         try {
-          final Document document = cursor.tryNext();
+          final T document = cursor.tryNext();
           if (document == null) {
             return false;
           }
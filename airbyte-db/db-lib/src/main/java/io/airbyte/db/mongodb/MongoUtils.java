@@ -5,7 +5,6 @@
 package io.airbyte.db.mongodb;
 
 import static java.util.Arrays.asList;
-import static org.bson.BsonType.ARRAY;
 import static org.bson.BsonType.DATE_TIME;
 import static org.bson.BsonType.DECIMAL128;
 import static org.bson.BsonType.DOCUMENT;
@@ -18,26 +17,33 @@ import static org.bson.BsonType.TIMESTAMP;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.api.client.util.DateTime;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
+import com.google.common.annotations.VisibleForTesting;
 import com.mongodb.DBRefCodecProvider;
-import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import io.airbyte.commons.json.Jsons;
-import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.JsonSchemaType;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentReader;
@@ -49,6 +55,7 @@ import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonCodecProvider;
 import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.DocumentCodecProvider;
@@ -91,11 +98,21 @@ public class MongoUtils {
   public static final Set<BsonType> ALLOWED_CURSOR_TYPES = Set.of(DOUBLE, STRING, DOCUMENT, OBJECT_ID, DATE_TIME,
       INT32, TIMESTAMP, INT64, DECIMAL128);
 
-  private static final String MISSING_TYPE = "missing";
-  private static final String NULL_TYPE = "null";
   public static final String AIRBYTE_SUFFIX = "_aibyte_transform";
   private static final int DISCOVER_LIMIT = 10000;
-  private static final String ID = "_id";
+  private static final int DISCOVER_BATCH_SIZE = 1000;
+
+  // building a registry looks up the codecs of each provider, it is shared by all documents
+  private static final CodecRegistry CODEC_REGISTRY = fromProviders(asList(
+      new ValueCodecProvider(),
+      new BsonValueCodecProvider(),
+      new DocumentCodecProvider(),
+      new IterableCodecProvider(),
+      new MapCodecProvider(),
+      new Jsr310CodecProvider(),
+      new JsonObjectCodecProvider(),
+      new BsonCodecProvider(),
+      new DBRefCodecProvider()));
 
   public static JsonSchemaType getType(final BsonType dataType) {
     return switch (dataType) {
@@ -108,12 +125,29 @@ public class MongoUtils {
     };
   }
 
-  public static JsonNode toJsonNode(final Document document, final List<String> columnNames) {
-    final ObjectNode objectNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+  public static JsonNode toJsonNode(final Document document, final Collection<String> columnNames) {
+    final ObjectNode objectNode = Jsons.objectNode();
     formatDocument(document, objectNode, columnNames);
     return objectNode;
   }
 
+  /**
+   * Reads the fields of a document straight from its BSON bytes, as returned by the server, without
+   * decoding it into a {@link Document} first.
+   *
+   * @param rawDocument document read from a collection of {@link RawBsonDocument}
+   * @param columnNames names of the fields of the stream, used to find the fields to transform to
+   *        string
+   */
+  public static JsonNode toJsonNode(final RawBsonDocument rawDocument, final Collection<String> columnNames) {
+    try (final BsonReader reader = new BsonBinaryReader(rawDocument.getByteBuffer().asNIO())) {
+      return readDocument(reader, Jsons.objectNode(), columnNames);
+    } catch (final Exception e) {
+      LOGGER.error("Exception while parsing RawBsonDocument: {}", e.getMessage());
+      throw new RuntimeException(e);
+    }
+  }
+
   public static Object getBsonValue(final BsonType type, final String value) {
     try {
       return switch (type) {
@@ -144,7 +178,7 @@ public class MongoUtils {
     }
   }
 
-  private static void formatDocument(final Document document, final ObjectNode objectNode, final List<String> columnNames) {
+  private static void formatDocument(final Document document, final ObjectNode objectNode, final Collection<String> columnNames) {
     final BsonDocument bsonDocument = toBsonDocument(document);
     try (final BsonReader reader = new BsonDocumentReader(bsonDocument)) {
       readDocument(reader, objectNode, columnNames);
@@ -154,18 +188,14 @@ public class MongoUtils {
     }
   }
 
-  private static ObjectNode readDocument(final BsonReader reader, final ObjectNode jsonNodes, final List<String> columnNames) {
+  private static ObjectNode readDocument(final BsonReader reader, final ObjectNode jsonNodes, final Collection<String> columnNames) {
     reader.readStartDocument();
     while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
       final var fieldName = reader.readName();
-      final var fieldType = reader.getCurrentBsonType();
-      if (DOCUMENT.equals(fieldType)) {
-        // recursion in used to parse inner documents
-        jsonNodes.set(fieldName, readDocument(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames));
-      } else if (ARRAY.equals(fieldType)) {
-        jsonNodes.set(fieldName, readArray(reader, columnNames, fieldName));
-      } else {
-        readField(reader, jsonNodes, columnNames, fieldName, fieldType);
+      final var value = readValue(reader, reader.getCurrentBsonType(), columnNames);
+      // fields of unsupported types are left out
+      if (value != null) {
+        jsonNodes.set(fieldName, value);
       }
       transformToStringIfMarked(jsonNodes, columnNames, fieldName);
     }
@@ -182,7 +212,7 @@ public class MongoUtils {
         : (instanceConfig.has(JdbcUtils.TLS_KEY) ? instanceConfig.get(JdbcUtils.TLS_KEY).asBoolean() : true);
   }
 
-  public static void transformToStringIfMarked(final ObjectNode jsonNodes, final List<String> columnNames, final String fieldName) {
+  public static void transformToStringIfMarked(final ObjectNode jsonNodes, final Collection<String> columnNames, final String fieldName) {
     if (columnNames.contains(fieldName + AIRBYTE_SUFFIX)) {
       final JsonNode data = jsonNodes.get(fieldName);
       if (data != null) {
@@ -194,209 +224,171 @@ public class MongoUtils {
     }
   }
 
-  private static JsonNode readArray(final BsonReader reader, final List<String> columnNames, final String fieldName) {
+  private static ArrayNode readArray(final BsonReader reader, final Collection<String> columnNames) {
     reader.readStartArray();
-    final var elements = Lists.newArrayList();
+    final ArrayNode elements = Jsons.arrayNode();
 
     while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-      final var arrayFieldType = reader.getCurrentBsonType();
-      if (DOCUMENT.equals(arrayFieldType)) {
-        // recursion is used to read inner doc
-        elements.add(readDocument(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames));
-      } else if (ARRAY.equals(arrayFieldType)) {
-        // recursion is used to read inner array
-        elements.add(readArray(reader, columnNames, fieldName));
-      } else {
-        final var element = readField(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames, fieldName, arrayFieldType);
-        elements.add(element.get(fieldName));
-      }
+      final var element = readValue(reader, reader.getCurrentBsonType(), columnNames);
+      // elements of unsupported types are kept as null, so that the positions of the others are kept
+      elements.add(element == null ? NullNode.getInstance() : element);
     }
     reader.readEndArray();
-    return Jsons.jsonNode(MoreIterators.toList(elements.iterator()));
+    return elements;
   }
 
-  private static ObjectNode readField(final BsonReader reader,
-                                      final ObjectNode o,
-                                      final List<String> columnNames,
-                                      final String fieldName,
-                                      final BsonType fieldType) {
-    switch (fieldType) {
-      case BOOLEAN -> o.put(fieldName, reader.readBoolean());
-      case INT32 -> o.put(fieldName, reader.readInt32());
-      case INT64 -> o.put(fieldName, reader.readInt64());
-      case DOUBLE -> o.put(fieldName, reader.readDouble());
-      case DECIMAL128 -> o.put(fieldName, toDouble(reader.readDecimal128()));
-      case TIMESTAMP -> o.put(fieldName, DataTypeUtils.toISO8601StringWithMilliseconds(reader.readTimestamp().getValue()));
-      case DATE_TIME -> o.put(fieldName, DataTypeUtils.toISO8601StringWithMilliseconds(reader.readDateTime()));
-      case BINARY -> o.put(fieldName, toByteArray(reader.readBinaryData()));
-      case SYMBOL -> o.put(fieldName, reader.readSymbol());
-      case STRING -> o.put(fieldName, reader.readString());
-      case OBJECT_ID -> o.put(fieldName, toString(reader.readObjectId()));
-      case JAVASCRIPT -> o.put(fieldName, reader.readJavaScript());
-      case JAVASCRIPT_WITH_SCOPE -> readJavaScriptWithScope(o, reader, fieldName, columnNames);
-      case REGULAR_EXPRESSION -> toString(reader.readRegularExpression());
-      default -> reader.skipValue();
-    }
-    return o;
+  /**
+   * @return the json value of the current field of the reader, or null if its type is not supported
+   */
+  private static JsonNode readValue(final BsonReader reader, final BsonType fieldType, final Collection<String> columnNames) {
+    return switch (fieldType) {
+      // recursion is used to read inner documents and arrays
+      case DOCUMENT -> readDocument(reader, Jsons.objectNode(), columnNames);
+      case ARRAY -> readArray(reader, columnNames);
+      case BOOLEAN -> BooleanNode.valueOf(reader.readBoolean());
+      case INT32 -> IntNode.valueOf(reader.readInt32());
+      case INT64 -> LongNode.valueOf(reader.readInt64());
+      case DOUBLE -> DoubleNode.valueOf(reader.readDouble());
+      case DECIMAL128 -> DoubleNode.valueOf(reader.readDecimal128().doubleValue());
+      case TIMESTAMP -> TextNode.valueOf(DataTypeUtils.toISO8601StringWithMilliseconds(reader.readTimestamp().getValue()));
+      case DATE_TIME -> TextNode.valueOf(DataTypeUtils.toISO8601StringWithMilliseconds(reader.readDateTime()));
+      case BINARY -> BinaryNode.valueOf(reader.readBinaryData().getData());
+      case SYMBOL -> TextNode.valueOf(reader.readSymbol());
+      case STRING -> TextNode.valueOf(reader.readString());
+      case OBJECT_ID -> TextNode.valueOf(reader.readObjectId().toString());
+      case JAVASCRIPT -> TextNode.valueOf(reader.readJavaScript());
+      case JAVASCRIPT_WITH_SCOPE -> readJavaScriptWithScope(reader, columnNames);
+      default -> {
+        // regular expressions are read but not emitted
+        reader.skipValue();
+        yield null;
+      }
+    };
   }
 
   /**
-   * Gets 10.000 documents from collection, gathers all unique fields and its type. In case when one
-   * field has different types in 2 and more documents, the type is set to String.
+   * Samples the first 10.000 documents of a collection, gathers all unique fields and their type. In
+   * case when one field has different types in 2 and more documents, the type is set to String. The
+   * documents are read once, as raw BSON, and the fields of nested documents are gathered while
+   * reading them.
    *
    * @param collection mongo collection
-   * @return map of unique fields and its type
+   * @return tree of unique fields and their type
    */
   public static List<TreeNode<CommonField<BsonType>>> getUniqueFields(final MongoCollection<Document> collection) {
-    final var allkeys = new HashSet<>(getFieldsName(collection));
-
-    return allkeys.stream().map(key -> {
-      final var types = getTypes(collection, key);
-      final var type = getUniqueType(types);
-      final var fieldNode = new TreeNode<>(new CommonField<>(transformName(types, key), type));
-      if (type.equals(DOCUMENT)) {
-        setSubFields(collection, fieldNode, key);
-      }
-      return fieldNode;
-    }).toList();
+    try (final MongoCursor<RawBsonDocument> cursor = collection.withDocumentClass(RawBsonDocument.class)
+        .find()
+        .limit(DISCOVER_LIMIT)
+        .batchSize(DISCOVER_BATCH_SIZE)
+        .cursor()) {
+      return getUniqueFields(cursor);
+    }
   }
 
   /**
-   * If one field has different types in 2 and more documents, the name is transformed to
-   * 'name_aibyte_transform'.
-   *
-   * @param types list with field types
-   * @param name field name
-   * @return name
+   * Gathers the unique fields and their type from the given documents.
    */
-  private static String transformName(final List<String> types, final String name) {
-    return types.size() != 1 ? name + AIRBYTE_SUFFIX : name;
-  }
-
-  private static void setSubFields(final MongoCollection<Document> collection,
-                                   final TreeNode<CommonField<BsonType>> parentNode,
-                                   final String pathToField) {
-    final var nestedKeys = getFieldsName(collection, pathToField);
-    nestedKeys.forEach(key -> {
-      final var types = getTypes(collection, pathToField + "." + key);
-      final var nestedType = getUniqueType(types);
-      final var childNode = parentNode.addChild(new CommonField<>(transformName(types, key), nestedType));
-      if (nestedType.equals(DOCUMENT)) {
-        setSubFields(collection, childNode, pathToField + "." + key);
+  @VisibleForTesting
+  public static List<TreeNode<CommonField<BsonType>>> getUniqueFields(final Iterator<RawBsonDocument> documents) {
+    final Map<String, SampledField> fields = new LinkedHashMap<>();
+    while (documents.hasNext()) {
+      try (final BsonReader reader = new BsonBinaryReader(documents.next().getByteBuffer().asNIO())) {
+        sampleDocument(reader, fields);
       }
-    });
+    }
+    return fields.entrySet().stream().map(field -> toFieldNode(field.getKey(), field.getValue())).toList();
   }
 
-  private static List<String> getFieldsName(final MongoCollection<Document> collection) {
-    return getFieldsName(collection, "$ROOT");
+  private static void sampleDocument(final BsonReader reader, final Map<String, SampledField> fields) {
+    reader.readStartDocument();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      final var field = fields.computeIfAbsent(reader.readName(), name -> new SampledField());
+      final var fieldType = reader.getCurrentBsonType();
+      // null values make a field known, without giving it a type
+      if (fieldType != BsonType.NULL) {
+        field.types.add(fieldType);
+      }
+      if (fieldType == DOCUMENT) {
+        sampleDocument(reader, field.subFields);
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.readEndDocument();
   }
 
-  private static List<String> getFieldsName(final MongoCollection<Document> collection, final String fieldName) {
-    final AggregateIterable<Document> output = collection.aggregate(Arrays.asList(
-        new Document("$limit", DISCOVER_LIMIT),
-        new Document("$project", new Document("arrayofkeyvalue", new Document("$objectToArray", "$" + fieldName))),
-        new Document("$unwind", "$arrayofkeyvalue"),
-        new Document("$group", new Document(ID, null).append("allkeys", new Document("$addToSet", "$arrayofkeyvalue.k")))));
-    if (output.cursor().hasNext()) {
-      return (List) output.cursor().next().get("allkeys");
-    } else {
-      return Collections.emptyList();
+  private static TreeNode<CommonField<BsonType>> toFieldNode(final String name, final SampledField field) {
+    final var type = getUniqueType(field.types);
+    final var fieldNode = new TreeNode<>(new CommonField<>(transformName(field.types, name), type));
+    if (type.equals(DOCUMENT)) {
+      addSubFields(fieldNode, field.subFields);
     }
+    return fieldNode;
   }
 
-  private static List<String> getTypes(final MongoCollection<Document> collection, final String name) {
-    final var fieldName = "$" + name;
-    final AggregateIterable<Document> output = collection.aggregate(Arrays.asList(
-        new Document("$limit", DISCOVER_LIMIT),
-        new Document("$project", new Document(ID, 0).append("fieldType", new Document("$type", fieldName))),
-        new Document("$group", new Document(ID, new Document("fieldType", "$fieldType"))
-            .append("count", new Document("$sum", 1)))));
-    final var listOfTypes = new ArrayList<String>();
-    final var cursor = output.cursor();
-    while (cursor.hasNext()) {
-      final var type = ((Document) cursor.next().get(ID)).get("fieldType").toString();
-      if (!MISSING_TYPE.equals(type) && !NULL_TYPE.equals(type)) {
-        listOfTypes.add(type);
+  private static void addSubFields(final TreeNode<CommonField<BsonType>> parentNode, final Map<String, SampledField> subFields) {
+    subFields.forEach((name, subField) -> {
+      final var nestedType = getUniqueType(subField.types);
+      final var childNode = parentNode.addChild(new CommonField<>(transformName(subField.types, name), nestedType));
+      if (nestedType.equals(DOCUMENT)) {
+        addSubFields(childNode, subField.subFields);
       }
-    }
-    if (listOfTypes.isEmpty()) {
-      listOfTypes.add(NULL_TYPE);
-    }
-    return listOfTypes;
+    });
   }
 
-  @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
-  private static BsonType getUniqueType(final List<String> types) {
-    if (types.size() != 1) {
+  /**
+   * If one field has different types in 2 and more documents, the name is transformed to
+   * 'name_aibyte_transform'.
+   *
+   * @param types field types
+   * @param name field name
+   * @return name
+   */
+  private static String transformName(final Set<BsonType> types, final String name) {
+    return types.size() > 1 ? name + AIRBYTE_SUFFIX : name;
+  }
+
+  private static BsonType getUniqueType(final Set<BsonType> types) {
+    if (types.isEmpty()) {
+      return BsonType.NULL;
+    } else if (types.size() > 1) {
       return BsonType.STRING;
     } else {
-      final var type = types.get(0);
-      return getBsonTypeByTypeAlias(type);
+      return switch (types.iterator().next()) {
+        // types which cannot be mapped are read as strings
+        case MIN_KEY, MAX_KEY, UNDEFINED -> BsonType.STRING;
+        default -> types.iterator().next();
+      };
     }
   }
 
-  private static BsonType getBsonTypeByTypeAlias(final String typeAlias) {
-    return switch (typeAlias) {
-      case "object" -> BsonType.DOCUMENT;
-      case "double" -> BsonType.DOUBLE;
-      case "string" -> BsonType.STRING;
-      case "objectId" -> BsonType.OBJECT_ID;
-      case "array" -> BsonType.ARRAY;
-      case "binData" -> BsonType.BINARY;
-      case "bool" -> BsonType.BOOLEAN;
-      case "date" -> BsonType.DATE_TIME;
-      case "null" -> BsonType.NULL;
-      case "regex" -> BsonType.REGULAR_EXPRESSION;
-      case "dbPointer" -> BsonType.DB_POINTER;
-      case "javascript" -> BsonType.JAVASCRIPT;
-      case "symbol" -> BsonType.SYMBOL;
-      case "javascriptWithScope" -> BsonType.JAVASCRIPT_WITH_SCOPE;
-      case "int" -> BsonType.INT32;
-      case "timestamp" -> BsonType.TIMESTAMP;
-      case "long" -> BsonType.INT64;
-      case "decimal" -> BsonType.DECIMAL128;
-      default -> BsonType.STRING;
-    };
-  }
-
   private static BsonDocument toBsonDocument(final Document document) {
     try {
-      final CodecRegistry customCodecRegistry =
-          fromProviders(asList(
-              new ValueCodecProvider(),
-              new BsonValueCodecProvider(),
-              new DocumentCodecProvider(),
-              new IterableCodecProvider(),
-              new MapCodecProvider(),
-              new Jsr310CodecProvider(),
-              new JsonObjectCodecProvider(),
-              new BsonCodecProvider(),
-              new DBRefCodecProvider()));
-
       // Override the default codec registry
-      return document.toBsonDocument(BsonDocument.class, customCodecRegistry);
+      return document.toBsonDocument(BsonDocument.class, CODEC_REGISTRY);
     } catch (final Exception e) {
       LOGGER.error("Exception while converting Document to BsonDocument: {}", e.getMessage());
       throw new RuntimeException(e);
     }
   }
 
-  private static String toString(final Object value) {
-    return value == null ? null : value.toString();
+  private static ObjectNode readJavaScriptWithScope(final BsonReader reader, final Collection<String> columnNames) {
+    final var code = reader.readJavaScriptWithScope();
+    final var scope = readDocument(reader, Jsons.objectNode(), columnNames);
+    final ObjectNode javaScript = Jsons.objectNode();
+    javaScript.put("code", code);
+    javaScript.set("scope", scope);
+    return javaScript;
   }
 
-  private static Double toDouble(final Decimal128 value) {
-    return value == null ? null : value.doubleValue();
-  }
+  /**
+   * Types and nested fields of a field, as found in the sampled documents.
+   */
+  private static class SampledField {
 
-  private static byte[] toByteArray(final BsonBinary value) {
-    return value == null ? null : value.getData();
-  }
+    private final Set<BsonType> types = EnumSet.noneOf(BsonType.class);
+    private final Map<String, SampledField> subFields = new LinkedHashMap<>();
 
-  private static void readJavaScriptWithScope(final ObjectNode o, final BsonReader reader, final String fieldName, final List<String> columnNames) {
-    final var code = reader.readJavaScriptWithScope();
-    final var scope = readDocument(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames);
-    o.set(fieldName, Jsons.jsonNode(ImmutableMap.of("code", code, "scope", scope)));
   }
 
   public enum MongoInstanceType {
@@ -5,6 +5,7 @@
 package io.airbyte.db;
 
 import static io.airbyte.db.mongodb.MongoUtils.AIRBYTE_SUFFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -13,7 +14,21 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.mongodb.MongoUtils;
+import io.airbyte.db.mongodb.TreeNode;
+import io.airbyte.protocol.models.CommonField;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
 class MongoUtilsTest {
@@ -40,4 +55,52 @@ class MongoUtilsTest {
 
   }
 
+  @Test
+  void testRawDocumentIsReadLikeDecodedDocument() {
+    final Set<String> columnNames = Set.of("_id", "name", "createdAt", "price", "tags", "address_aibyte_transform", "pattern");
+    final Document document = new Document("_id", new ObjectId("5f8f8c44b54764421b7156c1"))
+        .append("name", "airbyte")
+        .append("createdAt", new Date(1_600_000_000_000L))
+        .append("price", Decimal128.parse("12.5"))
+        .append("tags", List.of("a", 1, new Document("nested", List.of(true, 2L)), Pattern.compile("^a")))
+        .append("address", new Document("city", "Paris").append("zip", 75001))
+        .append("pattern", Pattern.compile("^a"));
+    final RawBsonDocument rawDocument = new RawBsonDocument(document, new DocumentCodec());
+
+    final JsonNode json = MongoUtils.toJsonNode(rawDocument, columnNames);
+
+    assertEquals(MongoUtils.toJsonNode(document, columnNames), json);
+    assertEquals("5f8f8c44b54764421b7156c1", json.get("_id").asText());
+    assertEquals(12.5, json.get("price").asDouble());
+    assertEquals(4, json.get("tags").size());
+    assertEquals(2L, json.get("tags").get(2).get("nested").get(1).asLong());
+    // regular expressions are left out of documents and kept as null in arrays
+    assertTrue(json.get("tags").get(3).isNull());
+    assertNull(json.get("pattern"));
+    assertNull(json.get("address"));
+    assertEquals(Jsons.jsonNode(Map.of("city", "Paris", "zip", 75001)), Jsons.deserialize(json.get("address" + AIRBYTE_SUFFIX).asText()));
+  }
+
+  @Test
+  void testGetUniqueFieldsOfSampledDocuments() {
+    final DocumentCodec codec = new DocumentCodec();
+    final List<RawBsonDocument> documents = List.of(
+        new RawBsonDocument(new Document("_id", 1).append("name", "a").append("address", new Document("city", "Paris").append("zip", 75001)),
+            codec),
+        new RawBsonDocument(new Document("_id", 2).append("name", 2).append("address", new Document("zip", "75002")).append("empty", null),
+            codec));
+
+    final Map<String, TreeNode<CommonField<BsonType>>> fields = MongoUtils.getUniqueFields(documents.iterator()).stream()
+        .collect(Collectors.toMap(node -> node.getData().getName(), Function.identity()));
+
+    assertEquals(Set.of("_id", "name" + AIRBYTE_SUFFIX, "address", "empty"), fields.keySet());
+    assertEquals(BsonType.INT32, fields.get("_id").getData().getType());
+    assertEquals(BsonType.STRING, fields.get("name" + AIRBYTE_SUFFIX).getData().getType());
+    assertEquals(BsonType.NULL, fields.get("empty").getData().getType());
+    final TreeNode<CommonField<BsonType>> address = fields.get("address");
+    assertEquals(BsonType.DOCUMENT, address.getData().getType());
+    assertEquals(List.of("city", "zip" + AIRBYTE_SUFFIX), address.getChildren().stream().map(child -> child.getData().getName()).toList());
+    assertEquals(List.of(BsonType.STRING, BsonType.STRING), address.getChildren().stream().map(child -> child.getData().getType()).toList());
+  }
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TestJdbcSourceOperations {
+
+  private JdbcSourceOperations sourceOperations;
+
+  @BeforeEach
+  void setup() {
+    sourceOperations = new JdbcSourceOperations();
+  }
+
+  @Test
+  void testRowToJsonSkipsNullValues() throws SQLException {
+    final ResultSetMetaData metadata = mockMetadata();
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getMetaData()).thenReturn(metadata);
+    when(resultSet.getInt(1)).thenReturn(1, 0);
+    when(resultSet.getString(2)).thenReturn(null, "picard");
+    when(resultSet.wasNull()).thenReturn(false, true, true, false);
+
+    assertEquals(Jsons.deserialize("{\"id\": 1}"), sourceOperations.rowToJson(resultSet));
+    assertEquals(Jsons.deserialize("{\"name\": \"picard\"}"), sourceOperations.rowToJson(resultSet));
+    // the columns are resolved once for the whole result set
+    verify(resultSet, times(1)).getMetaData();
+  }
+
+  @Test
+  void testRowToJsonResolvesColumnsOfEachResultSet() throws SQLException {
+    final ResultSetMetaData metadata = mockMetadata();
+    final ResultSet first = mock(ResultSet.class);
+    when(first.getMetaData()).thenReturn(metadata);
+    when(first.getInt(1)).thenReturn(1);
+    when(first.getString(2)).thenReturn("picard");
+
+    final ResultSetMetaData otherMetadata = mock(ResultSetMetaData.class);
+    when(otherMetadata.getColumnCount()).thenReturn(1);
+    when(otherMetadata.getColumnName(1)).thenReturn("updated");
+    when(otherMetadata.getColumnType(1)).thenReturn(Types.BOOLEAN);
+    final ResultSet second = mock(ResultSet.class);
+    when(second.getMetaData()).thenReturn(otherMetadata);
+    when(second.getBoolean(1)).thenReturn(true);
+
+    assertEquals(Jsons.deserialize("{\"id\": 1, \"name\": \"picard\"}"), sourceOperations.rowToJson(first));
+    assertEquals(Jsons.deserialize("{\"updated\": true}"), sourceOperations.rowToJson(second));
+  }
+
+  private static ResultSetMetaData mockMetadata() throws SQLException {
+    final ResultSetMetaData metadata = mock(ResultSetMetaData.class);
+    when(metadata.getColumnCount()).thenReturn(2);
+    when(metadata.getColumnName(1)).thenReturn("id");
+    when(metadata.getColumnType(1)).thenReturn(Types.INTEGER);
+    when(metadata.getColumnName(2)).thenReturn("name");
+    when(metadata.getColumnType(2)).thenReturn(Types.VARCHAR);
+    return metadata;
+  }
+
+}
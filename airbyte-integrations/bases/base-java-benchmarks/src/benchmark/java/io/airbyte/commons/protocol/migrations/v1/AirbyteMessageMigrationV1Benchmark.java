@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.migrations.v1;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.integrations.benchmarks.SyntheticRecords;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import java.net.URISyntaxException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the migration of record messages between the V0 and V1 protocols. The upgrade converts
+ * numbers to strings, the downgrade applies the
+ * {@link io.airbyte.commons.protocol.migrations.util.RecordMigrationPlan} compiled from the V1 schema
+ * of its stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AirbyteMessageMigrationV1Benchmark {
+
+  @Param({"10", "100"})
+  public int width;
+
+  @Param({"0", "2"})
+  public int depth;
+
+  private AirbyteMessageMigrationV1 migration;
+  private io.airbyte.protocol.models.v0.AirbyteMessage v0Message;
+  private AirbyteMessage v1Message;
+  private ConfiguredAirbyteCatalog v1Catalog;
+
+  @Setup
+  public void setup() throws URISyntaxException {
+    // the V1 schemas reference the well known types, which are resolved relative to this file
+    migration = new AirbyteMessageMigrationV1(
+        new JsonSchemaValidator(MoreResources.readResourceAsFile("WellKnownTypes.json").getAbsoluteFile().toURI()));
+    v0Message = SyntheticRecords.createRecordMessage(width, depth);
+    v1Message = migration.upgrade(v0Message, Optional.empty());
+    v1Catalog = Jsons.object(Jsons.jsonNode(SyntheticRecords.createCatalog(width, depth)), ConfiguredAirbyteCatalog.class);
+    for (final ConfiguredAirbyteStream stream : v1Catalog.getStreams()) {
+      SchemaMigrationV1.upgradeSchema(stream.getStream().getJsonSchema());
+    }
+  }
+
+  @Benchmark
+  public AirbyteMessage upgrade() {
+    return migration.upgrade(v0Message, Optional.empty());
+  }
+
+  @Benchmark
+  public io.airbyte.protocol.models.v0.AirbyteMessage downgrade() {
+    return migration.downgrade(v1Message, Optional.of(v1Catalog));
+  }
+
+}
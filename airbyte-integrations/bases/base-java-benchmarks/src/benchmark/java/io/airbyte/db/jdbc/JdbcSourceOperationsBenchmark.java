@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link JdbcSourceOperations#rowToJson(ResultSet)}, which sources call for each row they
+ * read. Each invocation reads an in-memory result set of width columns, cycling through
+ * varchar, bigint, double, boolean and timestamp columns, one value in ten being null. Rows are
+ * flat, so there is no depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JdbcSourceOperationsBenchmark {
+
+  private static final int ROWS_PER_INVOCATION = 10_000;
+  private static final int[] COLUMN_TYPES = {Types.VARCHAR, Types.BIGINT, Types.DOUBLE, Types.BOOLEAN, Types.TIMESTAMP};
+  private static final Timestamp TIMESTAMP = Timestamp.valueOf("2023-01-01 10:11:12.123");
+
+  @Param({"10", "100"})
+  public int width;
+
+  private JdbcSourceOperations sourceOperations;
+
+  @Setup
+  public void setup() {
+    sourceOperations = new JdbcSourceOperations();
+  }
+
+  @Benchmark
+  public void rowToJson(final Blackhole blackhole) throws SQLException {
+    final ResultSet resultSet = createResultSet(width, ROWS_PER_INVOCATION);
+    while (resultSet.next()) {
+      blackhole.consume(sourceOperations.rowToJson(resultSet));
+    }
+  }
+
+  /**
+   * @return a forward-only result set of rowCount rows, backed by a proxy, so that the benchmark
+   *         measures the conversion rather than a driver
+   */
+  private static ResultSet createResultSet(final int columnCount, final int rowCount) {
+    final ResultSetMetaData metadata = (ResultSetMetaData) Proxy.newProxyInstance(JdbcSourceOperationsBenchmark.class.getClassLoader(),
+        new Class<?>[] {ResultSetMetaData.class}, (proxy, method, args) -> switch (method.getName()) {
+          case "getColumnCount" -> columnCount;
+          case "getColumnName", "getColumnLabel" -> "column_" + args[0];
+          case "getColumnType" -> COLUMN_TYPES[((int) args[0]) % COLUMN_TYPES.length];
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+    final int[] row = {0};
+    final boolean[] wasNull = {false};
+    return (ResultSet) Proxy.newProxyInstance(JdbcSourceOperationsBenchmark.class.getClassLoader(),
+        new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "next" -> {
+              return ++row[0] <= rowCount;
+            }
+            case "getMetaData" -> {
+              return metadata;
+            }
+            case "wasNull" -> {
+              return wasNull[0];
+            }
+            case "hashCode" -> {
+              return System.identityHashCode(proxy);
+            }
+            case "equals" -> {
+              return proxy == args[0];
+            }
+            default -> {
+              final int column = (int) args[0];
+              wasNull[0] = (row[0] + column) % 10 == 0;
+              return switch (method.getName()) {
+                case "getString" -> wasNull[0] ? null : "value of column " + column;
+                case "getLong" -> wasNull[0] ? 0L : row[0] * 1_000L;
+                case "getDouble" -> wasNull[0] ? 0.0 : row[0] + 0.5;
+                case "getBoolean" -> !wasNull[0] && row[0] % 2 == 0;
+                case "getTimestamp" -> wasNull[0] ? null : TIMESTAMP;
+                case "getObject" -> wasNull[0] ? null : Integer.valueOf(row[0]);
+                default -> throw new UnsupportedOperationException(method.getName());
+              };
+            }
+          }
+        });
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.mongodb;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the conversion of the documents returned by the server to json, reading the raw BSON
+ * bytes in a single pass, with the previous conversion decoding them into a {@link Document},
+ * encoding it back to a {@link org.bson.BsonDocument} and reading that one. Each invocation converts
+ * documents nested to the given depth, each level holding scalar fields and an array of
+ * sub-documents. Run with the gc profiler, as {@link #main(String[])} does, to compare the
+ * allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MongoDocumentToJsonBenchmark {
+
+  private static final int DOCUMENTS_PER_INVOCATION = 1_000;
+  private static final Set<String> COLUMN_NAMES = Set.of("_id", "name", "createdAt", "price", "children");
+
+  @Param({"1", "3"})
+  public int depth;
+
+  private final DocumentCodec documentCodec = new DocumentCodec();
+  private List<RawBsonDocument> rawDocuments;
+
+  @Setup
+  public void setup() {
+    rawDocuments = new ArrayList<>(DOCUMENTS_PER_INVOCATION);
+    for (int i = 0; i < DOCUMENTS_PER_INVOCATION; i++) {
+      rawDocuments.add(new RawBsonDocument(createDocument(i, depth), documentCodec));
+    }
+  }
+
+  @Benchmark
+  public void rawBsonDocument(final Blackhole blackhole) {
+    for (final RawBsonDocument rawDocument : rawDocuments) {
+      blackhole.consume(MongoUtils.toJsonNode(rawDocument, COLUMN_NAMES));
+    }
+  }
+
+  @Benchmark
+  public void decodedDocument(final Blackhole blackhole) {
+    for (final RawBsonDocument rawDocument : rawDocuments) {
+      // as the driver decodes the documents of a collection of Document
+      final Document document = rawDocument.decode(documentCodec);
+      blackhole.consume(MongoUtils.toJsonNode(document, COLUMN_NAMES));
+    }
+  }
+
+  private static Document createDocument(final int index, final int depth) {
+    final Document document = new Document("_id", new ObjectId())
+        .append("name", "document_" + index)
+        .append("createdAt", new Date(1_600_000_000_000L + index))
+        .append("price", Decimal128.parse(index + ".25"))
+        .append("count", (long) index)
+        .append("active", index % 2 == 0);
+    if (depth > 0) {
+      final List<Document> children = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        children.add(createDocument(i, depth - 1));
+      }
+      document.append("children", children);
+    }
+    return document;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(MongoDocumentToJsonBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+
+}
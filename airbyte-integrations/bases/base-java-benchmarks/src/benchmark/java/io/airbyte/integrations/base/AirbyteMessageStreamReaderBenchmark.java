@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of the stdin pipeline of {@link IntegrationRunner} for the WRITE command
+ * ({@link AirbyteMessageStreamReader}) with the previous {@link Scanner} based one. Each invocation
+ * reads a batch of serialized records, with a state message every 1000 records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AirbyteMessageStreamReaderBenchmark {
+
+  private static final int RECORDS_PER_INVOCATION = 10_000;
+
+  @Param({"10", "100"})
+  public int columns;
+
+  private byte[] input;
+
+  @Setup
+  public void setup() {
+    final Map<String, Object> data = IntStream.range(0, columns).boxed()
+        .collect(Collectors.toMap(i -> "column_" + i, i -> i % 2 == 0 ? "value_" + i : i));
+    final String record = Jsons.serialize(new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("benchmark")
+            .withData(Jsons.jsonNode(data))
+            .withEmittedAt(1666645627000L)));
+    final String state = Jsons.serialize(new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.deserialize("{ \"checkpoint\": \"1\" }"))));
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 1; i <= RECORDS_PER_INVOCATION; i++) {
+      builder.append(i % 1000 == 0 ? state : record).append('\n');
+    }
+    input = builder.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public void streamReader(final Blackhole blackhole) throws Exception {
+    new AirbyteMessageStreamReader(Channels.newChannel(new ByteArrayInputStream(input))).forEachRemaining(blackhole::consume);
+  }
+
+  @Benchmark
+  public void scanner(final Blackhole blackhole) throws IOException {
+    final Scanner scanner = new Scanner(new ByteArrayInputStream(input), StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    while (scanner.hasNext()) {
+      final Optional<AirbyteMessage> message = Jsons.tryDeserialize(scanner.next(), AirbyteMessage.class);
+      blackhole.consume(message.orElse(null));
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(AirbyteMessageStreamReaderBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
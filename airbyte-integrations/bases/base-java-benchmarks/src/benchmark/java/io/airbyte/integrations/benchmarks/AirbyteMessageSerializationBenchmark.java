@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.benchmarks;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Jsons#serialize(Object)} and {@link Jsons#deserialize(String, Class)} of a record
+ * message, which sources and destinations respectively do for each record they exchange.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AirbyteMessageSerializationBenchmark {
+
+  @Param({"10", "100"})
+  public int width;
+
+  @Param({"0", "2"})
+  public int depth;
+
+  private AirbyteMessage message;
+  private String line;
+
+  @Setup
+  public void setup() {
+    message = SyntheticRecords.createRecordMessage(width, depth);
+    line = Jsons.serialize(message);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return Jsons.serialize(message);
+  }
+
+  @Benchmark
+  public AirbyteMessage deserialize() {
+    return Jsons.deserialize(line, AirbyteMessage.class);
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStream;
+import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.v0.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.v0.DestinationSyncMode;
+import io.airbyte.protocol.models.v0.SyncMode;
+import java.util.List;
+
+/**
+ * Generates the records the benchmarks work on, so that they run offline. A record has width
+ * fields, cycling through string, integer, number and boolean values. When depth is positive, its
+ * last field is a nested record of the same width and a depth of one less.
+ */
+public final class SyntheticRecords {
+
+  public static final String STREAM_NAME = "benchmark";
+  public static final long EMITTED_AT = 1666645627000L;
+
+  private static final String NESTED_FIELD = "nested";
+
+  private SyntheticRecords() {}
+
+  public static ObjectNode createData(final int width, final int depth) {
+    final ObjectNode data = Jsons.objectNode();
+    for (int i = 0; i < width; i++) {
+      if (depth > 0 && i == width - 1) {
+        data.set(NESTED_FIELD, createData(width, depth - 1));
+        continue;
+      }
+      final String field = "field_" + i;
+      switch (i % 4) {
+        case 0 -> data.put(field, "value of field " + i);
+        case 1 -> data.put(field, i * 1_000L);
+        case 2 -> data.put(field, i + 0.5);
+        default -> data.put(field, i % 8 == 3);
+      }
+    }
+    return data;
+  }
+
+  /**
+   * @return the JSON schema of the data created by {@link #createData(int, int)}
+   */
+  public static JsonNode createSchema(final int width, final int depth) {
+    final ObjectNode properties = Jsons.objectNode();
+    for (int i = 0; i < width; i++) {
+      if (depth > 0 && i == width - 1) {
+        properties.set(NESTED_FIELD, createSchema(width, depth - 1));
+        continue;
+      }
+      final String type = switch (i % 4) {
+        case 0 -> "string";
+        case 1 -> "integer";
+        case 2 -> "number";
+        default -> "boolean";
+      };
+      properties.set("field_" + i, Jsons.objectNode().put("type", type));
+    }
+    final ObjectNode schema = Jsons.objectNode().put("type", "object");
+    schema.set("properties", properties);
+    return schema;
+  }
+
+  public static AirbyteMessage createRecordMessage(final int width, final int depth) {
+    return new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(createRecord(width, depth));
+  }
+
+  public static AirbyteRecordMessage createRecord(final int width, final int depth) {
+    return new AirbyteRecordMessage()
+        .withStream(STREAM_NAME)
+        .withEmittedAt(EMITTED_AT)
+        .withData(createData(width, depth));
+  }
+
+  public static ConfiguredAirbyteCatalog createCatalog(final int width, final int depth) {
+    return new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream()
+            .withName(STREAM_NAME)
+            .withJsonSchema(createSchema(width, depth))
+            .withSupportedSyncModes(List.of(SyncMode.FULL_REFRESH)))
+        .withSyncMode(SyncMode.FULL_REFRESH)
+        .withDestinationSyncMode(DestinationSyncMode.APPEND)));
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import io.airbyte.commons.functional.CheckedBiFunction;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.benchmarks.SyntheticRecords;
+import io.airbyte.integrations.destination.record_buffer.InMemoryBuffer;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.integrations.destination.s3.avro.AvroSerializedBuffer;
+import io.airbyte.integrations.destination.s3.avro.S3AvroFormatConfig;
+import io.airbyte.integrations.destination.s3.csv.CsvSerializedBuffer;
+import io.airbyte.integrations.destination.s3.csv.S3CsvFormatConfig;
+import io.airbyte.integrations.destination.s3.jsonl.JsonLSerializedBuffer;
+import io.airbyte.integrations.destination.s3.jsonl.S3JsonlFormatConfig;
+import io.airbyte.integrations.destination.s3.parquet.ParquetSerializedBuffer;
+import io.airbyte.integrations.destination.s3.util.CompressionType;
+import io.airbyte.integrations.destination.s3.util.Flattening;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SerializableBuffer#accept(AirbyteRecordMessage)} of the staging formats. Each
+ * invocation writes a batch of records to a new uncompressed buffer, then flushes and closes it,
+ * so that the formats which only encode records when they are flushed are measured as well. The
+ * CSV, JSONL and Avro buffers are kept in memory; the Parquet buffer always writes a local file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializedBufferBenchmark {
+
+  private static final int RECORDS_PER_INVOCATION = 1_000;
+
+  @Param({"csv", "jsonl", "avro", "parquet"})
+  public String format;
+
+  @Param({"10", "100"})
+  public int width;
+
+  @Param({"0", "2"})
+  public int depth;
+
+  private CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> createBuffer;
+  private AirbyteStreamNameNamespacePair stream;
+  private ConfiguredAirbyteCatalog catalog;
+  private AirbyteRecordMessage record;
+
+  @Setup
+  public void setup() {
+    createBuffer = switch (format) {
+      case "csv" -> CsvSerializedBuffer.createFunction(
+          new S3CsvFormatConfig(Flattening.NO, CompressionType.NO_COMPRESSION),
+          () -> new InMemoryBuffer(".csv"));
+      case "jsonl" -> JsonLSerializedBuffer.createFunction(
+          new S3JsonlFormatConfig(Flattening.NO, CompressionType.NO_COMPRESSION),
+          () -> new InMemoryBuffer(".jsonl"));
+      case "avro" -> AvroSerializedBuffer.createFunction(
+          new S3AvroFormatConfig(Jsons.jsonNode(Map.of("compression_codec", Map.of("codec", "no compression")))),
+          () -> new InMemoryBuffer(AvroSerializedBuffer.DEFAULT_SUFFIX));
+      case "parquet" -> ParquetSerializedBuffer.createFunction(S3DestinationConfig.getS3DestinationConfig(Jsons.jsonNode(Map.of(
+          "format", Map.of("format_type", "parquet"),
+          "s3_bucket_name", "benchmark",
+          "s3_bucket_region", "us-east-2"))));
+      default -> throw new IllegalArgumentException("Unsupported format: " + format);
+    };
+    stream = new AirbyteStreamNameNamespacePair(SyntheticRecords.STREAM_NAME, null);
+    catalog = SyntheticRecords.createCatalog(width, depth);
+    record = SyntheticRecords.createRecord(width, depth);
+  }
+
+  @Benchmark
+  public long accept() throws Exception {
+    try (final SerializableBuffer buffer = createBuffer.apply(stream, catalog)) {
+      long byteCount = 0;
+      for (int i = 0; i < RECORDS_PER_INVOCATION; i++) {
+        byteCount += buffer.accept(record);
+      }
+      buffer.flush();
+      return byteCount;
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.validation.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.integrations.benchmarks.SyntheticRecords;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the repeated validation of a record against the schema of its stream, with a validator
+ * which keeps the validator compiled for the schema, and with a new one every time, which compiles
+ * it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonSchemaValidatorBenchmark {
+
+  @Param({"10", "100"})
+  public int width;
+
+  @Param({"0", "2"})
+  public int depth;
+
+  private JsonSchemaValidator validator;
+  private JsonNode schema;
+  private JsonNode data;
+
+  @Setup
+  public void setup() {
+    validator = new JsonSchemaValidator();
+    schema = SyntheticRecords.createSchema(width, depth);
+    data = SyntheticRecords.createData(width, depth);
+  }
+
+  @Benchmark
+  public boolean cachedValidator() {
+    return validator.test(schema, data);
+  }
+
+  @Benchmark
+  public boolean compiledValidator() {
+    return new JsonSchemaValidator().test(schema, data);
+  }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.integrations.base.IntegrationRunner.AirbyteTypeMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads newline-delimited {@link AirbyteMessage}s from a {@link ReadableByteChannel}, strictly
+ * abiding with the https://jsonlines.org/ standard.
+ *
+ * Lines are framed directly on the bytes read into a single large buffer and each line is bound to
+ * an {@link AirbyteMessage} by a shared {@link ObjectReader} reading that slice of the buffer. No
+ * intermediate {@link String} is built, and no regex is evaluated, for well-formed messages.
+ *
+ * If a line cannot be parsed AND represents a {@link AirbyteMessage.Type#STATE} message, reading is
+ * halted. Otherwise, the invalid line is logged and skipped.
+ *
+ * This class is not thread-safe. It does not own the channel, which should be closed by the caller.
+ */
+public class AirbyteMessageStreamReader {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteMessageStreamReader.class);
+
+  public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+  private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
+  private static final ObjectReader MESSAGE_READER = OBJECT_MAPPER.readerFor(AirbyteMessage.class);
+  private static final ObjectReader TYPE_READER = OBJECT_MAPPER.readerFor(AirbyteTypeMessage.class);
+
+  private final ReadableByteChannel channel;
+
+  private byte[] buffer;
+  private ByteBuffer byteBuffer;
+  // bytes in [lineStart, end) have been read from the channel but not yet consumed
+  private int lineStart;
+  // bytes in [lineStart, scanPosition) are known to not contain any line delimiter
+  private int scanPosition;
+  private int end;
+  private boolean endOfStream;
+
+  public AirbyteMessageStreamReader(final ReadableByteChannel channel) {
+    this(channel, DEFAULT_BUFFER_SIZE);
+  }
+
+  @VisibleForTesting
+  AirbyteMessageStreamReader(final ReadableByteChannel channel, final int bufferSize) {
+    Preconditions.checkArgument(bufferSize > 0, "buffer size must be positive");
+    this.channel = channel;
+    this.buffer = new byte[bufferSize];
+    this.byteBuffer = ByteBuffer.wrap(buffer);
+  }
+
+  /**
+   * Hands every remaining message of the stream to the consumer, in order.
+   *
+   * @param consumer An {@link AirbyteMessageConsumer} (or any other consumer) that can handle the
+   *        messages.
+   * @throws Exception if an invalid state message is read or the consumer is unable to accept a
+   *         message.
+   */
+  public void forEachRemaining(final CheckedConsumer<AirbyteMessage, Exception> consumer) throws Exception {
+    Optional<AirbyteMessage> message = next();
+    while (message.isPresent()) {
+      consumer.accept(message.get());
+      message = next();
+    }
+  }
+
+  /**
+   * @return the next valid message of the stream, or {@link Optional#empty()} once the stream is
+   *         exhausted.
+   * @throws IOException if the channel cannot be read.
+   * @throws IllegalStateException if an invalid state message is read.
+   */
+  public Optional<AirbyteMessage> next() throws IOException {
+    while (true) {
+      final int lineEnd = findLineEnd();
+      if (lineEnd < 0) {
+        return Optional.empty();
+      }
+      final int offset = lineStart;
+      final int length = lineEnd - lineStart;
+      lineStart = lineEnd;
+      scanPosition = lineEnd;
+      final Optional<AirbyteMessage> message = parse(offset, length);
+      if (message.isPresent()) {
+        return message;
+      }
+    }
+  }
+
+  /**
+   * Skips any leading line delimiters and locates the end of the next line, reading more bytes from
+   * the channel when needed.
+   *
+   * @return the exclusive end index of the next line in the buffer, or -1 if the stream is exhausted.
+   */
+  private int findLineEnd() throws IOException {
+    while (true) {
+      while (lineStart < end && isDelimiter(buffer[lineStart])) {
+        lineStart++;
+      }
+      scanPosition = Math.max(scanPosition, lineStart);
+      for (int i = scanPosition; i < end; i++) {
+        if (isDelimiter(buffer[i])) {
+          return i;
+        }
+      }
+      scanPosition = end;
+      if (endOfStream) {
+        // the last line of the stream does not need to be terminated by a delimiter
+        return lineStart < end ? end : -1;
+      }
+      fill();
+    }
+  }
+
+  /**
+   * Makes room at the end of the buffer, by compacting the unconsumed bytes to its start or by
+   * growing it if a single line does not fit, then reads from the channel.
+   */
+  private void fill() throws IOException {
+    if (lineStart > 0) {
+      final int remaining = end - lineStart;
+      System.arraycopy(buffer, lineStart, buffer, 0, remaining);
+      scanPosition -= lineStart;
+      lineStart = 0;
+      end = remaining;
+    } else if (end == buffer.length) {
+      final byte[] grown = new byte[Math.multiplyExact(buffer.length, 2)];
+      System.arraycopy(buffer, 0, grown, 0, end);
+      buffer = grown;
+      byteBuffer = ByteBuffer.wrap(buffer);
+    }
+
+    byteBuffer.limit(buffer.length).position(end);
+    final int read = channel.read(byteBuffer);
+    if (read < 0) {
+      endOfStream = true;
+    } else {
+      end += read;
+    }
+  }
+
+  private Optional<AirbyteMessage> parse(final int offset, final int length) {
+    try {
+      return Optional.of(MESSAGE_READER.readValue(buffer, offset, length));
+    } catch (final Exception e) {
+      final String line = new String(buffer, offset, length, StandardCharsets.UTF_8);
+      if (isStateMessage(offset, length)) {
+        throw new IllegalStateException("Invalid state message: " + line);
+      }
+      LOGGER.error("Received invalid message: " + line);
+      return Optional.empty();
+    }
+  }
+
+  private boolean isStateMessage(final int offset, final int length) {
+    try {
+      final AirbyteTypeMessage typeMessage = TYPE_READER.readValue(buffer, offset, length);
+      return typeMessage.getType() == Type.STATE;
+    } catch (final Exception e) {
+      return false;
+    }
+  }
+
+  private static boolean isDelimiter(final byte b) {
+    return b == '\n' || b == '\r';
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * Writes {@link AirbyteMessage}s as json lines, batching them in memory instead of going through a
+ * synchronized and auto-flushing {@link PrintStream} for every message like
+ * {@link Destination#defaultOutputRecordCollector(AirbyteMessage)} does.
+ *
+ * Messages are serialized by a single reused {@link JsonGenerator} into an in-memory buffer, which
+ * is written to the output stream:
+ * <ul>
+ * <li>after any message that is not a {@link Type#RECORD}, so that state checkpoints stay
+ * timely</li>
+ * <li>once the buffer holds more than the flush threshold</li>
+ * <li>once the flush interval has elapsed since the last write, even if no new message came in</li>
+ * </ul>
+ * The buffer only ever holds whole lines. It is written while holding the lock of the shared
+ * {@link PrintStream} (i.e. {@link System#out}) so that lines logged concurrently through it are
+ * never interleaved with the batched messages.
+ *
+ * Once a flush fails, every later call to this class rethrows that failure, including a failure of
+ * the periodic flush.
+ */
+public class AirbyteMessageStreamWriter implements Consumer<AirbyteMessage>, AutoCloseable {
+
+  public static final int DEFAULT_FLUSH_THRESHOLD_BYTES = 1024 * 1024;
+  public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+  private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
+  private static final ObjectWriter MESSAGE_WRITER = OBJECT_MAPPER.writerFor(AirbyteMessage.class);
+
+  private final OutputStream out;
+  private final PrintStream sharedStream;
+  private final int flushThresholdBytes;
+  private final long flushIntervalNanos;
+  private final ByteArrayOutputStream buffer;
+  private final JsonGenerator generator;
+  private final ScheduledExecutorService flushScheduler;
+
+  private long lastFlushNanos;
+  private IOException flushFailure;
+
+  /**
+   * @return a writer emitting directly to the stdout file descriptor.
+   */
+  public static AirbyteMessageStreamWriter stdout() {
+    return new AirbyteMessageStreamWriter(new FileOutputStream(FileDescriptor.out), System.out, DEFAULT_FLUSH_THRESHOLD_BYTES,
+        DEFAULT_FLUSH_INTERVAL);
+  }
+
+  @VisibleForTesting
+  AirbyteMessageStreamWriter(final OutputStream out,
+                             final PrintStream sharedStream,
+                             final int flushThresholdBytes,
+                             final Duration flushInterval) {
+    Preconditions.checkArgument(flushThresholdBytes > 0, "flush threshold must be positive");
+    Preconditions.checkArgument(!flushInterval.isNegative() && !flushInterval.isZero(), "flush interval must be positive");
+    this.out = out;
+    this.sharedStream = sharedStream;
+    this.flushThresholdBytes = flushThresholdBytes;
+    this.flushIntervalNanos = flushInterval.toNanos();
+    this.buffer = new ByteArrayOutputStream(flushThresholdBytes);
+    try {
+      this.generator = OBJECT_MAPPER.getFactory().createGenerator(buffer);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    // messages are separated by new lines instead of the default space
+    generator.setRootValueSeparator(null);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.lastFlushNanos = System.nanoTime();
+    this.flushScheduler = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+        .namingPattern("airbyte-message-flusher-%d")
+        .daemon(true)
+        .build());
+    flushScheduler.scheduleWithFixedDelay(this::flushIfStale, flushIntervalNanos, flushIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public synchronized void accept(final AirbyteMessage message) {
+    try {
+      throwIfFailed();
+      MESSAGE_WRITER.writeValue(generator, message);
+      generator.writeRaw('\n');
+      generator.flush();
+      if (message.getType() != Type.RECORD
+          || buffer.size() >= flushThresholdBytes
+          || System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+        flush();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes all buffered messages to the output stream.
+   */
+  public synchronized void flush() throws IOException {
+    throwIfFailed();
+    lastFlushNanos = System.nanoTime();
+    if (buffer.size() == 0) {
+      return;
+    }
+    try {
+      synchronized (sharedStream) {
+        sharedStream.flush();
+        buffer.writeTo(out);
+        out.flush();
+      }
+    } catch (final IOException e) {
+      // part of the buffer may have been written, nothing can be written after it anymore
+      flushFailure = e;
+      throw e;
+    }
+    buffer.reset();
+  }
+
+  private synchronized void flushIfStale() {
+    if (flushFailure == null && System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+      try {
+        flush();
+      } catch (final IOException e) {
+        // rethrown by the next call to the writer, as nothing catches the failures of the scheduler
+        flushScheduler.shutdown();
+      }
+    }
+  }
+
+  private void throwIfFailed() throws IOException {
+    if (flushFailure != null) {
+      throw new IOException("Failed to write messages", flushFailure);
+    }
+  }
+
+  /**
+   * Flushes the remaining messages, or rethrows the failure of a previous flush. The underlying output
+   * stream is not closed, as it is usually the stdout of the process.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    flushScheduler.shutdownNow();
+    generator.close();
+    flush();
+  }
+
+}
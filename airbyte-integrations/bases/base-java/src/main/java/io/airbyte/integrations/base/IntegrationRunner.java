@@ -20,16 +20,16 @@ import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonSchemaValidator;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ThreadUtils;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
@@ -55,6 +55,10 @@ public class IntegrationRunner {
   private final Integration integration;
   private final Destination destination;
   private final Source source;
+  // when set, records read from the source are written to stdout in batches, see
+  // AirbyteMessageStreamWriter
+  private final boolean bufferReadOutput;
+  private final Supplier<AirbyteMessageStreamWriter> readOutputWriterFactory;
   private static JsonSchemaValidator validator;
 
   public IntegrationRunner(final Destination destination) {
@@ -62,7 +66,7 @@ public class IntegrationRunner {
   }
 
   public IntegrationRunner(final Source source) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source);
+    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source, true);
   }
 
   @VisibleForTesting
@@ -70,9 +74,28 @@ public class IntegrationRunner {
                     final Consumer<AirbyteMessage> outputRecordCollector,
                     final Destination destination,
                     final Source source) {
+    this(cliParser, outputRecordCollector, destination, source, false);
+  }
+
+  private IntegrationRunner(final IntegrationCliParser cliParser,
+                            final Consumer<AirbyteMessage> outputRecordCollector,
+                            final Destination destination,
+                            final Source source,
+                            final boolean bufferReadOutput) {
+    this(cliParser, outputRecordCollector, destination, source, bufferReadOutput, AirbyteMessageStreamWriter::stdout);
+  }
+
+  private IntegrationRunner(final IntegrationCliParser cliParser,
+                            final Consumer<AirbyteMessage> outputRecordCollector,
+                            final Destination destination,
+                            final Source source,
+                            final boolean bufferReadOutput,
+                            final Supplier<AirbyteMessageStreamWriter> readOutputWriterFactory) {
     Preconditions.checkState(destination != null ^ source != null, "can only pass in a destination or a source");
     this.cliParser = cliParser;
     this.outputRecordCollector = outputRecordCollector;
+    this.bufferReadOutput = bufferReadOutput;
+    this.readOutputWriterFactory = readOutputWriterFactory;
     // integration iface covers the commands that are the same for both source and destination.
     this.integration = source != null ? source : destination;
     this.source = source;
@@ -92,6 +115,19 @@ public class IntegrationRunner {
     validator = jsonSchemaValidator;
   }
 
+  /**
+   * Runs a source writing the messages it reads with the writers created by readOutputWriterFactory.
+   */
+  @VisibleForTesting
+  IntegrationRunner(final IntegrationCliParser cliParser,
+                    final Consumer<AirbyteMessage> outputRecordCollector,
+                    final Source source,
+                    final JsonSchemaValidator jsonSchemaValidator,
+                    final Supplier<AirbyteMessageStreamWriter> readOutputWriterFactory) {
+    this(cliParser, outputRecordCollector, null, source, true, readOutputWriterFactory);
+    validator = jsonSchemaValidator;
+  }
+
   public void run(final String[] args) throws Exception {
     final IntegrationConfig parsed = cliParser.parse(args);
     try {
@@ -136,7 +172,13 @@ public class IntegrationRunner {
           final ConfiguredAirbyteCatalog catalog = parseConfig(parsed.getCatalogPath(), ConfiguredAirbyteCatalog.class);
           final Optional<JsonNode> stateOptional = parsed.getStatePath().map(IntegrationRunner::parseConfig);
           try (final AutoCloseableIterator<AirbyteMessage> messageIterator = source.read(config, catalog, stateOptional.orElse(null))) {
-            produceMessages(messageIterator);
+            if (bufferReadOutput) {
+              try (final AirbyteMessageStreamWriter messageWriter = readOutputWriterFactory.get()) {
+                produceMessages(messageIterator, messageWriter);
+              }
+            } else {
+              produceMessages(messageIterator, outputRecordCollector);
+            }
           }
         }
         // destination only
@@ -182,9 +224,11 @@ public class IntegrationRunner {
     LOGGER.info("Completed integration: {}", integration.getClass().getName());
   }
 
-  private void produceMessages(final AutoCloseableIterator<AirbyteMessage> messageIterator) throws Exception {
+  private static void produceMessages(final AutoCloseableIterator<AirbyteMessage> messageIterator,
+                                      final Consumer<AirbyteMessage> recordCollector)
+      throws Exception {
     watchForOrphanThreads(
-        () -> messageIterator.forEachRemaining(outputRecordCollector),
+        () -> messageIterator.forEachRemaining(recordCollector),
         () -> System.exit(FORCED_EXIT_CODE),
         INTERRUPT_THREAD_DELAY_MINUTES,
         TimeUnit.MINUTES,
@@ -194,13 +238,11 @@ public class IntegrationRunner {
 
   @VisibleForTesting
   static void consumeWriteStream(final AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in, StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    // frame messages on new line characters directly on the bytes read from stdin to strictly abide
+    // with the https://jsonlines.org/ standard
+    final AirbyteMessageStreamReader input = new AirbyteMessageStreamReader(Channels.newChannel(System.in));
     consumer.start();
-    while (input.hasNext()) {
-      consumeMessage(consumer, input.next());
-    }
+    input.forEachRemaining(consumer);
   }
 
   private static void runConsumer(final AirbyteMessageConsumer consumer) throws Exception {
@@ -271,32 +313,6 @@ public class IntegrationRunner {
     }
   }
 
-  /**
-   * Consumes an {@link AirbyteMessage} for processing.
-   *
-   * If the provided JSON string is invalid AND represents a {@link AirbyteMessage.Type#STATE}
-   * message, processing is halted. Otherwise, the invalid message is logged and execution continues.
-   *
-   * @param consumer An {@link AirbyteMessageConsumer} that can handle the provided message.
-   * @param inputString JSON representation of an {@link AirbyteMessage}.
-   * @throws Exception if an invalid state message is provided or the consumer is unable to accept the
-   *         provided message.
-   */
-  @VisibleForTesting
-  static void consumeMessage(final AirbyteMessageConsumer consumer, final String inputString) throws Exception {
-
-    final Optional<AirbyteMessage> messageOptional = Jsons.tryDeserialize(inputString, AirbyteMessage.class);
-    if (messageOptional.isPresent()) {
-      consumer.accept(messageOptional.get());
-    } else {
-      if (isStateMessage(inputString)) {
-        throw new IllegalStateException("Invalid state message: " + inputString);
-      } else {
-        LOGGER.error("Received invalid message: " + inputString);
-      }
-    }
-  }
-
   private static String dumpThread(final Thread thread) {
     return String.format("%s (%s)\n Thread stacktrace: %s", thread.getName(), thread.getState(),
         Strings.join(List.of(thread.getStackTrace()), "\n        at "));
@@ -332,26 +348,11 @@ public class IntegrationRunner {
     return tokens[tokens.length - 1];
   }
 
-  /**
-   * Tests whether the provided JSON string represents a state message.
-   *
-   * @param input a JSON string that represents an {@link AirbyteMessage}.
-   * @return {@code true} if the message is a state message, {@code false} otherwise.
-   */
-  private static boolean isStateMessage(final String input) {
-    final Optional<AirbyteTypeMessage> deserialized = Jsons.tryDeserialize(input, AirbyteTypeMessage.class);
-    if (deserialized.isPresent()) {
-      return deserialized.get().getType() == Type.STATE;
-    } else {
-      return false;
-    }
-  }
-
   /**
    * Custom class that can be used to parse a JSON message to determine the type of the represented
    * {@link AirbyteMessage}.
    */
-  private static class AirbyteTypeMessage {
+  static class AirbyteTypeMessage {
 
     @JsonProperty("type")
     @JsonPropertyDescription("Message type")
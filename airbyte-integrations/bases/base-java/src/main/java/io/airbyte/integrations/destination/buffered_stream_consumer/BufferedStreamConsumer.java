@@ -65,6 +65,12 @@ import org.slf4j.LoggerFactory;
  * </p>
  *
  * <p>
+ * When the {@link BufferingStrategy} flushes its buffers asynchronously, a state message stays
+ * flushed until the flushes started before it was received have all completed, and is only then
+ * committed and emitted.
+ * </p>
+ *
+ * <p>
  * When a record is "flushed" it is moved from the docker container to the destination. By
  * convention, it is usually placed in some sort of temporary storage on the destination (e.g. a
  * temporary database or file store). The logic in close handles committing the temporary
@@ -91,6 +97,7 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
   private boolean hasStarted;
   private boolean hasClosed;
+  private long lastCommittedFlushId;
 
   private Instant nextFlushDeadline;
   private final Duration bufferFlushFrequency;
@@ -193,6 +200,9 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     } else {
       LOGGER.warn("Unexpected message: " + message.getType());
     }
+    if (bufferingStrategy.getLastCompletedFlushId() > lastCommittedFlushId) {
+      emitStatesOfCompletedFlushes();
+    }
     periodicBufferFlush();
   }
 
@@ -203,12 +213,36 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
    * successfully committed to destination
    */
   private void markStatesAsFlushedToDestination() {
-    stateManager.markPendingAsCommitted();
+    final long lastStartedFlushId = bufferingStrategy.getLastStartedFlushId();
+    final long lastCompletedFlushId = commitStatesOfCompletedFlushes();
+    if (lastStartedFlushId <= lastCompletedFlushId) {
+      stateManager.markPendingAsCommitted();
+    } else {
+      // the buffers holding the records preceding these states are still being flushed
+      stateManager.markPendingAsFlushed(lastStartedFlushId);
+    }
     stateManager.listCommitted().forEach(outputRecordCollector);
     stateManager.clearCommitted();
     nextFlushDeadline = Instant.now().plus(bufferFlushFrequency);
   }
 
+  /**
+   * Emits the states that were waiting on buffers flushed asynchronously, once those flushes have
+   * completed.
+   */
+  private void emitStatesOfCompletedFlushes() {
+    commitStatesOfCompletedFlushes();
+    stateManager.listCommitted().forEach(outputRecordCollector);
+    stateManager.clearCommitted();
+  }
+
+  private long commitStatesOfCompletedFlushes() {
+    final long lastCompletedFlushId = bufferingStrategy.getLastCompletedFlushId();
+    stateManager.markFlushedAsCommitted(lastCompletedFlushId);
+    lastCommittedFlushId = lastCompletedFlushId;
+    return lastCompletedFlushId;
+  }
+
   /**
    * Periodically flushes buffered data to destination storage when exceeding flush deadline. Also
    * resets the last time a flush occurred
@@ -250,37 +284,56 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
     streamToIgnoredRecordCount
         .forEach((pair, count) -> LOGGER.warn("A total of {} record(s) of data from stream {} were invalid and were ignored.", count, pair));
-    if (hasFailed) {
-      LOGGER.error("executing on failed close procedure.");
-    } else {
-      LOGGER.info("executing on success close procedure.");
+    // flushing or closing the buffers rethrows the failure of a flush, in which case the destination
+    // is still closed, as if the sync had failed
+    boolean buffersClosed = false;
+    try {
+      if (hasFailed) {
+        LOGGER.error("executing on failed close procedure.");
+        bufferingStrategy.closeAfterFailure();
+      } else {
+        LOGGER.info("executing on success close procedure.");
+        flushAndCloseBuffers();
+      }
+      buffersClosed = true;
+    } finally {
+      // once closed, every flush that was still running has completed
+      commitStatesOfCompletedFlushes();
+      closeDestination(hasFailed || !buffersClosed);
+    }
+  }
+
+  private void flushAndCloseBuffers() throws Exception {
+    try {
       // When flushing the buffer, this will call the respective #flushBufferFunction which bundles
       // the flush and commit operation, so if successful then mark state as committed
       bufferingStrategy.flushAll();
       markStatesAsFlushedToDestination();
+    } catch (final Exception e) {
+      try {
+        bufferingStrategy.closeAfterFailure();
+      } catch (final Exception closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw e;
     }
     bufferingStrategy.close();
+  }
 
+  private void closeDestination(final boolean hasFailed) throws Exception {
     try {
       /*
        * TODO: (ryankfu) Remove usage of hasFailed with onClose after all destination connectors have been
        * updated to support checkpointing
        *
-       * flushed is empty in 2 cases: 1. either it is full refresh (no state is emitted necessarily) 2. it
-       * is stream but no states were flushed in both of these cases, if there was a failure, we should
-       * not bother committing. otherwise attempt to commit
+       * states left flushed at this point are waiting on a flush which failed or was never completed, as
+       * every flush still running has completed once the buffers are closed. they must not turn a failed
+       * sync into a successful close, so only the outcome of the sync decides how the destination is
+       * closed
        */
-      if (stateManager.listFlushed().isEmpty()) {
-        onClose.accept(hasFailed);
-      } else {
-        /*
-         * if any state message was flushed that means we should try to commit what we have. if
-         * hasFailed=false, then it could be full success. if hasFailed=true, then going for partial
-         * success.
-         */
-        onClose.accept(false);
-      }
+      onClose.accept(hasFailed);
 
+      // states still flushed are never emitted, since the records preceding them were not committed
       stateManager.listCommitted().forEach(outputRecordCollector);
     } catch (final Exception e) {
       LOGGER.error("Close failed.", e);
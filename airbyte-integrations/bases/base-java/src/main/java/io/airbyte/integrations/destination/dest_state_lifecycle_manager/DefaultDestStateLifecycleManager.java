@@ -100,6 +100,11 @@ public class DefaultDestStateLifecycleManager implements DestStateLifecycleManag
     internalStateManagerSupplier.get().markPendingAsFlushed();
   }
 
+  @Override
+  public void markPendingAsFlushed(final long flushId) {
+    internalStateManagerSupplier.get().markPendingAsFlushed(flushId);
+  }
+
   @Override
   public Queue<AirbyteMessage> listFlushed() {
     return internalStateManagerSupplier.get().listFlushed();
@@ -110,6 +115,11 @@ public class DefaultDestStateLifecycleManager implements DestStateLifecycleManag
     internalStateManagerSupplier.get().markFlushedAsCommitted();
   }
 
+  @Override
+  public void markFlushedAsCommitted(final long flushId) {
+    internalStateManagerSupplier.get().markFlushedAsCommitted(flushId);
+  }
+
   @Override
   public void markPendingAsCommitted() {
     internalStateManagerSupplier.get().markPendingAsCommitted();
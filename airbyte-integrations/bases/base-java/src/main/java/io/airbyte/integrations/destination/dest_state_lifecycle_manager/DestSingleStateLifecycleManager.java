@@ -9,7 +9,9 @@ import io.airbyte.protocol.models.v0.AirbyteMessage;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Queue;
+import java.util.TreeMap;
 
 /**
  * This {@link DestStateLifecycleManager} handles any state where there is a guarantee that any
@@ -24,7 +26,8 @@ import java.util.Queue;
 public class DestSingleStateLifecycleManager implements DestStateLifecycleManager {
 
   private AirbyteMessage lastPendingState;
-  private AirbyteMessage lastFlushedState;
+  // last flushed state waiting on each flush id, states flushed without an id wait on every flush
+  private final NavigableMap<Long, AirbyteMessage> flushIdToLastFlushedState = new TreeMap<>();
   private AirbyteMessage lastCommittedState;
 
   @Override
@@ -39,22 +42,33 @@ public class DestSingleStateLifecycleManager implements DestStateLifecycleManage
 
   @Override
   public void markPendingAsFlushed() {
+    markPendingAsFlushed(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void markPendingAsFlushed(final long flushId) {
     if (lastPendingState != null) {
-      lastFlushedState = lastPendingState;
+      flushIdToLastFlushedState.put(flushId, lastPendingState);
       lastPendingState = null;
     }
   }
 
   @Override
   public Queue<AirbyteMessage> listFlushed() {
-    return stateMessageToQueue(lastFlushedState);
+    return stateMessageToQueue(flushIdToLastFlushedState.isEmpty() ? null : flushIdToLastFlushedState.lastEntry().getValue());
   }
 
   @Override
   public void markFlushedAsCommitted() {
-    if (lastFlushedState != null) {
-      lastCommittedState = lastFlushedState;
-      lastFlushedState = null;
+    markFlushedAsCommitted(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void markFlushedAsCommitted(final long flushId) {
+    final NavigableMap<Long, AirbyteMessage> completed = flushIdToLastFlushedState.headMap(flushId, true);
+    if (!completed.isEmpty()) {
+      lastCommittedState = completed.lastEntry().getValue();
+      completed.clear();
     }
   }
 
@@ -35,6 +35,17 @@ public interface DestStateLifecycleManager {
    */
   void markPendingAsFlushed();
 
+  /**
+   * Moves any tracked state messages that are currently pending to flushed, where they wait for the
+   * flush identified by flushId to complete. This is used when buffers are flushed asynchronously,
+   * in which case several flushes can be in flight at the same time. The state messages will only
+   * be moved to committed by {@link #markFlushedAsCommitted(long)}, once that flush and every flush
+   * started before it have completed.
+   *
+   * @param flushId - id of the last flush started before the pending state messages can be committed
+   */
+  void markPendingAsFlushed(long flushId);
+
   /**
    * List all tracked state messages that are flushed.
    *
@@ -50,6 +61,14 @@ public interface DestStateLifecycleManager {
    */
   void markFlushedAsCommitted();
 
+  /**
+   * Moves any tracked state messages that are currently flushed and waiting for a flush with an id
+   * lower or equal to flushId to committed.
+   *
+   * @param flushId - id up to which every flush has completed
+   */
+  void markFlushedAsCommitted(long flushId);
+
   /**
    * Clears any committed state messages, this is called after returning the state message to the
    * platform. The rationale behind this logic is to avoid returning duplicated state messages that
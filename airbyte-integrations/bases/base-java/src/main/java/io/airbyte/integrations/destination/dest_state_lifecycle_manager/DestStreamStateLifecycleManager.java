@@ -14,7 +14,9 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Queue;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -32,12 +34,13 @@ import java.util.stream.Collectors;
 public class DestStreamStateLifecycleManager implements DestStateLifecycleManager {
 
   private final Map<StreamDescriptor, AirbyteMessage> streamToLastPendingState;
-  private final Map<StreamDescriptor, AirbyteMessage> streamToLastFlushedState;
+  // flushed states waiting on each flush id, states flushed without an id wait on every flush
+  private final NavigableMap<Long, Map<StreamDescriptor, AirbyteMessage>> flushIdToStreamToLastFlushedState;
   private final Map<StreamDescriptor, AirbyteMessage> streamToLastCommittedState;
 
   public DestStreamStateLifecycleManager() {
     streamToLastPendingState = new HashMap<>();
-    streamToLastFlushedState = new HashMap<>();
+    flushIdToStreamToLastFlushedState = new TreeMap<>();
     streamToLastCommittedState = new HashMap<>();
   }
 
@@ -59,11 +62,20 @@ public class DestStreamStateLifecycleManager implements DestStateLifecycleManage
   @Deprecated
   @Override
   public void markPendingAsFlushed() {
-    moveToNextPhase(streamToLastPendingState, streamToLastFlushedState);
+    markPendingAsFlushed(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void markPendingAsFlushed(final long flushId) {
+    if (!streamToLastPendingState.isEmpty()) {
+      moveToNextPhase(streamToLastPendingState, flushIdToStreamToLastFlushedState.computeIfAbsent(flushId, k -> new HashMap<>()));
+    }
   }
 
   @Override
   public Queue<AirbyteMessage> listFlushed() {
+    final Map<StreamDescriptor, AirbyteMessage> streamToLastFlushedState = new HashMap<>();
+    flushIdToStreamToLastFlushedState.values().forEach(streamToLastFlushedState::putAll);
     return listStatesInOrder(streamToLastFlushedState);
   }
 
@@ -75,7 +87,14 @@ public class DestStreamStateLifecycleManager implements DestStateLifecycleManage
   @Deprecated
   @Override
   public void markFlushedAsCommitted() {
-    moveToNextPhase(streamToLastFlushedState, streamToLastCommittedState);
+    markFlushedAsCommitted(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void markFlushedAsCommitted(final long flushId) {
+    final NavigableMap<Long, Map<StreamDescriptor, AirbyteMessage>> completed = flushIdToStreamToLastFlushedState.headMap(flushId, true);
+    completed.values().forEach(streamToLastFlushedState -> moveToNextPhase(streamToLastFlushedState, streamToLastCommittedState));
+    completed.clear();
   }
 
   @Override
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.functional.CheckedBiConsumer;
+import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the flush of full {@link SerializableBuffer}s on a bounded pool of threads, so that the
+ * caller can keep filling fresh buffers while previous ones are being uploaded and committed to the
+ * destination.
+ *
+ * <p>
+ * Every flush is given an id, increasing in the order flushes are submitted. As flushes may complete
+ * out of order, {@link #getLastCompletedFlushId()} only reports the id up to which every flush has
+ * successfully completed. A state message received before a flush was submitted can be committed
+ * once that id is reached.
+ * </p>
+ *
+ * <p>
+ * Backpressure: submitting a flush blocks while the bytes held by the flushes in flight would exceed
+ * the configured budget. A single buffer larger than the budget is still flushed, alone.
+ * </p>
+ *
+ * <p>
+ * Once a flush fails, every later call to this class rethrows that failure.
+ * </p>
+ */
+public class AsyncBufferFlusher implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncBufferFlusher.class);
+
+  private final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush;
+  private final long maxInFlightBytes;
+  private final ExecutorService executor;
+
+  private final NavigableSet<Long> completedOutOfOrderFlushIds;
+  private long lastSubmittedFlushId;
+  private volatile long lastCompletedFlushId;
+  private long inFlightBytes;
+  private int inFlightFlushes;
+  private Exception failure;
+
+  /**
+   * @param onStreamFlush flush logic, called from the flushing threads
+   * @param maxConcurrentFlushes number of flushes that can run at the same time
+   * @param maxInFlightBytes memory/disk budget of the buffers handed over to the flushing threads
+   */
+  public AsyncBufferFlusher(final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                            final int maxConcurrentFlushes,
+                            final long maxInFlightBytes) {
+    Preconditions.checkArgument(maxConcurrentFlushes > 0, "maxConcurrentFlushes must be positive");
+    Preconditions.checkArgument(maxInFlightBytes > 0, "maxInFlightBytes must be positive");
+    this.onStreamFlush = onStreamFlush;
+    this.maxInFlightBytes = maxInFlightBytes;
+    this.executor = Executors.newFixedThreadPool(maxConcurrentFlushes, new BasicThreadFactory.Builder()
+        .namingPattern("buffer-flush-%d")
+        .build());
+    this.completedOutOfOrderFlushIds = new TreeSet<>();
+    this.lastSubmittedFlushId = 0L;
+    this.lastCompletedFlushId = 0L;
+  }
+
+  /**
+   * Hands the buffer over to a flushing thread, which closes it once flushed. Blocks until the
+   * in-flight budget has room for this buffer.
+   *
+   * @return id of the submitted flush
+   * @throws Exception if a previous flush failed
+   */
+  public synchronized long submit(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer buffer) throws Exception {
+    throwIfFailed();
+    final long bufferBytes = buffer.getByteCount();
+    if (inFlightFlushes > 0 && inFlightBytes + bufferBytes > maxInFlightBytes) {
+      LOGGER.info("Waiting for {} in-flight flushes ({}) before flushing stream {}", inFlightFlushes,
+          FileUtils.byteCountToDisplaySize(inFlightBytes), stream.getName());
+      while (inFlightFlushes > 0 && inFlightBytes + bufferBytes > maxInFlightBytes) {
+        wait();
+        throwIfFailed();
+      }
+    }
+    final long flushId = ++lastSubmittedFlushId;
+    inFlightBytes += bufferBytes;
+    inFlightFlushes++;
+    executor.execute(() -> flush(flushId, stream, buffer, bufferBytes));
+    return flushId;
+  }
+
+  private void flush(final long flushId, final AirbyteStreamNameNamespacePair stream, final SerializableBuffer buffer, final long bufferBytes) {
+    Exception flushFailure = null;
+    try {
+      onStreamFlush.accept(stream, buffer);
+    } catch (final Exception e) {
+      LOGGER.error("Failed to flush buffer of stream {}", stream.getName(), e);
+      flushFailure = e;
+    } finally {
+      try {
+        buffer.close();
+      } catch (final Exception e) {
+        LOGGER.error("Exception while closing stream buffer", e);
+      }
+    }
+    onFlushCompleted(flushId, bufferBytes, flushFailure);
+  }
+
+  private synchronized void onFlushCompleted(final long flushId, final long bufferBytes, final Exception flushFailure) {
+    inFlightBytes -= bufferBytes;
+    inFlightFlushes--;
+    if (flushFailure != null) {
+      if (failure == null) {
+        failure = flushFailure;
+      }
+    } else {
+      completedOutOfOrderFlushIds.add(flushId);
+      long completed = lastCompletedFlushId;
+      while (completedOutOfOrderFlushIds.remove(completed + 1)) {
+        completed++;
+      }
+      lastCompletedFlushId = completed;
+    }
+    notifyAll();
+  }
+
+  /**
+   * @return id of the last submitted flush, 0 if none
+   */
+  public synchronized long getLastSubmittedFlushId() {
+    return lastSubmittedFlushId;
+  }
+
+  /**
+   * @return the highest id such that this flush and every flush submitted before it completed
+   *         successfully, 0 if none
+   */
+  public long getLastCompletedFlushId() {
+    return lastCompletedFlushId;
+  }
+
+  /**
+   * Blocks until every submitted flush has completed.
+   *
+   * @throws Exception if any flush failed
+   */
+  public synchronized void awaitAll() throws Exception {
+    while (inFlightFlushes > 0) {
+      wait();
+    }
+    throwIfFailed();
+  }
+
+  private void throwIfFailed() {
+    if (failure != null) {
+      throw new RuntimeException("Failed to flush buffer", failure);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      awaitAll();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
@@ -47,4 +47,31 @@ public interface BufferingStrategy extends AutoCloseable {
    */
   void clear() throws Exception;
 
+  /**
+   * Closes the strategy once the sync has failed, when the records it holds are no longer expected to
+   * reach the destination. Strategies which do more than releasing their buffers on close, e.g. load
+   * what they flushed, should skip it here.
+   */
+  default void closeAfterFailure() throws Exception {
+    close();
+  }
+
+  /**
+   * Flushes are identified by increasing ids, in the order they are started. Strategies that only
+   * return once a flush has completed do not need to number them and can rely on this default.
+   *
+   * @return id of the last flush that was started, 0 if none
+   */
+  default long getLastStartedFlushId() {
+    return 0L;
+  }
+
+  /**
+   * @return the highest id such that this flush and every flush started before it have completed, 0
+   *         if none
+   */
+  default long getLastCompletedFlushId() {
+    return getLastStartedFlushId();
+  }
+
 }
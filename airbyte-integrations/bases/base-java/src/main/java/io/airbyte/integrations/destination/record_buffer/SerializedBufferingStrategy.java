@@ -12,6 +12,7 @@ import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,6 +28,12 @@ import org.slf4j.LoggerFactory;
  * <p>
  * This class is meant to be used in conjunction with {@link SerializableBuffer}
  * </p>
+ *
+ * <p>
+ * Buffers are flushed inline by default. When created with an {@link AsyncBufferFlusher}, full
+ * buffers are instead handed over to the flusher and new records go into fresh buffers while
+ * previous ones are being flushed.
+ * </p>
  */
 public class SerializedBufferingStrategy implements BufferingStrategy {
 
@@ -38,6 +45,8 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   private Map<AirbyteStreamNameNamespacePair, SerializableBuffer> allBuffers = new HashMap<>();
   private long totalBufferSizeInBytes;
   private final ConfiguredAirbyteCatalog catalog;
+  // null when buffers are flushed inline
+  private final AsyncBufferFlusher asyncFlusher;
 
   /**
    * Creates instance of Serialized Buffering Strategy used to handle the logic of flushing buffer
@@ -50,9 +59,35 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
                                      final ConfiguredAirbyteCatalog catalog,
                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush) {
+    this(onCreateBuffer, catalog, onStreamFlush, null);
+  }
+
+  /**
+   * Creates instance of Serialized Buffering Strategy flushing full buffers asynchronously
+   *
+   * @param onCreateBuffer type of buffer used upon creation
+   * @param catalog collection of {@link io.airbyte.protocol.models.ConfiguredAirbyteStream}
+   * @param onStreamFlush buffer flush logic, called from the flushing threads
+   * @param maxConcurrentFlushes number of buffers that can be flushed at the same time
+   * @param maxInFlightBytes memory/disk budget of the buffers being flushed, adding records blocks
+   *        once it is exceeded
+   */
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int maxConcurrentFlushes,
+                                     final long maxInFlightBytes) {
+    this(onCreateBuffer, catalog, onStreamFlush, new AsyncBufferFlusher(onStreamFlush, maxConcurrentFlushes, maxInFlightBytes));
+  }
+
+  private SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                      final ConfiguredAirbyteCatalog catalog,
+                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                      final AsyncBufferFlusher asyncFlusher) {
     this.onCreateBuffer = onCreateBuffer;
     this.catalog = catalog;
     this.onStreamFlush = onStreamFlush;
+    this.asyncFlusher = asyncFlusher;
     this.totalBufferSizeInBytes = 0;
   }
 
@@ -119,6 +154,14 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
     LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
+    if (asyncFlusher != null) {
+      final long byteCount = writer.getByteCount();
+      asyncFlusher.submit(stream, writer);
+      totalBufferSizeInBytes -= byteCount;
+      allBuffers.remove(stream);
+      LOGGER.info("Flushing submitted for {}", stream.getName());
+      return;
+    }
     onStreamFlush.accept(stream, writer);
     totalBufferSizeInBytes -= writer.getByteCount();
     allBuffers.remove(stream);
@@ -128,6 +171,19 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void flushAll() throws Exception {
     LOGGER.info("Flushing all {} current buffers ({} in total)", allBuffers.size(), FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
+    if (asyncFlusher != null) {
+      // the flushing threads close the buffers once they are flushed, so they are no longer tracked here
+      final Iterator<Entry<AirbyteStreamNameNamespacePair, SerializableBuffer>> iterator = allBuffers.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry = iterator.next();
+        LOGGER.info("Flushing buffer of stream {} ({})", entry.getKey().getName(), FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
+        asyncFlusher.submit(entry.getKey(), entry.getValue());
+        iterator.remove();
+      }
+      LOGGER.info("Flushing submitted for all buffers");
+      totalBufferSizeInBytes = 0;
+      return;
+    }
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       LOGGER.info("Flushing buffer of stream {} ({})", entry.getKey().getName(), FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
       onStreamFlush.accept(entry.getKey(), entry.getValue());
@@ -138,6 +194,16 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     totalBufferSizeInBytes = 0;
   }
 
+  @Override
+  public long getLastStartedFlushId() {
+    return asyncFlusher != null ? asyncFlusher.getLastSubmittedFlushId() : BufferingStrategy.super.getLastStartedFlushId();
+  }
+
+  @Override
+  public long getLastCompletedFlushId() {
+    return asyncFlusher != null ? asyncFlusher.getLastCompletedFlushId() : BufferingStrategy.super.getLastCompletedFlushId();
+  }
+
   @Override
   public void clear() throws Exception {
     LOGGER.debug("Reset all buffers");
@@ -156,6 +222,15 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
         LOGGER.error("Exception while closing stream buffer", e);
       }
     }
+    if (asyncFlusher != null) {
+      try {
+        LOGGER.info("Waiting for in-flight flushes to complete");
+        asyncFlusher.close();
+      } catch (final Exception e) {
+        exceptionsThrown.add(e);
+        LOGGER.error("Exception while flushing stream buffers", e);
+      }
+    }
     if (!exceptionsThrown.isEmpty()) {
       throw new RuntimeException(String.format("Exceptions thrown while closing buffers: %s", Strings.join(exceptionsThrown, "\n")));
     }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageStreamReaderTest {
+
+  private static final String STREAM_NAME = "users";
+  private static final Long EMITTED_AT = 1666645627000L;
+
+  private static final AirbyteMessage MESSAGE_1 = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withData(Jsons.deserialize("{ \"color\": \"blue\" }"))
+          .withStream(STREAM_NAME)
+          .withEmittedAt(EMITTED_AT));
+  private static final AirbyteMessage MESSAGE_2 = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withData(Jsons.deserialize("{ \"color\": \"yellow\", \"description\": \"a much longer value than the other record\" }"))
+          .withStream(STREAM_NAME)
+          .withEmittedAt(EMITTED_AT));
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage()
+          .withData(Jsons.deserialize("{ \"checkpoint\": \"1\" }")));
+
+  @Test
+  void testReadsAllLines() throws Exception {
+    final String input = Jsons.serialize(MESSAGE_1) + "\n" + Jsons.serialize(MESSAGE_2) + "\n" + Jsons.serialize(STATE_MESSAGE) + "\n";
+
+    assertEquals(List.of(MESSAGE_1, MESSAGE_2, STATE_MESSAGE), readAll(input, AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testHandlesMixedAndRepeatedDelimiters() throws Exception {
+    final String input = "\r\n" + Jsons.serialize(MESSAGE_1) + "\r\n\r\n" + Jsons.serialize(MESSAGE_2) + "\r\r\n\n" + Jsons.serialize(STATE_MESSAGE);
+
+    assertEquals(List.of(MESSAGE_1, MESSAGE_2, STATE_MESSAGE), readAll(input, AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testLinesLargerThanBuffer() throws Exception {
+    final String input = Jsons.serialize(MESSAGE_1) + "\n" + Jsons.serialize(MESSAGE_2) + "\n" + Jsons.serialize(STATE_MESSAGE);
+
+    assertEquals(List.of(MESSAGE_1, MESSAGE_2, STATE_MESSAGE), readAll(input, 7));
+  }
+
+  @Test
+  void testSkipsInvalidNonStateMessage() throws Exception {
+    final String invalidNonStateMessage = "{ \"type\" : \"NOT_RECOGNIZED\", \"record\" : { \"stream\": \"stream\" } }";
+    final String input = Jsons.serialize(MESSAGE_1) + "\n" + invalidNonStateMessage + "\nnot even json\n" + Jsons.serialize(MESSAGE_2);
+
+    assertEquals(List.of(MESSAGE_1, MESSAGE_2), readAll(input, 16));
+  }
+
+  @Test
+  void testThrowsOnInvalidStateMessage() {
+    final String invalidStateMessage = "{ \"type\" : \"STATE\", \"state\" : { \"type\": \"NOT_RECOGNIZED\" } }";
+    final String input = Jsons.serialize(MESSAGE_1) + "\n" + invalidStateMessage + "\n" + Jsons.serialize(MESSAGE_2);
+
+    assertThrows(IllegalStateException.class, () -> readAll(input, AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testEmptyStream() throws Exception {
+    assertEquals(List.of(), readAll("", AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE));
+    assertEquals(List.of(), readAll("\n\r\n", AirbyteMessageStreamReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  private static List<AirbyteMessage> readAll(final String input, final int bufferSize) throws Exception {
+    final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    new AirbyteMessageStreamReader(channel, bufferSize).forEachRemaining(messages::add);
+    return messages;
+  }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageStreamWriterTest {
+
+  private static final AirbyteMessage RECORD_MESSAGE = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withData(Jsons.deserialize("{ \"color\": \"blue\" }"))
+          .withStream("users")
+          .withEmittedAt(1666645627000L));
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage()
+          .withData(Jsons.deserialize("{ \"checkpoint\": \"1\" }")));
+
+  private ByteArrayOutputStream output;
+  private PrintStream sharedStream;
+
+  @BeforeEach
+  void setup() {
+    output = new ByteArrayOutputStream();
+    sharedStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void testBuffersRecordsUntilState() throws Exception {
+    try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, sharedStream, 1024 * 1024, Duration.ofHours(1))) {
+      writer.accept(RECORD_MESSAGE);
+      writer.accept(RECORD_MESSAGE);
+      assertEquals(List.of(), writtenMessages());
+
+      writer.accept(STATE_MESSAGE);
+      assertEquals(List.of(RECORD_MESSAGE, RECORD_MESSAGE, STATE_MESSAGE), writtenMessages());
+    }
+  }
+
+  @Test
+  void testFlushesOnSizeThreshold() throws Exception {
+    final int recordSize = Jsons.serialize(RECORD_MESSAGE).length() + 1;
+    try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, sharedStream, 2 * recordSize, Duration.ofHours(1))) {
+      writer.accept(RECORD_MESSAGE);
+      assertEquals(List.of(), writtenMessages());
+
+      writer.accept(RECORD_MESSAGE);
+      assertEquals(List.of(RECORD_MESSAGE, RECORD_MESSAGE), writtenMessages());
+    }
+  }
+
+  @Test
+  void testFlushesOnInterval() throws Exception {
+    try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, sharedStream, 1024 * 1024, Duration.ofMillis(100))) {
+      writer.accept(RECORD_MESSAGE);
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (output.size() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(List.of(RECORD_MESSAGE), writtenMessages());
+    }
+  }
+
+  @Test
+  void testFlushesOnClose() throws Exception {
+    final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, sharedStream, 1024 * 1024, Duration.ofHours(1));
+    writer.accept(RECORD_MESSAGE);
+    writer.close();
+
+    assertEquals(List.of(RECORD_MESSAGE), writtenMessages());
+  }
+
+  @Test
+  void testDoesNotInterleaveWithSharedStream() throws Exception {
+    try (final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(output, sharedStream, 1024 * 1024, Duration.ofHours(1))) {
+      writer.accept(RECORD_MESSAGE);
+      sharedStream.println("log line");
+      writer.accept(STATE_MESSAGE);
+    }
+
+    final List<String> lines = Arrays.asList(output.toString(StandardCharsets.UTF_8).split("\n"));
+    assertEquals(3, lines.size());
+    assertEquals("log line", lines.get(0));
+    assertTrue(lines.stream().skip(1).allMatch(line -> Jsons.tryDeserialize(line, AirbyteMessage.class).isPresent()));
+  }
+
+  @Test
+  void testRethrowsFailureOfIntervalFlush() throws Exception {
+    final AtomicBoolean writeFailed = new AtomicBoolean();
+    final OutputStream failingOutput = new OutputStream() {
+
+      @Override
+      public void write(final int b) throws IOException {
+        writeFailed.set(true);
+        throw new IOException("broken pipe");
+      }
+
+    };
+    final AirbyteMessageStreamWriter writer = new AirbyteMessageStreamWriter(failingOutput, sharedStream, 1024 * 1024, Duration.ofMillis(100));
+    writer.accept(RECORD_MESSAGE);
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!writeFailed.get() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+
+    assertThrows(UncheckedIOException.class, () -> writer.accept(RECORD_MESSAGE));
+    assertThrows(IOException.class, writer::close);
+  }
+
+  private List<AirbyteMessage> writtenMessages() {
+    final String written = output.toString(StandardCharsets.UTF_8);
+    if (written.isEmpty()) {
+      return List.of();
+    }
+    assertTrue(written.endsWith("\n"));
+    return Arrays.stream(written.split("\n"))
+        .map(line -> Jsons.deserialize(line, AirbyteMessage.class))
+        .collect(Collectors.toList());
+  }
+
+}
@@ -15,7 +15,6 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,13 +39,18 @@ import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.v0.ConnectorSpecification;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -246,6 +250,88 @@ class IntegrationRunnerTest {
     verify(source).read(CONFIG, CONFIGURED_CATALOG, STATE);
   }
 
+  @Test
+  void testReadWithBufferedOutput() throws Exception {
+    final IntegrationConfig intConfig = IntegrationConfig.read(configPath, configuredCatalogPath, statePath);
+    final AirbyteMessage message1 = new AirbyteMessage().withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(ImmutableMap.of("names", "byron"))));
+    final AirbyteMessage stateMessage = new AirbyteMessage().withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("checkpoint", "1"))));
+    final AirbyteMessage message2 = new AirbyteMessage().withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(ImmutableMap.of("names", "reginald"))));
+
+    when(cliParser.parse(ARGS)).thenReturn(intConfig);
+    when(source.read(CONFIG, CONFIGURED_CATALOG, STATE))
+        .thenReturn(AutoCloseableIterators.fromIterator(MoreIterators.of(message1, stateMessage, message2)));
+
+    final ConnectorSpecification expectedConnSpec = mock(ConnectorSpecification.class);
+    when(source.spec()).thenReturn(expectedConnSpec);
+    when(expectedConnSpec.getConnectionSpecification()).thenReturn(CONFIG);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new IntegrationRunner(cliParser, stdoutConsumer, source, mock(JsonSchemaValidator.class), () -> bufferedWriter(out)).run(ARGS);
+
+    // the last record is only written by the flush on completion
+    assertEquals(List.of(message1, stateMessage, message2), readMessages(out));
+    verify(stdoutConsumer, Mockito.never()).accept(any());
+  }
+
+  @Test
+  void testReadWithBufferedOutputFlushesBeforeException() throws Exception {
+    final IntegrationConfig intConfig = IntegrationConfig.read(configPath, configuredCatalogPath, statePath);
+    final AirbyteMessage message1 = new AirbyteMessage().withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(ImmutableMap.of("names", "byron"))));
+    final RuntimeException readException = new RuntimeException("induced read failure");
+    final Iterator<AirbyteMessage> failingIterator = new Iterator<>() {
+
+      private boolean emitted;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public AirbyteMessage next() {
+        if (emitted) {
+          throw readException;
+        }
+        emitted = true;
+        return message1;
+      }
+
+    };
+
+    when(cliParser.parse(ARGS)).thenReturn(intConfig);
+    when(source.read(CONFIG, CONFIGURED_CATALOG, STATE)).thenReturn(AutoCloseableIterators.fromIterator(failingIterator));
+
+    final ConnectorSpecification expectedConnSpec = mock(ConnectorSpecification.class);
+    when(source.spec()).thenReturn(expectedConnSpec);
+    when(expectedConnSpec.getConnectionSpecification()).thenReturn(CONFIG);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Throwable throwable = catchThrowable(
+        () -> new IntegrationRunner(cliParser, stdoutConsumer, source, mock(JsonSchemaValidator.class), () -> bufferedWriter(out)).run(ARGS));
+
+    assertThat(throwable).isSameAs(readException);
+    assertEquals(List.of(message1), readMessages(out));
+  }
+
+  /**
+   * @return a writer which only writes its messages to out when flushed explicitly or after a
+   *         non-record message
+   */
+  private static AirbyteMessageStreamWriter bufferedWriter(final ByteArrayOutputStream out) {
+    return new AirbyteMessageStreamWriter(out, new PrintStream(OutputStream.nullOutputStream()),
+        AirbyteMessageStreamWriter.DEFAULT_FLUSH_THRESHOLD_BYTES, Duration.ofDays(1));
+  }
+
+  private static List<AirbyteMessage> readMessages(final ByteArrayOutputStream out) {
+    return out.toString(StandardCharsets.UTF_8).lines()
+        .map(line -> Jsons.deserialize(line, AirbyteMessage.class))
+        .collect(Collectors.toList());
+  }
+
   @Test
   void testCheckNestedException() throws Exception {
     final IntegrationConfig intConfig = IntegrationConfig.check(configPath);
@@ -444,48 +530,4 @@ class IntegrationRunnerTest {
     assertEquals("1.0.1-alpha", IntegrationRunner.parseConnectorVersion(":1.0.1-alpha"));
   }
 
-  @Test
-  void testConsumptionOfInvalidStateMessage() {
-    final String invalidStateMessage = """
-                                       {
-                                         "type" : "STATE",
-                                         "state" : {
-                                           "type": "NOT_RECOGNIZED",
-                                           "global": {
-                                             "streamStates": {
-                                               "foo" : "bar"
-                                             }
-                                           }
-                                         }
-                                       }
-                                       """;
-
-    Assertions.assertThrows(IllegalStateException.class, () -> {
-      try (final AirbyteMessageConsumer consumer = mock(AirbyteMessageConsumer.class)) {
-        IntegrationRunner.consumeMessage(consumer, invalidStateMessage);
-      }
-    });
-  }
-
-  @Test
-  void testConsumptionOfInvalidNonStateMessage() {
-    final String invalidNonStateMessage = """
-                                          {
-                                            "type" : "NOT_RECOGNIZED",
-                                            "record" : {
-                                              "namespace": "namespace",
-                                              "stream": "stream",
-                                              "emittedAt": 123456789
-                                            }
-                                          }
-                                          """;
-
-    Assertions.assertDoesNotThrow(() -> {
-      try (final AirbyteMessageConsumer consumer = mock(AirbyteMessageConsumer.class)) {
-        IntegrationRunner.consumeMessage(consumer, invalidNonStateMessage);
-        verify(consumer, times(0)).accept(any(AirbyteMessage.class));
-      }
-    });
-  }
-
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -20,6 +21,8 @@ import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.record_buffer.BufferFlushType;
+import io.airbyte.integrations.destination.record_buffer.BufferingStrategy;
 import io.airbyte.integrations.destination.record_buffer.InMemoryRecordBufferingStrategy;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
@@ -34,7 +37,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -352,6 +357,88 @@ public class BufferedStreamConsumerTest {
     verify(outputRecordCollector).accept(STATE_MESSAGE2);
   }
 
+  @Test
+  void testStateEmittedOnceAsyncFlushCompletes() throws Exception {
+    final AtomicLong lastCompletedFlushId = new AtomicLong(0L);
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    when(bufferingStrategy.getLastStartedFlushId()).thenReturn(1L);
+    when(bufferingStrategy.getLastCompletedFlushId()).thenAnswer(invocation -> lastCompletedFlushId.get());
+    when(bufferingStrategy.addRecord(any(), any()))
+        .thenReturn(Optional.of(BufferFlushType.FLUSH_ALL))
+        .thenReturn(Optional.empty());
+    final BufferedStreamConsumer asyncConsumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        bufferingStrategy,
+        onClose,
+        CATALOG,
+        isValidRecord);
+    final List<AirbyteMessage> records = generateRecords(320L);
+
+    asyncConsumer.start();
+    asyncConsumer.accept(STATE_MESSAGE1);
+    // triggers a flush which is still in flight, the state cannot be emitted yet
+    asyncConsumer.accept(records.get(0));
+    verify(outputRecordCollector, never()).accept(STATE_MESSAGE1);
+
+    lastCompletedFlushId.set(1L);
+    asyncConsumer.accept(records.get(1));
+    verify(outputRecordCollector, times(1)).accept(STATE_MESSAGE1);
+
+    asyncConsumer.close();
+    verifyStartAndClose();
+    verify(outputRecordCollector, times(1)).accept(STATE_MESSAGE1);
+  }
+
+  @Test
+  void testDestinationClosedWhenBuffersFailToClose() throws Exception {
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    when(bufferingStrategy.addRecord(any(), any())).thenReturn(Optional.empty());
+    doThrow(new RuntimeException("induced flush failure")).when(bufferingStrategy).close();
+    final BufferedStreamConsumer asyncConsumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        bufferingStrategy,
+        onClose,
+        CATALOG,
+        isValidRecord);
+
+    asyncConsumer.start();
+    consumeRecords(asyncConsumer, generateRecords(10));
+    assertThrows(RuntimeException.class, asyncConsumer::close);
+
+    verifyStartAndCloseFailure();
+    verify(outputRecordCollector, never()).accept(any());
+  }
+
+  @Test
+  void testStateOfFailedAsyncFlushNotEmitted() throws Exception {
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    // the flush started for the state never completes
+    when(bufferingStrategy.getLastStartedFlushId()).thenReturn(1L);
+    when(bufferingStrategy.getLastCompletedFlushId()).thenReturn(0L);
+    when(bufferingStrategy.addRecord(any(), any()))
+        .thenReturn(Optional.of(BufferFlushType.FLUSH_ALL))
+        .thenReturn(Optional.empty());
+    doThrow(new RuntimeException("induced flush failure")).when(bufferingStrategy).close();
+    final BufferedStreamConsumer asyncConsumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        bufferingStrategy,
+        onClose,
+        CATALOG,
+        isValidRecord);
+
+    asyncConsumer.start();
+    asyncConsumer.accept(STATE_MESSAGE1);
+    consumeRecords(asyncConsumer, generateRecords(10));
+    assertThrows(RuntimeException.class, asyncConsumer::close);
+
+    verifyStartAndCloseFailure();
+    verify(onClose, never()).accept(false);
+    verify(outputRecordCollector, never()).accept(any());
+  }
+
   private BufferedStreamConsumer getConsumerWithFlushFrequency() {
     final BufferedStreamConsumer flushFrequencyConsumer = new BufferedStreamConsumer(
         outputRecordCollector,
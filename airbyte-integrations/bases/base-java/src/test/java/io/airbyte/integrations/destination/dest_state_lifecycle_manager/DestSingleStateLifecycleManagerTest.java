@@ -138,4 +138,24 @@ class DestSingleStateLifecycleManagerTest {
     assertEquals(MESSAGE2, mgr.listCommitted().poll());
   }
 
+  @Test
+  void testCommittedUpToFlushId() {
+    mgr.addState(MESSAGE1);
+    mgr.markPendingAsFlushed(1);
+    mgr.addState(MESSAGE2);
+    mgr.markPendingAsFlushed(3);
+
+    // the state waiting on flush 3 is the latest flushed one
+    assertEquals(MESSAGE2, mgr.listFlushed().poll());
+
+    // flush 3 has not completed yet, only the state waiting on flush 1 can be committed
+    mgr.markFlushedAsCommitted(2);
+    assertEquals(MESSAGE2, mgr.listFlushed().poll());
+    assertEquals(MESSAGE1, mgr.listCommitted().poll());
+
+    mgr.markFlushedAsCommitted(3);
+    assertTrue(mgr.listFlushed().isEmpty());
+    assertEquals(MESSAGE2, mgr.listCommitted().poll());
+  }
+
 }
@@ -159,4 +159,25 @@ class DestStreamStateLifecycleManagerTest {
     assertEquals(new LinkedList<>(List.of(STREAM1_MESSAGE1)), mgr.listCommitted());
   }
 
+  @Test
+  void testCommittedUpToFlushId() {
+    mgr.addState(STREAM1_MESSAGE1);
+    mgr.addState(STREAM2_MESSAGE1);
+    mgr.markPendingAsFlushed(1);
+    mgr.addState(STREAM1_MESSAGE2);
+    mgr.markPendingAsFlushed(3);
+
+    // latest flushed state of each stream
+    assertEquals(new LinkedList<>(List.of(STREAM1_MESSAGE2, STREAM2_MESSAGE1)), mgr.listFlushed());
+
+    // flush 3 has not completed yet, only the states waiting on flush 1 can be committed
+    mgr.markFlushedAsCommitted(2);
+    assertEquals(new LinkedList<>(List.of(STREAM1_MESSAGE2)), mgr.listFlushed());
+    assertEquals(new LinkedList<>(List.of(STREAM1_MESSAGE1, STREAM2_MESSAGE1)), mgr.listCommitted());
+
+    mgr.markFlushedAsCommitted(3);
+    assertTrue(mgr.listFlushed().isEmpty());
+    assertEquals(new LinkedList<>(List.of(STREAM1_MESSAGE2, STREAM2_MESSAGE1)), mgr.listCommitted());
+  }
+
 }
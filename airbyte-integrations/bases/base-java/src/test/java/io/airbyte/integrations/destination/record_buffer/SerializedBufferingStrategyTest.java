@@ -23,6 +23,7 @@ import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
 import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -203,6 +204,53 @@ public class SerializedBufferingStrategyTest {
     assertThrows(RuntimeException.class, () -> buffering.addRecord(stream, generateMessage(stream)));
   }
 
+  @Test
+  public void testAsyncFlushAll() throws Exception {
+    final CountDownLatch flushLatch = new CountDownLatch(1);
+    final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> blockingFlushHook = (stream, buffer) -> {
+      flushLatch.await();
+      perStreamFlushHook.accept(stream, buffer);
+    };
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, blockingFlushHook, 2, MAX_TOTAL_BUFFER_SIZE_BYTES);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)).isPresent());
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)).isPresent());
+    buffering.flushAll();
+
+    // flushAll returns while the buffers are still being flushed
+    assertEquals(2L, buffering.getLastStartedFlushId());
+    assertEquals(0L, buffering.getLastCompletedFlushId());
+    verify(perStreamFlushHook, times(0)).accept(any(), any());
+
+    flushLatch.countDown();
+    buffering.close();
+    assertEquals(2L, buffering.getLastCompletedFlushId());
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    verify(recordWriter1).close();
+    verify(recordWriter2).close();
+  }
+
+  @Test
+  public void testAsyncFlushFailure() throws Exception {
+    final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> failingFlushHook = (stream, buffer) -> {
+      throw new IllegalStateException("flush failed");
+    };
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, failingFlushHook, 1, MAX_TOTAL_BUFFER_SIZE_BYTES);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)).isPresent());
+    buffering.flushAll();
+
+    // the failure surfaces once the flush completed, and its states are never committed
+    assertThrows(RuntimeException.class, buffering::close);
+    assertEquals(0L, buffering.getLastCompletedFlushId());
+  }
+
   private static AirbyteMessage generateMessage(final AirbyteStreamNameNamespacePair stream) {
     return new AirbyteMessage().withRecord(new AirbyteRecordMessage()
         .withStream(stream.getName())
@@ -70,7 +70,7 @@ public class AirbyteDebeziumHandler {
         schemaHistoryManager(new EmptySavedInfo()));
     tableSnapshotPublisher.start(queue);
 
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         tableSnapshotPublisher::hasClosed,
@@ -102,7 +102,7 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
@@ -147,7 +147,7 @@ public class AirbyteDebeziumHandler {
     }
 
     @Override
-    public Optional<JsonNode> getSavedSchemaHistory() {
+    public Optional<SchemaHistory<JsonNode>> getSavedSchemaHistory() {
       return Optional.empty();
     }
 
@@ -15,6 +15,6 @@ public interface CdcSavedInfoFetcher {
 
   JsonNode getSavedOffset();
 
-  Optional<JsonNode> getSavedSchemaHistory();
+  Optional<SchemaHistory<JsonNode>> getSavedSchemaHistory();
 
 }
@@ -5,7 +5,6 @@
 package io.airbyte.integrations.debezium;
 
 import io.airbyte.protocol.models.v0.AirbyteMessage;
-import io.debezium.engine.ChangeEvent;
 import java.util.Map;
 
 /**
@@ -14,7 +13,7 @@ import java.util.Map;
  */
 public interface CdcStateHandler {
 
-  AirbyteMessage saveState(Map<String, String> offset, String dbHistory);
+  AirbyteMessage saveState(Map<String, String> offset, SchemaHistory<String> dbHistory);
 
   AirbyteMessage saveStateAfterCompletionOfSnapshotOfNewStreams();
 
@@ -24,7 +23,7 @@ public interface CdcStateHandler {
    * @param event Event from the CDC load
    * @return Returns `true` when the DB event is part of the snapshot load. Otherwise, returns `false`
    */
-  default boolean isSnapshotEvent(final ChangeEvent<String, String> event) {
+  default boolean isSnapshotEvent(final ChangeEventWithMetadata event) {
     return false;
   }
 
@@ -36,7 +35,7 @@ public interface CdcStateHandler {
    * @param event Event from the CDC load
    * @return Returns `true` when the record is behind the offset. Otherwise, it returns `false`
    */
-  default boolean isRecordBehindOffset(final Map<String, String> offset, final ChangeEvent<String, String> event) {
+  default boolean isRecordBehindOffset(final Map<String, String> offset, final ChangeEventWithMetadata event) {
     return false;
   }
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
+import io.airbyte.integrations.debezium.internals.SnapshotMetadata;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A change event produced by debezium, with its value parsed once when it is taken from the queue of
+ * the publisher. The parsed value is passed down to the checks of the target position and of the
+ * state, and is turned into the record last.
+ */
+public class ChangeEventWithMetadata {
+
+  private static final String SOURCE = "source";
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+  private final SnapshotMetadata snapshotMetadata;
+
+  public ChangeEventWithMetadata(final ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+    // heartbeats have no source
+    final JsonNode source = eventValueAsJson.get(SOURCE);
+    this.snapshotMetadata = source != null ? SnapshotMetadata.fromString(source.get("snapshot").asText()) : null;
+  }
+
+  public ChangeEvent<String, String> event() {
+    return event;
+  }
+
+  /**
+   * @return the parsed value of the event, which becomes the data of the record once converted by
+   *         {@link DebeziumEventUtils#toAirbyteMessage}
+   */
+  public JsonNode eventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+  public boolean hasSource() {
+    return eventValueAsJson.has(SOURCE);
+  }
+
+  public SnapshotMetadata snapshotMetadata() {
+    return snapshotMetadata;
+  }
+
+  public boolean isSnapshotEvent() {
+    return SnapshotMetadata.isSnapshotEventMetadata(snapshotMetadata);
+  }
+
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+/**
+ * Schema history of debezium as saved in state, along with whether it was saved compressed. The
+ * history saved by versions which did not compress it is not flagged as compressed.
+ *
+ * @param schema the saved history
+ * @param isCompressed whether the saved history is gzipped and base64 encoded
+ * @param <T> type of the saved history
+ */
+public record SchemaHistory<T> (T schema, boolean isCompressed) {}
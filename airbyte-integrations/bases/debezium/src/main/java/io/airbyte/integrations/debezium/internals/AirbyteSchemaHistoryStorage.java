@@ -6,18 +6,28 @@ package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.debezium.SchemaHistory;
 import io.debezium.document.Document;
 import io.debezium.document.DocumentReader;
 import io.debezium.document.DocumentWriter;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Base64;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.io.FileUtils;
 
 /**
@@ -25,6 +35,11 @@ import org.apache.commons.io.FileUtils;
  * the schema history at the end of the sync so that it can be saved in state for future syncs.
  * Check {@link #read()} 2. Write the saved content back to the file {@link #path} at the beginning
  * of the sync so that debezium can function smoothly. Check persist(Optional&lt;JsonNode&gt;).
+ *
+ * <p>
+ * The history is saved gzipped and base64 encoded, and flagged as such in state. The history saved
+ * by previous versions, as the lines of the file and without that flag, is still read back.
+ * </p>
  */
 public class AirbyteSchemaHistoryStorage {
 
@@ -33,6 +48,11 @@ public class AirbyteSchemaHistoryStorage {
   private final DocumentReader reader = DocumentReader.defaultReader();
   private final DocumentWriter writer = DocumentWriter.defaultWriter();
 
+  // the history is only compressed again once debezium appended to the file
+  private long readSize = -1;
+  private FileTime readModifiedTime;
+  private String readHistory;
+
   public AirbyteSchemaHistoryStorage(final Path path) {
     this.path = path;
   }
@@ -41,23 +61,32 @@ public class AirbyteSchemaHistoryStorage {
     return path;
   }
 
-  public String read() {
-    final StringBuilder fileAsString = new StringBuilder();
+  public SchemaHistory<String> read() {
     try {
-      for (final String line : Files.readAllLines(path, UTF8)) {
-        if (line != null && !line.isEmpty()) {
-          final Document record = reader.read(line);
-          final String recordAsString = writer.write(record);
-          fileAsString.append(recordAsString);
-          fileAsString.append(System.lineSeparator());
-        }
+      final long size = Files.size(path);
+      final FileTime modifiedTime = Files.getLastModifiedTime(path);
+      if (readHistory == null || size != readSize || !modifiedTime.equals(readModifiedTime)) {
+        readHistory = compress();
+        readSize = size;
+        readModifiedTime = modifiedTime;
       }
-      return fileAsString.toString();
+      return new SchemaHistory<>(readHistory, true);
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Debezium writes one document per line, so the file is compressed as it is rather than parsed.
+   */
+  private String compress() throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (final OutputStream out = new GZIPOutputStream(Base64.getEncoder().wrap(compressed))) {
+      Files.copy(path, out);
+    }
+    return compressed.toString(StandardCharsets.US_ASCII);
+  }
+
   private void makeSureFileExists() {
     try {
       // Make sure the file exists ...
@@ -78,47 +107,51 @@ public class AirbyteSchemaHistoryStorage {
     }
   }
 
-  public void persist(final Optional<JsonNode> schemaHistory) {
-    if (schemaHistory.isEmpty()) {
+  public void persist(final Optional<SchemaHistory<JsonNode>> schemaHistory) {
+    if (schemaHistory.isEmpty() || schemaHistory.get().schema() == null) {
       return;
     }
-    final String fileAsString = Jsons.object(schemaHistory.get(), String.class);
+    final String savedHistory = Jsons.object(schemaHistory.get().schema(), String.class);
 
-    if (fileAsString == null || fileAsString.isEmpty()) {
+    if (savedHistory == null || savedHistory.isEmpty()) {
       return;
     }
 
     FileUtils.deleteQuietly(path.toFile());
     makeSureFileExists();
-    writeToFile(fileAsString);
+    if (schemaHistory.get().isCompressed()) {
+      writeCompressedToFile(savedHistory);
+    } else {
+      writeToFile(savedHistory);
+    }
+  }
+
+  private void writeCompressedToFile(final String savedHistory) {
+    try (final InputStream in = new GZIPInputStream(Base64.getDecoder().wrap(
+        new ByteArrayInputStream(savedHistory.getBytes(StandardCharsets.US_ASCII))))) {
+      Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   /**
-   * @param fileAsString Represents the contents of the file saved in state from previous syncs
+   * @param fileAsString Represents the contents of the file saved in state by previous versions,
+   *        which is read line by line
    */
   private void writeToFile(final String fileAsString) {
-    try {
-      final String[] split = fileAsString.split(System.lineSeparator());
-      for (final String element : split) {
+    try (final BufferedWriter historyWriter = Files.newBufferedWriter(path, UTF8, StandardOpenOption.APPEND)) {
+      for (final String element : fileAsString.split(System.lineSeparator())) {
         final Document read = reader.read(element);
-        final String line = writer.write(read);
-
-        try (final BufferedWriter historyWriter = Files
-            .newBufferedWriter(path, StandardOpenOption.APPEND)) {
-          try {
-            historyWriter.append(line);
-            historyWriter.newLine();
-          } catch (final IOException e) {
-            throw new RuntimeException(e);
-          }
-        }
+        historyWriter.append(writer.write(read));
+        historyWriter.newLine();
       }
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
   }
 
-  public static AirbyteSchemaHistoryStorage initializeDBHistory(final Optional<JsonNode> schemaHistory) {
+  public static AirbyteSchemaHistoryStorage initializeDBHistory(final Optional<SchemaHistory<JsonNode>> schemaHistory) {
     final Path dbHistoryWorkingDir;
     try {
       dbHistoryWorkingDir = Files.createTempDirectory(Path.of("/tmp"), "cdc-db-history");
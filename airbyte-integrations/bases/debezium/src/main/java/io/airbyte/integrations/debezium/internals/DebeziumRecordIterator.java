@@ -4,21 +4,19 @@
 
 package io.airbyte.integrations.debezium.internals;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.concurrency.VoidCallable;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
+import io.airbyte.integrations.debezium.ChangeEventWithMetadata;
 import io.debezium.engine.ChangeEvent;
 import java.lang.reflect.Field;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -37,8 +35,8 @@ import org.slf4j.LoggerFactory;
  * publisher is not closed. Even after the publisher is closed, the consumer will finish processing
  * any produced records before closing.
  */
-public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String, String>>
-    implements AutoCloseableIterator<ChangeEvent<String, String>> {
+public class DebeziumRecordIterator extends AbstractIterator<ChangeEventWithMetadata>
+    implements AutoCloseableIterator<ChangeEventWithMetadata> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordIterator.class);
 
@@ -84,7 +82,7 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   // 4. If change event lsn reached target finish sync
   // 5. Otherwise check message queuen again
   @Override
-  protected ChangeEvent<String, String> computeNext() {
+  protected ChangeEventWithMetadata computeNext() {
     // keep trying until the publisher is closed or until the queue is empty. the latter case is
     // possible when the publisher has shutdown but the consumer has not yet processed all messages it
     // emitted.
@@ -110,7 +108,9 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
         continue;
       }
 
-      if (isHeartbeatEvent(next)) {
+      // the value of the event is parsed once, here, for the checks below as well as for the record
+      final ChangeEventWithMetadata changeEventWithMetadata = new ChangeEventWithMetadata(next);
+      if (isHeartbeatEvent(changeEventWithMetadata)) {
         if (!hasSnapshotFinished) {
           continue;
         }
@@ -129,11 +129,10 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
         continue;
       }
 
-      final JsonNode eventAsJson = Jsons.deserialize(next.value());
-      hasSnapshotFinished = hasSnapshotFinished(eventAsJson);
+      hasSnapshotFinished = !changeEventWithMetadata.isSnapshotEvent();
 
       // if the last record matches the target file position, it is time to tell the producer to shutdown.
-      if (targetPosition.reachedTargetPosition(eventAsJson)) {
+      if (targetPosition.reachedTargetPosition(changeEventWithMetadata.eventValueAsJson())) {
         LOGGER.info("Closing: Change event reached target position");
         requestClose();
       }
@@ -141,7 +140,7 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
       this.lastHeartbeatPosition = -1L;
       this.receivedFirstRecord = true;
       this.maxInstanceOfNoRecordsFound = 0;
-      return next;
+      return changeEventWithMetadata;
     }
     return endOfData();
   }
@@ -173,8 +172,8 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
     requestClose();
   }
 
-  private boolean isHeartbeatEvent(final ChangeEvent<String, String> event) {
-    return targetPosition.isHeartbeatSupported() && Objects.nonNull(event) && !event.value().contains("source");
+  private boolean isHeartbeatEvent(final ChangeEventWithMetadata event) {
+    return targetPosition.isHeartbeatSupported() && !event.hasSource();
   }
 
   private boolean heartbeatPosNotChanging() {
@@ -184,11 +183,6 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
     return timeElapsedSinceLastHeartbeatTs.compareTo(this.firstRecordWaitTime.dividedBy(2)) > 0;
   }
 
-  private boolean hasSnapshotFinished(final JsonNode eventAsJson) {
-    final SnapshotMetadata snapshotMetadata = SnapshotMetadata.fromString(eventAsJson.get("source").get("snapshot").asText());
-    return !SnapshotMetadata.isSnapshotEventMetadata(snapshotMetadata);
-  }
-
   private void requestClose() {
     try {
       requestClose.call();
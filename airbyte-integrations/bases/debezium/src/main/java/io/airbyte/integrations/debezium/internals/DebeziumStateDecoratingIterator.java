@@ -7,9 +7,9 @@ package io.airbyte.integrations.debezium.internals;
 import com.google.common.collect.AbstractIterator;
 import io.airbyte.integrations.debezium.CdcMetadataInjector;
 import io.airbyte.integrations.debezium.CdcStateHandler;
+import io.airbyte.integrations.debezium.ChangeEventWithMetadata;
 import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteStateMessage;
-import io.debezium.engine.ChangeEvent;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
@@ -31,7 +31,7 @@ public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMes
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumStateDecoratingIterator.class);
 
-  private final Iterator<ChangeEvent<String, String>> changeEventIterator;
+  private final Iterator<ChangeEventWithMetadata> changeEventIterator;
   private final CdcStateHandler cdcStateHandler;
   private final AirbyteFileOffsetBackingStore offsetManager;
   private final boolean trackSchemaHistory;
@@ -86,7 +86,7 @@ public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMes
    * @param checkpointDuration Duration object with time between syncs
    * @param checkpointRecords Number of records between syncs
    */
-  public DebeziumStateDecoratingIterator(final Iterator<ChangeEvent<String, String>> changeEventIterator,
+  public DebeziumStateDecoratingIterator(final Iterator<ChangeEventWithMetadata> changeEventIterator,
                                          final CdcStateHandler cdcStateHandler,
                                          final CdcMetadataInjector cdcMetadataInjector,
                                          final Instant emittedAt,
@@ -137,7 +137,7 @@ public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMes
 
     if (changeEventIterator.hasNext()) {
       try {
-        final ChangeEvent<String, String> event = changeEventIterator.next();
+        final ChangeEventWithMetadata event = changeEventIterator.next();
         recordsLastSync++;
 
         if (checkpointOffsetToSend.size() == 0 &&
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.integrations.debezium.internals.SnapshotMetadata;
+import io.debezium.engine.ChangeEvent;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class ChangeEventWithMetadataTest {
+
+  @Test
+  void testReadsSnapshotMetadataOfSource() throws IOException {
+    final ChangeEventWithMetadata event = new ChangeEventWithMetadata(mockChangeEvent(MoreResources.readResource("insert_change_event.json")));
+
+    assertTrue(event.hasSource());
+    assertEquals(SnapshotMetadata.TRUE, event.snapshotMetadata());
+    assertTrue(event.isSnapshotEvent());
+  }
+
+  @Test
+  void testHeartbeatHasNoSource() {
+    // only a source at the top level of the value marks a change event, a nested one does not
+    final ChangeEventWithMetadata event = new ChangeEventWithMetadata(
+        mockChangeEvent("{ \"ts_ms\": 1666645627000, \"payload\": { \"source\": { \"snapshot\": \"true\" } } }"));
+
+    assertFalse(event.hasSource());
+    assertNull(event.snapshotMetadata());
+    assertFalse(event.isSnapshotEvent());
+  }
+
+  private static ChangeEvent<String, String> mockChangeEvent(final String value) {
+    final ChangeEvent<String, String> mocked = mock(ChangeEvent.class);
+    when(mocked.value()).thenReturn(value);
+    return mocked;
+  }
+
+}
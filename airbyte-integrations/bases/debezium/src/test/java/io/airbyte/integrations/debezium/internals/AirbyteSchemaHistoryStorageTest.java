@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.debezium.SchemaHistory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AirbyteSchemaHistoryStorageTest {
+
+  private static final List<String> HISTORY = List.of(
+      "{\"source\":{\"server\":\"db\"},\"position\":{\"pos\":1},\"databaseName\":\"db\",\"ddl\":\"CREATE TABLE a (id INT)\"}",
+      "{\"source\":{\"server\":\"db\"},\"position\":{\"pos\":2},\"databaseName\":\"db\",\"ddl\":\"ALTER TABLE a ADD name TEXT\"}");
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testSavesCompressedHistory() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = new AirbyteSchemaHistoryStorage(tempDir.resolve("saved.dat"));
+    Files.write(storage.getPath(), HISTORY);
+
+    final SchemaHistory<String> savedHistory = storage.read();
+    assertTrue(savedHistory.isCompressed());
+    assertFalse(savedHistory.schema().contains("CREATE TABLE"));
+
+    final AirbyteSchemaHistoryStorage restored = new AirbyteSchemaHistoryStorage(tempDir.resolve("restored.dat"));
+    restored.persist(Optional.of(new SchemaHistory<>(Jsons.jsonNode(savedHistory.schema()), true)));
+    assertEquals(HISTORY, Files.readAllLines(restored.getPath()));
+  }
+
+  @Test
+  void testCompressesHistoryAgainOnlyOnceAppended() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = new AirbyteSchemaHistoryStorage(tempDir.resolve("saved.dat"));
+    Files.write(storage.getPath(), HISTORY.subList(0, 1));
+
+    final String savedHistory = storage.read().schema();
+    assertSame(savedHistory, storage.read().schema());
+
+    Files.write(storage.getPath(), HISTORY.subList(1, 2), StandardOpenOption.APPEND);
+    assertNotEquals(savedHistory, storage.read().schema());
+  }
+
+  @Test
+  void testRestoresLegacyUncompressedHistory() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = new AirbyteSchemaHistoryStorage(tempDir.resolve("restored.dat"));
+    final String savedHistory = String.join(System.lineSeparator(), HISTORY) + System.lineSeparator();
+
+    storage.persist(Optional.of(new SchemaHistory<>(Jsons.jsonNode(savedHistory), false)));
+    final List<String> restoredHistory = Files.readAllLines(storage.getPath());
+    assertEquals(HISTORY.size(), restoredHistory.size());
+    assertTrue(restoredHistory.get(1).contains("ALTER TABLE a ADD name TEXT"));
+  }
+
+}
@@ -4,8 +4,6 @@
 
 package io.airbyte.integrations.destination.cassandra;
 
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.now;
-
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
@@ -18,11 +16,15 @@ import io.airbyte.integrations.base.JavaBaseConstants;
 import java.io.Closeable;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +35,9 @@ class CassandraCqlProvider implements Closeable {
 
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // maximum number of asynchronous inserts waiting for a response
+  static final int MAX_IN_FLIGHT_INSERTS = 512;
+
   private final ExecutorService executorService;
 
   private final CqlSession cqlSession;
@@ -45,6 +50,12 @@ class CassandraCqlProvider implements Closeable {
 
   private final String columnTimestamp;
 
+  private final Map<String, PreparedStatement> insertStatements = new ConcurrentHashMap<>();
+
+  private final Semaphore inFlightInserts = new Semaphore(MAX_IN_FLIGHT_INSERTS);
+
+  private final AtomicReference<Throwable> insertFailure = new AtomicReference<>();
+
   public CassandraCqlProvider(CassandraConfig cassandraConfig) {
     this.cassandraConfig = cassandraConfig;
     this.cqlSession = SessionManager.initSession(cassandraConfig);
@@ -81,12 +92,56 @@ class CassandraCqlProvider implements Closeable {
   }
 
   public void insert(String keyspace, String tableName, String jsonData) {
-    var query = QueryBuilder.insertInto(keyspace, tableName)
-        .value(columnId, QueryBuilder.literal(Uuids.random()))
-        .value(columnData, QueryBuilder.literal(jsonData))
-        .value(columnTimestamp, QueryBuilder.toTimestamp(now()))
-        .build();
-    cqlSession.execute(query);
+    cqlSession.execute(bindInsert(keyspace, tableName, jsonData));
+  }
+
+  /**
+   * Inserts the data without waiting for the response, once fewer than
+   * {@link #MAX_IN_FLIGHT_INSERTS} inserts are in flight. A failure of an earlier insert is thrown
+   * by the next call to this method or to {@link #awaitInserts()}.
+   */
+  public void insertAsync(String keyspace, String tableName, String jsonData) {
+    throwIfInsertFailed();
+    inFlightInserts.acquireUninterruptibly();
+    try {
+      cqlSession.executeAsync(bindInsert(keyspace, tableName, jsonData))
+          .whenComplete((result, error) -> {
+            if (error != null) {
+              insertFailure.compareAndSet(null, error);
+            }
+            inFlightInserts.release();
+          });
+    } catch (RuntimeException e) {
+      inFlightInserts.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Waits for every insert started by {@link #insertAsync(String, String, String)} to complete.
+   */
+  public void awaitInserts() {
+    inFlightInserts.acquireUninterruptibly(MAX_IN_FLIGHT_INSERTS);
+    inFlightInserts.release(MAX_IN_FLIGHT_INSERTS);
+    throwIfInsertFailed();
+  }
+
+  private BoundStatement bindInsert(String keyspace, String tableName, String jsonData) {
+    // the driver routes bound statements to a replica of their partition
+    return insertStatements.computeIfAbsent(keyspace + "." + tableName, k -> cqlSession.prepare(
+        QueryBuilder.insertInto(keyspace, tableName)
+            .value(columnId, QueryBuilder.bindMarker())
+            .value(columnData, QueryBuilder.bindMarker())
+            .value(columnTimestamp, QueryBuilder.bindMarker())
+            .build()))
+        .bind(Uuids.random(), jsonData, Instant.now());
+  }
+
+  private void throwIfInsertFailed() {
+    var failure = insertFailure.get();
+    if (failure != null) {
+      throw new RuntimeException("Failed to insert data", failure);
+    }
   }
 
   public void truncate(String keyspace, String tableName) {
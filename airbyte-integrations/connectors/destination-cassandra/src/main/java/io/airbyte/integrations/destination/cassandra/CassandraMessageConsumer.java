@@ -63,8 +63,10 @@ class CassandraMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
         throw new IllegalArgumentException("Unrecognized destination stream");
       }
       var data = Jsons.serialize(messageRecord.getData());
-      cassandraCqlProvider.insert(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
+      cassandraCqlProvider.insertAsync(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
+      // the state covers every record received before it
+      cassandraCqlProvider.awaitInserts();
       outputRecordCollector.accept(message);
     } else {
       LOGGER.warn("Unsupported airbyte message type: {}", message.getType());
@@ -73,7 +75,14 @@ class CassandraMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   @Override
   protected void close(final boolean hasFailed) {
-    if (!hasFailed) {
+    RuntimeException insertFailure = null;
+    try {
+      cassandraCqlProvider.awaitInserts();
+    } catch (final RuntimeException e) {
+      LOGGER.error("Error while inserting data: ", e);
+      insertFailure = e;
+    }
+    if (!hasFailed && insertFailure == null) {
       cassandraStreams.forEach((k, v) -> {
         try {
           cassandraCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
@@ -102,6 +111,9 @@ class CassandraMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
     });
     cassandraCqlProvider.close();
 
+    if (!hasFailed && insertFailure != null) {
+      throw insertFailure;
+    }
   }
 
 }
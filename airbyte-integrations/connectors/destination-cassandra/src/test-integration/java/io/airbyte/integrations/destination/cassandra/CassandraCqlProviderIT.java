@@ -76,6 +76,25 @@ class CassandraCqlProviderIT {
 
   }
 
+  @Test
+  void testInsertAsync() {
+    // given, more records than inserts in flight
+    var count = 2 * CassandraCqlProvider.MAX_IN_FLIGHT_INSERTS;
+    for (int i = 0; i < count; i++) {
+      cassandraCqlProvider.insertAsync(CASSANDRA_KEYSPACE, CASSANDRA_TABLE, "{\"property\":\"data" + i + "\"}");
+    }
+
+    // when
+    cassandraCqlProvider.awaitInserts();
+    var resultSet = cassandraCqlProvider.select(CASSANDRA_KEYSPACE, CASSANDRA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(count)
+        .anyMatch(r -> r.getData().equals("{\"property\":\"data0\"}"));
+  }
+
   @Test
   void testTruncate() {
     // given
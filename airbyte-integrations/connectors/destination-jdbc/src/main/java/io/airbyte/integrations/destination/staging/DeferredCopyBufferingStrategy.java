@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.staging;
+
+import io.airbyte.integrations.destination.record_buffer.BufferFlushType;
+import io.airbyte.integrations.destination.record_buffer.BufferingStrategy;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import java.util.Optional;
+
+/**
+ * Buffering strategy whose flushes upload buffers to the staging area, leaving the copy of the
+ * staged files into the raw tables to a {@link StagedFilesCopier}.
+ *
+ * <p>
+ * A flush is only reported as completed once the files it staged have been copied, so that
+ * {@link io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStreamConsumer} emits
+ * a state message only after the COPY covering the records preceding it succeeded. Files still
+ * pending are copied when this strategy is closed, unless the sync failed.
+ * </p>
+ *
+ * <p>
+ * A failed copy is rethrown on the next record added, so that the sync fails even when the copy ran
+ * from a periodic flush.
+ * </p>
+ */
+public class DeferredCopyBufferingStrategy implements BufferingStrategy {
+
+  private final BufferingStrategy delegate;
+  private final StagedFilesCopier copier;
+
+  /**
+   * @param delegate strategy flushing its buffers inline, by staging them with the copier
+   * @param copier copier of the staged files
+   */
+  public DeferredCopyBufferingStrategy(final BufferingStrategy delegate, final StagedFilesCopier copier) {
+    this.delegate = delegate;
+    this.copier = copier;
+  }
+
+  @Override
+  public Optional<BufferFlushType> addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
+    copier.throwIfFailed();
+    return delegate.addRecord(stream, message);
+  }
+
+  @Override
+  public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    delegate.flushWriter(stream, writer);
+  }
+
+  /**
+   * Also copies the staged files if they have been waiting for too long, as this is called at least
+   * periodically.
+   */
+  @Override
+  public void flushAll() throws Exception {
+    delegate.flushAll();
+    copier.copyIfDue();
+  }
+
+  @Override
+  public void clear() throws Exception {
+    delegate.clear();
+  }
+
+  @Override
+  public long getLastStartedFlushId() {
+    return copier.getLastStagedFileId();
+  }
+
+  @Override
+  public long getLastCompletedFlushId() {
+    return copier.getLastCopiedFileId();
+  }
+
+  @Override
+  public void close() throws Exception {
+    delegate.close();
+    copier.copyAll();
+  }
+
+  /**
+   * Leaves the files which are still pending in the staging area, as the records of a failed sync
+   * are not loaded.
+   */
+  @Override
+  public void closeAfterFailure() throws Exception {
+    delegate.closeAfterFailure();
+  }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.staging;
+
+import com.google.common.base.Preconditions;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies the files uploaded to the staging area into the raw tables lazily, so that a single COPY
+ * statement loads many staged files of a stream instead of one COPY being run for each flushed
+ * buffer. The files staged for all streams are copied once their count or size reaches the
+ * configured thresholds, once the oldest of them has waited for the configured delay, and when
+ * {@link #copyAll()} is called, e.g. when the sync is closing.
+ *
+ * <p>
+ * Staged files are numbered in the order they are staged, like the flushes of a
+ * {@link io.airbyte.integrations.destination.record_buffer.BufferingStrategy}, so that a state
+ * message is only committed once every file staged before it was received has been copied.
+ * </p>
+ *
+ * <p>
+ * Once a copy fails, the files of the stream which failed are dropped, and every later call to this
+ * class rethrows that failure.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe, files are expected to be staged by the thread consuming records.
+ * </p>
+ */
+public class StagedFilesCopier {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StagedFilesCopier.class);
+
+  // Snowflake lists at most 1000 files in a COPY statement
+  public static final int DEFAULT_MAX_FILES_PER_COPY = 100;
+  public static final long DEFAULT_MAX_BYTES_PER_COPY = FileUtils.ONE_GB;
+  public static final Duration DEFAULT_MAX_COPY_DELAY = Duration.ofMinutes(5);
+
+  private final JdbcDatabase database;
+  private final StagingOperations stagingOperations;
+  private final int maxFilesPerCopy;
+  private final long maxBytesPerCopy;
+  private final Duration maxCopyDelay;
+
+  private final Map<WriteConfig, PendingFiles> pendingFilesByStream;
+  private int pendingFileCount;
+  private long pendingByteCount;
+  private Instant firstPendingFileStagedAt;
+  private long lastStagedFileId;
+  private long lastCopiedFileId;
+  private Exception failure;
+
+  /**
+   * @param maxFilesPerCopy number of staged files, across all streams, above which they are copied
+   * @param maxBytesPerCopy number of staged bytes, across all streams, above which they are copied
+   * @param maxCopyDelay time after which staged files are copied, whatever their count and size
+   */
+  public StagedFilesCopier(final JdbcDatabase database,
+                           final StagingOperations stagingOperations,
+                           final int maxFilesPerCopy,
+                           final long maxBytesPerCopy,
+                           final Duration maxCopyDelay) {
+    Preconditions.checkArgument(maxFilesPerCopy > 0, "maxFilesPerCopy must be positive");
+    Preconditions.checkArgument(maxBytesPerCopy > 0, "maxBytesPerCopy must be positive");
+    this.database = database;
+    this.stagingOperations = stagingOperations;
+    this.maxFilesPerCopy = maxFilesPerCopy;
+    this.maxBytesPerCopy = maxBytesPerCopy;
+    this.maxCopyDelay = maxCopyDelay;
+    this.pendingFilesByStream = new LinkedHashMap<>();
+    this.lastStagedFileId = 0L;
+    this.lastCopiedFileId = 0L;
+  }
+
+  /**
+   * Records a file which was uploaded to the staging area of the stream, then copies the pending
+   * files if a threshold is reached.
+   *
+   * @param writeConfig stream the file was staged for
+   * @param stageName name of the staging area folder
+   * @param stagingPath path of the staged file within the staging area
+   * @param stagedFile name of the staged file
+   * @param byteCount size of the staged file
+   * @return id of the staged file
+   */
+  public long stage(final WriteConfig writeConfig,
+                    final String stageName,
+                    final String stagingPath,
+                    final String stagedFile,
+                    final long byteCount)
+      throws Exception {
+    throwIfFailed();
+    pendingFilesByStream.computeIfAbsent(writeConfig, k -> new PendingFiles(stageName, stagingPath))
+        .add(stagedFile, byteCount);
+    if (pendingFileCount == 0) {
+      firstPendingFileStagedAt = Instant.now();
+    }
+    pendingFileCount++;
+    pendingByteCount += byteCount;
+    final long stagedFileId = ++lastStagedFileId;
+    copyIfDue();
+    return stagedFileId;
+  }
+
+  /**
+   * Copies the pending files if their count or size reached the thresholds, or if they have been
+   * waiting for longer than the maximum delay.
+   */
+  public void copyIfDue() throws Exception {
+    throwIfFailed();
+    if (pendingFileCount >= maxFilesPerCopy
+        || pendingByteCount >= maxBytesPerCopy
+        || pendingFileCount > 0 && Instant.now().isAfter(firstPendingFileStagedAt.plus(maxCopyDelay))) {
+      copyAll();
+    }
+  }
+
+  /**
+   * Copies every pending file into the raw table of its stream, with one COPY per stream. On
+   * failure, the files of the stream which failed to be copied are removed from the staging area,
+   * and are no longer pending.
+   */
+  public void copyAll() throws Exception {
+    throwIfFailed();
+    if (pendingFileCount == 0) {
+      return;
+    }
+    LOGGER.info("Copying {} staged files ({}) of {} streams", pendingFileCount, FileUtils.byteCountToDisplaySize(pendingByteCount),
+        pendingFilesByStream.size());
+    final Iterator<Entry<WriteConfig, PendingFiles>> iterator = pendingFilesByStream.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Entry<WriteConfig, PendingFiles> entry = iterator.next();
+      final WriteConfig writeConfig = entry.getKey();
+      final PendingFiles pendingFiles = entry.getValue();
+      // whether copied or cleaned up from the staging area, the files are no longer pending
+      iterator.remove();
+      pendingFileCount -= pendingFiles.files().size();
+      pendingByteCount -= pendingFiles.byteCount();
+      try {
+        StagingConsumerFactory.copyIntoTableFromStage(database, pendingFiles.stageName(), pendingFiles.stagingPath(), pendingFiles.files(),
+            writeConfig.getOutputTableName(), writeConfig.getOutputSchemaName(), stagingOperations);
+      } catch (final Exception e) {
+        failure = e;
+        throw e;
+      }
+    }
+    lastCopiedFileId = lastStagedFileId;
+  }
+
+  /**
+   * @throws Exception if a previous copy failed
+   */
+  public void throwIfFailed() throws Exception {
+    if (failure != null) {
+      throw new RuntimeException("Failed to copy staged files", failure);
+    }
+  }
+
+  /**
+   * @return id of the last staged file, 0 if none
+   */
+  public long getLastStagedFileId() {
+    return lastStagedFileId;
+  }
+
+  /**
+   * @return the highest id such that this file and every file staged before it have been copied, 0
+   *         if none
+   */
+  public long getLastCopiedFileId() {
+    return lastCopiedFileId;
+  }
+
+  private static class PendingFiles {
+
+    private final String stageName;
+    private final String stagingPath;
+    private final List<String> files;
+    private long byteCount;
+
+    PendingFiles(final String stageName, final String stagingPath) {
+      this.stageName = stageName;
+      this.stagingPath = stagingPath;
+      this.files = new ArrayList<>();
+    }
+
+    void add(final String file, final long fileByteCount) {
+      files.add(file);
+      byteCount += fileByteCount;
+    }
+
+    String stageName() {
+      return stageName;
+    }
+
+    String stagingPath() {
+      return stagingPath;
+    }
+
+    List<String> files() {
+      return files;
+    }
+
+    long byteCount() {
+      return byteCount;
+    }
+
+  }
+
+}
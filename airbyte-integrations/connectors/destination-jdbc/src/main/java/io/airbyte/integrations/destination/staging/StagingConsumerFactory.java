@@ -29,6 +29,7 @@ import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.v0.DestinationSyncMode;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -84,6 +85,97 @@ public class StagingConsumerFactory {
         stagingOperations::isValidData);
   }
 
+  /**
+   * Same as {@link #create(Consumer, JdbcDatabase, StagingOperations, NamingConventionTransformer,
+   * CheckedBiFunction, JsonNode, ConfiguredAirbyteCatalog, boolean)}, except that buffers are uploaded
+   * to the staging area and copied into the raw tables on background threads, while the next buffers
+   * are being filled.
+   *
+   * @param maxConcurrentFlushes number of buffers that can be flushed at the same time
+   * @param maxInFlightBytes number of bytes held by the buffers being flushed above which reading more
+   *        records is blocked
+   */
+  public AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
+                                       final JdbcDatabase database,
+                                       final StagingOperations stagingOperations,
+                                       final NamingConventionTransformer namingResolver,
+                                       final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                       final JsonNode config,
+                                       final ConfiguredAirbyteCatalog catalog,
+                                       final boolean purgeStagingData,
+                                       final int maxConcurrentFlushes,
+                                       final long maxInFlightBytes) {
+    final List<WriteConfig> writeConfigs = createWriteConfigs(namingResolver, config, catalog);
+    return new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStartFunction(database, stagingOperations, writeConfigs),
+        new SerializedBufferingStrategy(
+            onCreateBuffer,
+            catalog,
+            flushBufferFunction(database, stagingOperations, writeConfigs, catalog),
+            maxConcurrentFlushes,
+            maxInFlightBytes),
+        onCloseFunction(database, stagingOperations, writeConfigs, purgeStagingData),
+        catalog,
+        stagingOperations::isValidData);
+  }
+
+  /**
+   * Same as {@link #create(Consumer, JdbcDatabase, StagingOperations, NamingConventionTransformer,
+   * CheckedBiFunction, JsonNode, ConfiguredAirbyteCatalog, boolean)}, except that buffers are only
+   * uploaded to the staging area when flushed, and the staged files are copied into the raw tables
+   * later, many at a time, with the default thresholds of {@link StagedFilesCopier}.
+   */
+  public AirbyteMessageConsumer createWithDeferredCopy(final Consumer<AirbyteMessage> outputRecordCollector,
+                                                       final JdbcDatabase database,
+                                                       final StagingOperations stagingOperations,
+                                                       final NamingConventionTransformer namingResolver,
+                                                       final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                                       final JsonNode config,
+                                                       final ConfiguredAirbyteCatalog catalog,
+                                                       final boolean purgeStagingData) {
+    return createWithDeferredCopy(outputRecordCollector, database, stagingOperations, namingResolver, onCreateBuffer, config, catalog,
+        purgeStagingData, StagedFilesCopier.DEFAULT_MAX_FILES_PER_COPY, StagedFilesCopier.DEFAULT_MAX_BYTES_PER_COPY,
+        StagedFilesCopier.DEFAULT_MAX_COPY_DELAY);
+  }
+
+  /**
+   * Same as {@link #createWithDeferredCopy(Consumer, JdbcDatabase, StagingOperations,
+   * NamingConventionTransformer, CheckedBiFunction, JsonNode, ConfiguredAirbyteCatalog, boolean)},
+   * with the given thresholds. State messages are only emitted once the files holding the records
+   * preceding them have been copied.
+   *
+   * @param maxFilesPerCopy number of staged files above which they are copied
+   * @param maxBytesPerCopy number of staged bytes above which they are copied
+   * @param maxCopyDelay time after which staged files are copied, whatever their count and size
+   */
+  public AirbyteMessageConsumer createWithDeferredCopy(final Consumer<AirbyteMessage> outputRecordCollector,
+                                                       final JdbcDatabase database,
+                                                       final StagingOperations stagingOperations,
+                                                       final NamingConventionTransformer namingResolver,
+                                                       final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                                       final JsonNode config,
+                                                       final ConfiguredAirbyteCatalog catalog,
+                                                       final boolean purgeStagingData,
+                                                       final int maxFilesPerCopy,
+                                                       final long maxBytesPerCopy,
+                                                       final Duration maxCopyDelay) {
+    final List<WriteConfig> writeConfigs = createWriteConfigs(namingResolver, config, catalog);
+    final StagedFilesCopier copier = new StagedFilesCopier(database, stagingOperations, maxFilesPerCopy, maxBytesPerCopy, maxCopyDelay);
+    return new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStartFunction(database, stagingOperations, writeConfigs),
+        new DeferredCopyBufferingStrategy(
+            new SerializedBufferingStrategy(
+                onCreateBuffer,
+                catalog,
+                stageBufferFunction(database, stagingOperations, writeConfigs, catalog, copier)),
+            copier),
+        onCloseFunction(database, stagingOperations, writeConfigs, purgeStagingData),
+        catalog,
+        stagingOperations::isValidData);
+  }
+
   /**
    * Creates a list of all {@link WriteConfig} for each stream within a
    * {@link ConfiguredAirbyteCatalog}. Each write config represents the configuration settings for
@@ -188,6 +280,63 @@ public class StagingConsumerFactory {
                                                                                                        final StagingOperations stagingOperations,
                                                                                                        final List<WriteConfig> writeConfigs,
                                                                                                        final ConfiguredAirbyteCatalog catalog) {
+    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = toPairToWriteConfig(writeConfigs);
+    return (pair, writer) -> {
+      LOGGER.info("Flushing buffer for stream {} ({}) to staging", pair.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
+      final WriteConfig writeConfig = getWriteConfig(pairToWriteConfig, pair, catalog);
+      final String schemaName = writeConfig.getOutputSchemaName();
+      final String stageName = stagingOperations.getStageName(schemaName, writeConfig.getStreamName());
+      final String stagingPath =
+          stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, writeConfig.getStreamName(), writeConfig.getWriteDatetime());
+      try (writer) {
+        writer.flush();
+        final String stagedFile = stagingOperations.uploadRecordsToStage(database, writer, schemaName, stageName, stagingPath);
+        copyIntoTableFromStage(database, stageName, stagingPath, List.of(stagedFile), writeConfig.getOutputTableName(), schemaName,
+            stagingOperations);
+      } catch (final Exception e) {
+        LOGGER.error("Failed to flush and commit buffer data into destination's raw table", e);
+        throw new RuntimeException("Failed to upload buffer to stage and commit to destination", e);
+      }
+    };
+  }
+
+  /**
+   * Same as {@link #flushBufferFunction(JdbcDatabase, StagingOperations, List,
+   * ConfiguredAirbyteCatalog)}, except that buffers are only uploaded to the staging area, the copy
+   * of the staged files being left to the copier.
+   */
+  private CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> stageBufferFunction(
+                                                                                                               final JdbcDatabase database,
+                                                                                                               final StagingOperations stagingOperations,
+                                                                                                               final List<WriteConfig> writeConfigs,
+                                                                                                               final ConfiguredAirbyteCatalog catalog,
+                                                                                                               final StagedFilesCopier copier) {
+    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = toPairToWriteConfig(writeConfigs);
+    return (pair, writer) -> {
+      LOGGER.info("Uploading buffer for stream {} ({}) to staging", pair.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
+      final WriteConfig writeConfig = getWriteConfig(pairToWriteConfig, pair, catalog);
+      final String schemaName = writeConfig.getOutputSchemaName();
+      final String stageName = stagingOperations.getStageName(schemaName, writeConfig.getStreamName());
+      final String stagingPath =
+          stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, writeConfig.getStreamName(), writeConfig.getWriteDatetime());
+      final String stagedFile;
+      final long byteCount;
+      try (writer) {
+        writer.flush();
+        byteCount = writer.getByteCount();
+        stagedFile = stagingOperations.uploadRecordsToStage(database, writer, schemaName, stageName, stagingPath);
+      } catch (final Exception e) {
+        LOGGER.error("Failed to upload buffer data to staging", e);
+        throw new RuntimeException("Failed to upload buffer to stage", e);
+      }
+      copier.stage(writeConfig, stageName, stagingPath, stagedFile, byteCount);
+    };
+  }
+
+  /**
+   * @throws ConfigErrorException if several streams are written to the same table
+   */
+  private static Map<AirbyteStreamNameNamespacePair, WriteConfig> toPairToWriteConfig(final List<WriteConfig> writeConfigs) {
     final Set<WriteConfig> conflictingStreams = new HashSet<>();
     final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = new HashMap<>();
     for (final WriteConfig config : writeConfigs) {
@@ -207,41 +356,30 @@ public class StagingConsumerFactory {
           conflictingStreams.stream().map(config -> config.getNamespace() + "." + config.getStreamName()).collect(joining(", ")));
       throw new ConfigErrorException(message);
     }
-    return (pair, writer) -> {
-      LOGGER.info("Flushing buffer for stream {} ({}) to staging", pair.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
-      if (!pairToWriteConfig.containsKey(pair)) {
-        throw new IllegalArgumentException(
-            String.format("Message contained record from a stream that was not in the catalog. \ncatalog: %s", Jsons.serialize(catalog)));
-      }
+    return pairToWriteConfig;
+  }
 
-      final WriteConfig writeConfig = pairToWriteConfig.get(pair);
-      final String schemaName = writeConfig.getOutputSchemaName();
-      final String stageName = stagingOperations.getStageName(schemaName, writeConfig.getStreamName());
-      final String stagingPath =
-          stagingOperations.getStagingPath(RANDOM_CONNECTION_ID, schemaName, writeConfig.getStreamName(), writeConfig.getWriteDatetime());
-      try (writer) {
-        writer.flush();
-        final String stagedFile = stagingOperations.uploadRecordsToStage(database, writer, schemaName, stageName, stagingPath);
-        copyIntoTableFromStage(database, stageName, stagingPath, List.of(stagedFile), writeConfig.getOutputTableName(), schemaName,
-            stagingOperations);
-      } catch (final Exception e) {
-        LOGGER.error("Failed to flush and commit buffer data into destination's raw table", e);
-        throw new RuntimeException("Failed to upload buffer to stage and commit to destination", e);
-      }
-    };
+  private static WriteConfig getWriteConfig(final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig,
+                                            final AirbyteStreamNameNamespacePair pair,
+                                            final ConfiguredAirbyteCatalog catalog) {
+    if (!pairToWriteConfig.containsKey(pair)) {
+      throw new IllegalArgumentException(
+          String.format("Message contained record from a stream that was not in the catalog. \ncatalog: %s", Jsons.serialize(catalog)));
+    }
+    return pairToWriteConfig.get(pair);
   }
 
   /**
    * Handles copying data from staging area to destination table and clean up of staged files if
    * upload was unsuccessful
    */
-  private void copyIntoTableFromStage(final JdbcDatabase database,
-                                      final String stageName,
-                                      final String stagingPath,
-                                      final List<String> stagedFiles,
-                                      final String tableName,
-                                      final String schemaName,
-                                      final StagingOperations stagingOperations)
+  static void copyIntoTableFromStage(final JdbcDatabase database,
+                                     final String stageName,
+                                     final String stagingPath,
+                                     final List<String> stagedFiles,
+                                     final String tableName,
+                                     final String schemaName,
+                                     final StagingOperations stagingOperations)
       throws Exception {
     try {
       stagingOperations.copyIntoTableFromStage(database, stageName, stagingPath, stagedFiles,
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.staging;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStreamConsumer;
+import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import io.airbyte.integrations.destination.record_buffer.BufferFlushType;
+import io.airbyte.integrations.destination.record_buffer.BufferingStrategy;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.v0.CatalogHelpers;
+import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.v0.DestinationSyncMode;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeferredCopyBufferingStrategyTest {
+
+  private static final WriteConfig USERS =
+      new WriteConfig("users", "source_schema", "raw_schema", "_airbyte_tmp_users", "_airbyte_raw_users", DestinationSyncMode.APPEND);
+  private static final AirbyteStreamNameNamespacePair USERS_PAIR = new AirbyteStreamNameNamespacePair("users", "source_schema");
+
+  private JdbcDatabase database;
+  private StagingOperations stagingOperations;
+  private BufferingStrategy delegate;
+  private StagedFilesCopier copier;
+  private DeferredCopyBufferingStrategy strategy;
+
+  @BeforeEach
+  void setup() throws Exception {
+    database = mock(JdbcDatabase.class);
+    stagingOperations = mock(StagingOperations.class);
+    delegate = mock(BufferingStrategy.class);
+    copier = new StagedFilesCopier(database, stagingOperations, 100, Long.MAX_VALUE, Duration.ofDays(1));
+    strategy = new DeferredCopyBufferingStrategy(delegate, copier);
+    copier.stage(USERS, "users_stage", "users_path/", "users_1.csv.gz", 10);
+  }
+
+  @Test
+  void testCloseCopiesPendingFiles() throws Exception {
+    strategy.close();
+
+    verify(delegate).close();
+    verify(stagingOperations).copyIntoTableFromStage(database, "users_stage", "users_path/", List.of("users_1.csv.gz"),
+        "_airbyte_raw_users", "raw_schema");
+  }
+
+  @Test
+  void testCloseAfterFailureDoesNotCopyPendingFiles() throws Exception {
+    strategy.closeAfterFailure();
+
+    verify(delegate).closeAfterFailure();
+    verify(stagingOperations, never()).copyIntoTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+  }
+
+  @Test
+  void testFailedCopyIsRethrownOnNextRecord() throws Exception {
+    doThrow(new SQLException("copy failed")).when(stagingOperations)
+        .copyIntoTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+    // a periodic flush swallows the failure of the copy
+    assertThrows(RuntimeException.class, copier::copyAll);
+
+    assertThrows(RuntimeException.class, () -> strategy.addRecord(USERS_PAIR, new AirbyteMessage()));
+    verify(delegate, never()).addRecord(any(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void testFailedSyncClosesDestinationAsFailed() throws Exception {
+    final CheckedConsumer<Boolean, Exception> onClose = mock(CheckedConsumer.class);
+    final Consumer<AirbyteMessage> outputRecordCollector = mock(Consumer.class);
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        CatalogHelpers.createConfiguredAirbyteStream("users", "source_schema", Field.of("id", JsonSchemaType.NUMBER))));
+    final AirbyteMessage state = new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("state_message_id", 1))));
+    final AirbyteMessage record = new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withStream("users").withNamespace("source_schema").withData(Jsons.jsonNode(ImmutableMap.of("id", 1))));
+    // the first record flushes the buffers staging the file covering the state, the second one fails
+    when(delegate.addRecord(any(), any()))
+        .thenReturn(Optional.of(BufferFlushType.FLUSH_ALL))
+        .thenThrow(new IllegalStateException("induced exception"));
+    final BufferedStreamConsumer consumer =
+        new BufferedStreamConsumer(outputRecordCollector, mock(VoidCallable.class), strategy, onClose, catalog, data -> true);
+
+    consumer.start();
+    consumer.accept(state);
+    consumer.accept(record);
+    assertThrows(IllegalStateException.class, () -> consumer.accept(record));
+    consumer.close();
+
+    verify(onClose).accept(true);
+    verify(onClose, never()).accept(false);
+    verify(outputRecordCollector, never()).accept(any());
+    verify(stagingOperations, never()).copyIntoTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.staging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import io.airbyte.protocol.models.v0.DestinationSyncMode;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StagedFilesCopierTest {
+
+  private static final String SCHEMA = "raw_schema";
+  private static final Duration NO_DELAY_LIMIT = Duration.ofDays(1);
+  private static final WriteConfig USERS =
+      new WriteConfig("users", "source_schema", SCHEMA, "_airbyte_tmp_users", "_airbyte_raw_users", DestinationSyncMode.APPEND);
+  private static final WriteConfig ORDERS =
+      new WriteConfig("orders", "source_schema", SCHEMA, "_airbyte_tmp_orders", "_airbyte_raw_orders", DestinationSyncMode.APPEND);
+
+  private JdbcDatabase database;
+  private StagingOperations stagingOperations;
+
+  @BeforeEach
+  void setup() {
+    database = mock(JdbcDatabase.class);
+    stagingOperations = mock(StagingOperations.class);
+  }
+
+  @Test
+  void testCopyOnceFileThresholdIsReached() throws Exception {
+    final StagedFilesCopier copier = new StagedFilesCopier(database, stagingOperations, 3, Long.MAX_VALUE, NO_DELAY_LIMIT);
+
+    assertEquals(1L, copier.stage(USERS, "users_stage", "users_path/", "users_1.csv.gz", 10));
+    assertEquals(2L, copier.stage(ORDERS, "orders_stage", "orders_path/", "orders_1.csv.gz", 10));
+    verify(stagingOperations, never()).copyIntoTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+    assertEquals(2L, copier.getLastStagedFileId());
+    assertEquals(0L, copier.getLastCopiedFileId());
+
+    assertEquals(3L, copier.stage(USERS, "users_stage", "users_path/", "users_2.csv.gz", 10));
+    verify(stagingOperations).copyIntoTableFromStage(database, "users_stage", "users_path/", List.of("users_1.csv.gz", "users_2.csv.gz"),
+        "_airbyte_raw_users", SCHEMA);
+    verify(stagingOperations).copyIntoTableFromStage(database, "orders_stage", "orders_path/", List.of("orders_1.csv.gz"),
+        "_airbyte_raw_orders", SCHEMA);
+    assertEquals(3L, copier.getLastCopiedFileId());
+  }
+
+  @Test
+  void testCopyOnceByteThresholdIsReached() throws Exception {
+    final StagedFilesCopier copier = new StagedFilesCopier(database, stagingOperations, 100, 25, NO_DELAY_LIMIT);
+
+    copier.stage(USERS, "users_stage", "users_path/", "users_1.csv.gz", 20);
+    verify(stagingOperations, never()).copyIntoTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+
+    copier.stage(USERS, "users_stage", "users_path/", "users_2.csv.gz", 20);
+    verify(stagingOperations).copyIntoTableFromStage(database, "users_stage", "users_path/", List.of("users_1.csv.gz", "users_2.csv.gz"),
+        "_airbyte_raw_users", SCHEMA);
+    assertEquals(2L, copier.getLastCopiedFileId());
+  }
+
+  @Test
+  void testCopyOnceDelayIsElapsed() throws Exception {
+    final StagedFilesCopier copier = new StagedFilesCopier(database, stagingOperations, 100, Long.MAX_VALUE, Duration.ofMillis(50));
+
+    copier.stage(USERS, "users_stage", "users_path/", "users_1.csv.gz", 10);
+    verify(stagingOperations, never()).copyIntoTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+
+    Thread.sleep(100);
+    copier.copyIfDue();
+    verify(stagingOperations).copyIntoTableFromStage(database, "users_stage", "users_path/", List.of("users_1.csv.gz"),
+        "_airbyte_raw_users", SCHEMA);
+    assertEquals(1L, copier.getLastCopiedFileId());
+  }
+
+  @Test
+  void testCopyAllOnlyCopiesPendingFiles() throws Exception {
+    final StagedFilesCopier copier = new StagedFilesCopier(database, stagingOperations, 100, Long.MAX_VALUE, NO_DELAY_LIMIT);
+
+    copier.copyAll();
+    copier.stage(USERS, "users_stage", "users_path/", "users_1.csv.gz", 10);
+    copier.copyAll();
+    copier.copyAll();
+
+    verify(stagingOperations).copyIntoTableFromStage(database, "users_stage", "users_path/", List.of("users_1.csv.gz"),
+        "_airbyte_raw_users", SCHEMA);
+    verifyNoMoreInteractions(stagingOperations);
+    assertEquals(1L, copier.getLastCopiedFileId());
+  }
+
+  @Test
+  void testFailedCopyCleansUpStagedFiles() throws Exception {
+    final StagedFilesCopier copier = new StagedFilesCopier(database, stagingOperations, 100, Long.MAX_VALUE, NO_DELAY_LIMIT);
+    doThrow(new SQLException("copy failed")).when(stagingOperations)
+        .copyIntoTableFromStage(eq(database), eq("users_stage"), anyString(), anyList(), anyString(), anyString());
+
+    copier.stage(USERS, "users_stage", "users_path/", "users_1.csv.gz", 10);
+
+    assertThrows(RuntimeException.class, copier::copyAll);
+    verify(stagingOperations).cleanUpStage(database, "users_stage", List.of("users_1.csv.gz"));
+    assertEquals(0L, copier.getLastCopiedFileId());
+  }
+
+  @Test
+  void testFailedCopyIsRethrownWithoutRetryingCleanedUpFiles() throws Exception {
+    final StagedFilesCopier copier = new StagedFilesCopier(database, stagingOperations, 100, Long.MAX_VALUE, NO_DELAY_LIMIT);
+    doThrow(new SQLException("copy failed")).when(stagingOperations)
+        .copyIntoTableFromStage(eq(database), eq("users_stage"), anyString(), anyList(), anyString(), anyString());
+
+    copier.stage(USERS, "users_stage", "users_path/", "users_1.csv.gz", 10);
+    assertThrows(RuntimeException.class, copier::copyAll);
+
+    assertThrows(RuntimeException.class, copier::copyAll);
+    assertThrows(RuntimeException.class, copier::copyIfDue);
+    assertThrows(RuntimeException.class, () -> copier.stage(ORDERS, "orders_stage", "orders_path/", "orders_1.csv.gz", 10));
+    verify(stagingOperations).copyIntoTableFromStage(any(), anyString(), anyString(), anyList(), anyString(), anyString());
+    verify(stagingOperations).cleanUpStage(any(), anyString(), anyList());
+  }
+
+}
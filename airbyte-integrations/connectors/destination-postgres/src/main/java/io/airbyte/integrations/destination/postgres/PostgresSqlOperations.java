@@ -4,26 +4,31 @@
 
 package io.airbyte.integrations.destination.postgres;
 
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.sql.SQLException;
 import java.util.List;
-import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.core.BaseConnection;
 
 public class PostgresSqlOperations extends JdbcSqlOperations {
 
+  // size of the chunks sent to the server while the next records are encoded
+  private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+
   public PostgresSqlOperations() {
     super(new PostgresDataAdapter());
   }
 
+  /**
+   * Streams the records into the table with a single binary COPY, which is ended once all of them
+   * were written. Records are encoded straight into the COPY, rather than into a temporary file read
+   * back once complete.
+   */
   @Override
   public void insertRecordsInternal(final JdbcDatabase database,
                                     final List<AirbyteRecordMessage> records,
@@ -35,24 +40,22 @@ public class PostgresSqlOperations extends JdbcSqlOperations {
     }
 
     database.execute(connection -> {
-      File tmpFile = null;
+      final var sql = String.format("COPY %s.%s (%s, %s, %s) FROM STDIN (FORMAT BINARY)", schemaName, tmpTableName,
+          JavaBaseConstants.COLUMN_NAME_AB_ID, JavaBaseConstants.COLUMN_NAME_DATA, JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+      final var copyStream = new PGCopyOutputStream(connection.unwrap(BaseConnection.class), sql, COPY_BUFFER_SIZE);
       try {
-        tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-        writeBatchToFile(tmpFile, records);
-
-        final var copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
-        final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
-        final var bufferedReader = new BufferedReader(new FileReader(tmpFile, StandardCharsets.UTF_8));
-        copyManager.copyIn(sql, bufferedReader);
-      } catch (final Exception e) {
+        final var writer = new RawRecordCopyWriter(copyStream);
+        for (final AirbyteRecordMessage record : records) {
+          writer.write(RawRecordCopyWriter.randomId(), Jsons.toBytes(formatData(record.getData())), record.getEmittedAt());
+        }
+        writer.finish();
+        copyStream.endCopy();
+      } catch (final IOException e) {
         throw new RuntimeException(e);
       } finally {
-        try {
-          if (tmpFile != null) {
-            Files.delete(tmpFile.toPath());
-          }
-        } catch (final IOException e) {
-          throw new RuntimeException(e);
+        // the rows written so far are discarded rather than committed
+        if (copyStream.isActive()) {
+          copyStream.cancelCopy();
         }
       }
     });
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.postgres;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes the rows of a raw table in the binary format of COPY (see
+ * <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4">binary
+ * format</a>), for the columns created by
+ * {@link io.airbyte.integrations.destination.jdbc.JdbcSqlOperations#createTableQuery}: a varchar id,
+ * the jsonb data and the timestamptz emission time. Rows are written straight to the given stream,
+ * without being quoted or escaped, and without the server parsing them back.
+ */
+public class RawRecordCopyWriter {
+
+  private static final byte[] SIGNATURE = "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+  private static final short FIELD_COUNT = 3;
+  private static final short TRAILER = -1;
+  private static final byte JSONB_VERSION = 1;
+  // the binary format counts timestamps in microseconds from 2000-01-01T00:00:00Z
+  private static final long POSTGRES_EPOCH_MILLIS = 946_684_800_000L;
+
+  private final DataOutputStream out;
+
+  public RawRecordCopyWriter(final OutputStream out) throws IOException {
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+    this.out.write(SIGNATURE);
+    // flags, then length of the header extension
+    this.out.writeInt(0);
+    this.out.writeInt(0);
+  }
+
+  public void write(final String id, final byte[] jsonData, final long emittedAtMillis) throws IOException {
+    final byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+    out.writeShort(FIELD_COUNT);
+    out.writeInt(idBytes.length);
+    out.write(idBytes);
+    out.writeInt(jsonData.length + 1);
+    out.writeByte(JSONB_VERSION);
+    out.write(jsonData);
+    out.writeInt(Long.BYTES);
+    out.writeLong((emittedAtMillis - POSTGRES_EPOCH_MILLIS) * 1000);
+  }
+
+  /**
+   * Writes the end of the rows and flushes them, without closing the underlying stream.
+   */
+  public void finish() throws IOException {
+    out.writeShort(TRAILER);
+    out.flush();
+  }
+
+  /**
+   * @return a random (version 4) uuid, without going through the shared secure random of
+   *         {@link UUID#randomUUID()}
+   */
+  public static String randomId() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+    final long leastSigBits = (random.nextLong() & ~(0xC000_0000_0000_0000L)) | 0x8000_0000_0000_0000L;
+    return new UUID(mostSigBits, leastSigBits).toString();
+  }
+
+}
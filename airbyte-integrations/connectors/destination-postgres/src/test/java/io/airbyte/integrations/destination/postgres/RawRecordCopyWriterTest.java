@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.postgres;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RawRecordCopyWriterTest {
+
+  @Test
+  void testWritesRowsInBinaryCopyFormat() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final RawRecordCopyWriter writer = new RawRecordCopyWriter(out);
+    final long emittedAt = Instant.parse("2023-01-02T03:04:05.678Z").toEpochMilli();
+    writer.write("id", "{\"a\":1}".getBytes(StandardCharsets.UTF_8), emittedAt);
+    writer.finish();
+
+    final DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    assertArrayEquals("PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1), in.readNBytes(11));
+    assertEquals(0, in.readInt());
+    assertEquals(0, in.readInt());
+
+    assertEquals(3, in.readShort());
+    assertEquals(2, in.readInt());
+    assertEquals("id", new String(in.readNBytes(2), StandardCharsets.UTF_8));
+    assertEquals(8, in.readInt());
+    assertEquals(1, in.readByte());
+    assertEquals("{\"a\":1}", new String(in.readNBytes(7), StandardCharsets.UTF_8));
+    assertEquals(8, in.readInt());
+    assertEquals(ChronoUnit.MICROS.between(Instant.parse("2000-01-01T00:00:00Z"), Instant.ofEpochMilli(emittedAt)), in.readLong());
+
+    assertEquals(-1, in.readShort());
+    assertEquals(-1, in.read());
+  }
+
+  @Test
+  void testRandomIdIsVersion4Uuid() {
+    final UUID id = UUID.fromString(RawRecordCopyWriter.randomId());
+    assertEquals(4, id.version());
+    assertEquals(2, id.variant());
+  }
+
+}
@@ -32,6 +32,15 @@ public interface RedisCache extends Closeable {
    */
   void insert(String key, Instant timestamp, String data);
 
+  /**
+   * Insert a batch of data in the implementing Redis cache type, with as few round trips as
+   * possible.
+   *
+   * @param key to insert data in
+   * @param records to be inserted, their ids are allocated by the cache
+   */
+  void insert(String key, List<RedisRecord> records);
+
   /**
    * Copy data from one key to another with the option to replace.
    *
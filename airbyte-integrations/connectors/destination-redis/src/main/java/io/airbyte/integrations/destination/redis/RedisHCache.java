@@ -6,15 +6,29 @@ package io.airbyte.integrations.destination.redis;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import redis.clients.jedis.Jedis;
-
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Stores each record in a hash, whose key is the key of the stream suffixed with the id of the
+ * record. Ids are allocated from a counter stored in the key of the stream itself. Writes are
+ * pipelined, and keys are iterated with SCAN rather than KEYS, which would block the server.
+ */
 public class RedisHCache implements RedisCache {
 
   private static final String PATTERN = ":[0-9]*";
 
+  // number of keys scanned, then renamed or deleted, per round trip
+  private static final int SCAN_COUNT = 1000;
+
   private final Jedis jedis;
 
   public RedisHCache(JsonNode jsonConfig) {
@@ -28,13 +42,26 @@ public class RedisHCache implements RedisCache {
 
   @Override
   public void insert(String key, Instant timestamp, String data) {
-    var index = jedis.incr(key);
-    var indexKey = generateIndexKey(key, index);
-    var hash = Map.of(
-        RedisRecord.ID_PROPERTY, String.valueOf(index),
-        RedisRecord.DATA_PROPERTY, data,
-        RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(timestamp.toEpochMilli()));
-    jedis.hmset(indexKey, hash);
+    insert(key, List.of(new RedisRecord(null, data, timestamp)));
+  }
+
+  @Override
+  public void insert(String key, List<RedisRecord> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+    // allocates the ids of the whole batch at once
+    var index = jedis.incrBy(key, records.size()) - records.size();
+    var pipeline = jedis.pipelined();
+    for (var record : records) {
+      var indexKey = generateIndexKey(key, ++index);
+      var hash = Map.of(
+          RedisRecord.ID_PROPERTY, String.valueOf(index),
+          RedisRecord.DATA_PROPERTY, record.getData(),
+          RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(record.getTimestamp().toEpochMilli()));
+      pipeline.hmset(indexKey, hash);
+    }
+    pipeline.sync();
   }
 
   @Override
@@ -42,15 +69,24 @@ public class RedisHCache implements RedisCache {
     if (replace) {
       delete(destinationKey);
     }
-    jedis.keys(sourceKey + PATTERN).forEach(k -> {
-      var index = jedis.incr(destinationKey);
-      jedis.rename(k, generateIndexKey(destinationKey, index));
+    scan(sourceKey + PATTERN, keys -> {
+      var index = jedis.incrBy(destinationKey, keys.size()) - keys.size();
+      var pipeline = jedis.pipelined();
+      var responses = new ArrayList<Response<String>>(keys.size());
+      for (var k : keys) {
+        responses.add(pipeline.rename(k, generateIndexKey(destinationKey, ++index)));
+      }
+      pipeline.sync();
+      responses.forEach(RedisHCache::checkRenamed);
     });
   }
 
   @Override
   public void delete(String key) {
-    jedis.keys(key + PATTERN).forEach(jedis::del);
+    scan(key + PATTERN, keys -> {
+      // frees the memory of the keys in the background
+      jedis.unlink(keys.toArray(String[]::new));
+    });
   }
 
   @Override
@@ -80,4 +116,30 @@ public class RedisHCache implements RedisCache {
     return key + ":" + id;
   }
 
+  /**
+   * Iterates over the keys matching the pattern, one page at a time.
+   */
+  private void scan(String pattern, Consumer<List<String>> consumer) {
+    var params = new ScanParams().match(pattern).count(SCAN_COUNT);
+    var cursor = ScanParams.SCAN_POINTER_START;
+    do {
+      ScanResult<String> result = jedis.scan(cursor, params);
+      if (!result.getResult().isEmpty()) {
+        consumer.accept(result.getResult());
+      }
+      cursor = result.getCursor();
+    } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+  }
+
+  private static void checkRenamed(Response<String> response) {
+    try {
+      response.get();
+    } catch (JedisDataException e) {
+      // SCAN may return a key more than once, it was renamed the first time
+      if (!e.getMessage().contains("no such key")) {
+        throw e;
+      }
+    }
+  }
+
 }
@@ -11,16 +11,25 @@ import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Buffers the records of all streams, and writes them in batches of batchSize records, each stream
+ * with a single pipelined insert.
+ */
 class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RedisMessageConsumer.class);
 
+  static final int DEFAULT_BATCH_SIZE = 10_000;
+
   private final Consumer<AirbyteMessage> outputRecordCollector;
 
   private final ConfiguredAirbyteCatalog configuredCatalog;
@@ -31,15 +40,29 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private final RedisCache redisCache;
 
+  private final int batchSize;
+
+  private final Map<String, List<RedisRecord>> bufferedRecords = new HashMap<>();
+
+  private int bufferedRecordCount = 0;
+
   private AirbyteMessage lastMessage = null;
 
   public RedisMessageConsumer(JsonNode redisConfig,
                               ConfiguredAirbyteCatalog configuredCatalog,
                               Consumer<AirbyteMessage> outputRecordCollector) {
+    this(RedisCacheFactory.newInstance(redisConfig), configuredCatalog, outputRecordCollector, DEFAULT_BATCH_SIZE);
+  }
+
+  RedisMessageConsumer(RedisCache redisCache,
+                       ConfiguredAirbyteCatalog configuredCatalog,
+                       Consumer<AirbyteMessage> outputRecordCollector,
+                       int batchSize) {
     this.configuredCatalog = configuredCatalog;
     this.outputRecordCollector = outputRecordCollector;
-    this.redisCache = RedisCacheFactory.newInstance(redisConfig);
+    this.redisCache = redisCache;
     this.nameTransformer = new RedisNameTransformer();
+    this.batchSize = batchSize;
   }
 
   @Override
@@ -64,7 +87,11 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
       }
 
       var timestamp = Instant.ofEpochMilli(messageRecord.getEmittedAt());
-      redisCache.insert(streamConfig.getTmpKey(), timestamp, Jsons.serialize(messageRecord.getData()));
+      bufferedRecords.computeIfAbsent(streamConfig.getTmpKey(), k -> new ArrayList<>())
+          .add(new RedisRecord(null, Jsons.serialize(messageRecord.getData()), timestamp));
+      if (++bufferedRecordCount >= batchSize) {
+        flush();
+      }
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
       this.lastMessage = message;
     } else {
@@ -72,9 +99,16 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
     }
   }
 
+  private void flush() {
+    bufferedRecords.forEach(redisCache::insert);
+    bufferedRecords.clear();
+    bufferedRecordCount = 0;
+  }
+
   @Override
   protected void close(boolean hasFailed) {
     if (!hasFailed) {
+      flush();
       redisStreams.forEach((k, v) -> {
         try {
           switch (v.getDestinationSyncMode()) {
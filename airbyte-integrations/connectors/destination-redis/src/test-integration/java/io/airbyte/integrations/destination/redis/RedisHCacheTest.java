@@ -7,6 +7,7 @@ package io.airbyte.integrations.destination.redis;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +57,26 @@ class RedisHCacheTest {
         .anyMatch(r -> r.getData().equals("{\"property\":\"data3\"}"));
   }
 
+  @Test
+  void testInsertBatch() {
+    var key = "test_key_insert_batch";
+    // given
+    redisCache.insert(key, Instant.now(), "{\"property\":\"data1\"}");
+    redisCache.insert(key, List.of(
+        new RedisRecord(null, "{\"property\":\"data2\"}", Instant.now()),
+        new RedisRecord(null, "{\"property\":\"data3\"}", Instant.now())));
+
+    // when
+    var redisRecords = redisCache.getAll(key);
+
+    // then
+    assertThat(redisRecords)
+        .isNotNull()
+        .hasSize(3)
+        .extracting(RedisRecord::getId)
+        .containsExactlyInAnyOrder(1L, 2L, 3L);
+  }
+
   @Test
   void testCopyWithoutReplace() {
     var key1 = "test_key_copy1";
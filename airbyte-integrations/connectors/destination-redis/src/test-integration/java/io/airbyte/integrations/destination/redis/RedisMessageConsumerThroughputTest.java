@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import io.airbyte.protocol.models.v0.AirbyteStream;
+import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.v0.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.v0.DestinationSyncMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+
+/**
+ * Writes enough records to span many batches and SCAN pages, and logs the throughput of the
+ * inserts and of the copy of the temporary keys.
+ */
+class RedisMessageConsumerThroughputTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RedisMessageConsumerThroughputTest.class);
+
+  private static final String NAMESPACE = "throughput";
+  private static final String STREAM_NAME = "records";
+  private static final int RECORD_COUNT = 200_000;
+
+  private static RedisContainerInitializr.RedisContainer redisContainer;
+
+  private RedisCache redisCache;
+
+  private Jedis jedis;
+
+  @BeforeAll
+  static void setup() {
+    redisContainer = RedisContainerInitializr.initContainer();
+  }
+
+  @BeforeEach
+  void init() {
+    var jsonConfig = RedisDataFactory.jsonConfig(
+        redisContainer.getHost(),
+        redisContainer.getFirstMappedPort());
+    redisCache = new RedisHCache(jsonConfig);
+    jedis = RedisPoolManager.initConnection(jsonConfig);
+  }
+
+  @AfterEach
+  void clean() {
+    jedis.flushAll();
+    jedis.close();
+  }
+
+  @Test
+  void testWriteThroughput() throws Exception {
+    var catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream().withNamespace(NAMESPACE).withName(STREAM_NAME))
+        .withDestinationSyncMode(DestinationSyncMode.OVERWRITE)));
+    var state = new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("cursor", RECORD_COUNT))));
+    var outputMessages = new ArrayList<AirbyteMessage>();
+    var consumer = new RedisMessageConsumer(redisCache, catalog, outputMessages::add, RedisMessageConsumer.DEFAULT_BATCH_SIZE);
+
+    // given
+    consumer.start();
+    var start = System.nanoTime();
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      consumer.accept(new AirbyteMessage()
+          .withType(AirbyteMessage.Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withNamespace(NAMESPACE)
+              .withStream(STREAM_NAME)
+              .withData(Jsons.jsonNode(Map.of("id", i, "property", "data" + i)))
+              .withEmittedAt(System.currentTimeMillis())));
+    }
+    consumer.accept(state);
+    var inserted = System.nanoTime();
+
+    // when
+    consumer.close();
+    var closed = System.nanoTime();
+    LOGGER.info("Inserted {} records/s, copied {} records/s",
+        perSecond(RECORD_COUNT, inserted - start), perSecond(RECORD_COUNT, closed - inserted));
+
+    // then
+    var nameTransformer = new RedisNameTransformer();
+    assertThat(countKeys(nameTransformer.keyName(NAMESPACE, STREAM_NAME))).isEqualTo(RECORD_COUNT);
+    assertThat(countKeys(nameTransformer.tmpKeyName(NAMESPACE, STREAM_NAME))).isZero();
+    assertThat(outputMessages).containsExactly(state);
+  }
+
+  private long countKeys(String key) {
+    var params = new ScanParams().match(key + ":[0-9]*").count(1000);
+    var cursor = ScanParams.SCAN_POINTER_START;
+    // SCAN may return a key more than once
+    var keys = new HashSet<String>();
+    do {
+      ScanResult<String> result = jedis.scan(cursor, params);
+      keys.addAll(result.getResult());
+      cursor = result.getCursor();
+    } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+    return keys.size();
+  }
+
+  private static long perSecond(long count, long nanos) {
+    return count * 1_000_000_000L / Math.max(1, nanos);
+  }
+
+}
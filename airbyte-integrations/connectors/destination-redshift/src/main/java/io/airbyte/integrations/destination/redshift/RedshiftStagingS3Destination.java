@@ -50,6 +50,8 @@ import org.slf4j.LoggerFactory;
 public class RedshiftStagingS3Destination extends AbstractJdbcDestination implements Destination {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RedshiftStagingS3Destination.class);
+  private static final String CONCURRENT_FLUSHES_KEY = "concurrent_flushes";
+  private static final int MAX_CONCURRENT_FLUSHES = 8;
 
   public static Destination sshWrappedDestination() {
     return new SshWrappedDestination(new RedshiftStagingS3Destination(), JdbcUtils.HOST_LIST_KEY, JdbcUtils.PORT_LIST_KEY);
@@ -151,7 +153,24 @@ public class RedshiftStagingS3Destination extends AbstractJdbcDestination implem
                   """, FileBuffer.SOFT_CAP_CONCURRENT_STREAM_IN_BUFFER, catalog.getStreams().size());
     }
 
-    return new StagingConsumerFactory().create(
+    final int concurrentFlushes = getConcurrentFlushes(s3Options);
+    if (concurrentFlushes > 1) {
+      // each file is copied by the flush uploading it, as the staged files are only copied in batches
+      // when flushes run one at a time. the files being uploaded are bounded by the disk budget of the
+      // buffers being written
+      return new StagingConsumerFactory().create(
+          outputRecordCollector,
+          getDatabase(getDataSource(config)),
+          new RedshiftS3StagingSqlOperations(getNamingResolver(), s3Config.getS3Client(), s3Config, encryptionConfig),
+          getNamingResolver(),
+          CsvSerializedBuffer.createFunction(null, () -> new FileBuffer(CsvSerializedBuffer.CSV_GZ_SUFFIX, numberOfFileBuffers)),
+          config,
+          catalog,
+          isPurgeStagingData(s3Options),
+          concurrentFlushes,
+          FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES);
+    }
+    return new StagingConsumerFactory().createWithDeferredCopy(
         outputRecordCollector,
         getDatabase(getDataSource(config)),
         new RedshiftS3StagingSqlOperations(getNamingResolver(), s3Config.getS3Client(), s3Config, encryptionConfig),
@@ -182,6 +201,18 @@ public class RedshiftStagingS3Destination extends AbstractJdbcDestination implem
     return Math.max(numOfFileBuffers, FileBuffer.DEFAULT_MAX_CONCURRENT_STREAM_IN_BUFFER);
   }
 
+  /**
+   * @param config user configurations
+   * @return number of buffers uploaded to the staging area at the same time, 1 if not configured
+   */
+  @VisibleForTesting
+  public int getConcurrentFlushes(final JsonNode config) {
+    if (!config.has(CONCURRENT_FLUSHES_KEY)) {
+      return 1;
+    }
+    return Math.min(Math.max(config.get(CONCURRENT_FLUSHES_KEY).asInt(), 1), MAX_CONCURRENT_FLUSHES);
+  }
+
   private boolean isPurgeStagingData(final JsonNode config) {
     return !config.has("purge_staging_data") || config.get("purge_staging_data").asBoolean();
   }
@@ -59,4 +59,18 @@ public class RedshiftDestinationTest {
     assertEquals(DestinationType.COPY_S3, RedshiftDestination.determineUploadMode(s3StagingStub));
   }
 
+  @Test
+  @DisplayName("S3 staging uploads one buffer at a time unless configured otherwise")
+  public void concurrentFlushes() {
+    final RedshiftStagingS3Destination destination = new RedshiftStagingS3Destination();
+    final var s3StagingStub = mapper.createObjectNode();
+    assertEquals(1, destination.getConcurrentFlushes(s3StagingStub));
+
+    s3StagingStub.put("concurrent_flushes", 4);
+    assertEquals(4, destination.getConcurrentFlushes(s3StagingStub));
+
+    s3StagingStub.put("concurrent_flushes", 100);
+    assertEquals(8, destination.getConcurrentFlushes(s3StagingStub));
+  }
+
 }
@@ -10,10 +10,14 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.schemabuilder.SchemaBuilder;
 import com.datastax.driver.core.utils.UUIDs;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import java.io.Closeable;
 import java.time.Instant;
@@ -21,10 +25,13 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +42,9 @@ public class ScyllaCqlProvider implements Closeable {
 
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // maximum number of asynchronous inserts waiting for a response
+  static final int MAX_IN_FLIGHT_INSERTS = 512;
+
   private final ScyllaConfig scyllaConfig;
 
   private final Cluster cluster;
@@ -49,6 +59,12 @@ public class ScyllaCqlProvider implements Closeable {
 
   private final String columnTimestamp;
 
+  private final Map<String, PreparedStatement> insertStatements = new ConcurrentHashMap<>();
+
+  private final Semaphore inFlightInserts = new Semaphore(MAX_IN_FLIGHT_INSERTS);
+
+  private final AtomicReference<Throwable> insertFailure = new AtomicReference<>();
+
   public ScyllaCqlProvider(ScyllaConfig scyllaConfig) {
     this.scyllaConfig = scyllaConfig;
     var sessionTuple = ScyllaSessionPool.initSession(scyllaConfig);
@@ -92,11 +108,62 @@ public class ScyllaCqlProvider implements Closeable {
   }
 
   public void insert(String keyspace, String table, String data) {
-    var insert = QueryBuilder.insertInto(keyspace, table)
-        .value(columnId, UUIDs.random())
-        .value(columnData, data)
-        .value(columnTimestamp, Instant.now().toEpochMilli());
-    session.execute(insert);
+    session.execute(bindInsert(keyspace, table, data));
+  }
+
+  /**
+   * Inserts the data without waiting for the response, once fewer than
+   * {@link #MAX_IN_FLIGHT_INSERTS} inserts are in flight. A failure of an earlier insert is thrown
+   * by the next call to this method or to {@link #awaitInserts()}.
+   */
+  public void insertAsync(String keyspace, String table, String data) {
+    throwIfInsertFailed();
+    inFlightInserts.acquireUninterruptibly();
+    try {
+      Futures.addCallback(session.executeAsync(bindInsert(keyspace, table, data)), new FutureCallback<ResultSet>() {
+
+        @Override
+        public void onSuccess(ResultSet result) {
+          inFlightInserts.release();
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+          insertFailure.compareAndSet(null, error);
+          inFlightInserts.release();
+        }
+
+      }, MoreExecutors.directExecutor());
+    } catch (RuntimeException e) {
+      inFlightInserts.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Waits for every insert started by {@link #insertAsync(String, String, String)} to complete.
+   */
+  public void awaitInserts() {
+    inFlightInserts.acquireUninterruptibly(MAX_IN_FLIGHT_INSERTS);
+    inFlightInserts.release(MAX_IN_FLIGHT_INSERTS);
+    throwIfInsertFailed();
+  }
+
+  private BoundStatement bindInsert(String keyspace, String table, String data) {
+    // the driver routes bound statements to a replica of their partition
+    return insertStatements.computeIfAbsent(keyspace + "." + table, k -> session.prepare(
+        QueryBuilder.insertInto(keyspace, table)
+            .value(columnId, QueryBuilder.bindMarker())
+            .value(columnData, QueryBuilder.bindMarker())
+            .value(columnTimestamp, QueryBuilder.bindMarker())))
+        .bind(UUIDs.random(), data, new Date());
+  }
+
+  private void throwIfInsertFailed() {
+    var failure = insertFailure.get();
+    if (failure != null) {
+      throw new RuntimeException("Failed to insert data", failure);
+    }
   }
 
   public List<Triplet<UUID, String, Instant>> select(String keyspace, String table) {
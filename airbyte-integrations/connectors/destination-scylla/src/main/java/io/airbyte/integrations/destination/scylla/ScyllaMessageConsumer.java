@@ -62,8 +62,10 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
         throw new IllegalArgumentException("Unrecognized destination stream");
       }
       var data = Jsons.serialize(messageRecord.getData());
-      scyllaCqlProvider.insert(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
+      scyllaCqlProvider.insertAsync(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
+      // the state covers every record received before it
+      scyllaCqlProvider.awaitInserts();
       outputRecordCollector.accept(message);
     } else {
       LOGGER.warn("Unsupported airbyte message type: {}", message.getType());
@@ -72,7 +74,14 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
 
   @Override
   protected void close(boolean hasFailed) {
-    if (!hasFailed) {
+    RuntimeException insertFailure = null;
+    try {
+      scyllaCqlProvider.awaitInserts();
+    } catch (RuntimeException e) {
+      LOGGER.error("Error while inserting data: ", e);
+      insertFailure = e;
+    }
+    if (!hasFailed && insertFailure == null) {
       scyllaStreams.forEach((k, v) -> {
         try {
           scyllaCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
@@ -100,6 +109,10 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
       }
     });
     scyllaCqlProvider.close();
+
+    if (!hasFailed && insertFailure != null) {
+      throw insertFailure;
+    }
   }
 
 }
@@ -75,6 +75,25 @@ class ScyllaCqlProviderTest {
 
   }
 
+  @Test
+  void testInsertAsync() {
+    // given, more records than inserts in flight
+    var count = 2 * ScyllaCqlProvider.MAX_IN_FLIGHT_INSERTS;
+    for (int i = 0; i < count; i++) {
+      scyllaCqlProvider.insertAsync(SCYLLA_KEYSPACE, SCYLLA_TABLE, "{\"property\":\"data" + i + "\"}");
+    }
+
+    // when
+    scyllaCqlProvider.awaitInserts();
+    var resultSet = scyllaCqlProvider.select(SCYLLA_KEYSPACE, SCYLLA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(count)
+        .anyMatch(r -> r.value2().equals("{\"property\":\"data0\"}"));
+  }
+
   @Test
   void testTruncate() {
     // given
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.snowflake;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.jdbc.DefaultJdbcDatabase;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.record_buffer.BufferStorage;
+import io.airbyte.integrations.destination.record_buffer.FileBuffer;
+import io.airbyte.integrations.destination.record_buffer.InMemoryBuffer;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.integrations.destination.s3.csv.CsvSerializedBuffer;
+import io.airbyte.integrations.destination.s3.csv.StagingDatabaseCsvSheetGenerator;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import net.snowflake.client.jdbc.SnowflakeConnection;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link SnowflakeInternalStagingSqlOperations#uploadRecordsToStage}, which streams a
+ * flushed buffer to the stage, with the previous upload, which needed the buffer as a local file to
+ * PUT it, then listed the stage to check that the file was there. The stage is a local directory
+ * standing in for a Snowflake internal stage, so that the copies made on the client are measured
+ * rather than the network. Buffers are filled before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SnowflakeInternalStagingUploadBenchmark {
+
+  private static final String NAMESPACE = "benchmark";
+  private static final String STAGE_NAME = "benchmark_stage";
+  private static final String STAGING_PATH = "2023/01/01/00/connection/";
+  private static final int FIELDS_PER_RECORD = 20;
+
+  @Param({"memory", "file"})
+  public String storage;
+
+  @Param({"10000", "100000"})
+  public int records;
+
+  private Path stageDirectory;
+  private JdbcDatabase database;
+  private SnowflakeInternalStagingSqlOperations stagingOperations;
+  private AirbyteRecordMessage record;
+  private SerializableBuffer buffer;
+
+  @Setup
+  public void setup() throws IOException {
+    stageDirectory = Files.createTempDirectory(STAGE_NAME);
+    database = new DefaultJdbcDatabase(createLocalStageDataSource(stageDirectory));
+    stagingOperations = new SnowflakeInternalStagingSqlOperations(new SnowflakeSQLNameTransformer());
+    final Map<String, Object> data = new HashMap<>();
+    for (int i = 0; i < FIELDS_PER_RECORD; i++) {
+      data.put("field_" + i, i % 2 == 0 ? "value_" + i : i);
+    }
+    record = new AirbyteRecordMessage()
+        .withNamespace(NAMESPACE)
+        .withStream("stream")
+        .withData(Jsons.jsonNode(data))
+        .withEmittedAt(System.currentTimeMillis());
+  }
+
+  @Setup(Level.Invocation)
+  public void fillBuffer() throws Exception {
+    final BufferStorage bufferStorage = "memory".equals(storage)
+        ? new InMemoryBuffer(CsvSerializedBuffer.CSV_GZ_SUFFIX)
+        : new FileBuffer(CsvSerializedBuffer.CSV_GZ_SUFFIX);
+    buffer = new CsvSerializedBuffer(bufferStorage, new StagingDatabaseCsvSheetGenerator(), true);
+    for (int i = 0; i < records; i++) {
+      buffer.accept(record);
+    }
+    buffer.flush();
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeBuffer() throws Exception {
+    buffer.close();
+  }
+
+  @TearDown(Level.Iteration)
+  public void cleanStage() throws IOException {
+    FileUtils.cleanDirectory(stageDirectory.toFile());
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(stageDirectory.toFile());
+  }
+
+  @Benchmark
+  public String streamingUpload() throws Exception {
+    return stagingOperations.uploadRecordsToStage(database, buffer, NAMESPACE, STAGE_NAME, STAGING_PATH);
+  }
+
+  @Benchmark
+  public String localFileUpload() throws Exception {
+    final Path stagedFile = getStagedFile(stageDirectory, STAGING_PATH, buffer.getFilename());
+    Files.createDirectories(stagedFile.getParent());
+    if ("memory".equals(storage)) {
+      // the data of in-memory buffers has to be written to a local file to be PUT
+      final Path localFile = Files.createTempFile(buffer.getFilename(), null);
+      try {
+        Files.copy(buffer.getInputStream(), localFile, StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(localFile, stagedFile, StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        Files.delete(localFile);
+      }
+    } else {
+      Files.copy(buffer.getFile().toPath(), stagedFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+    if (!Files.exists(stagedFile)) {
+      throw new IllegalStateException("Upload failed");
+    }
+    return buffer.getFilename();
+  }
+
+  private static Path getStagedFile(final Path stageDirectory, final String stagingPath, final String filename) {
+    return stageDirectory.resolve(stagingPath).resolve(filename);
+  }
+
+  /**
+   * @return a data source of connections which upload streams to files of the stage directory
+   */
+  private static DataSource createLocalStageDataSource(final Path stageDirectory) {
+    final ClassLoader classLoader = SnowflakeInternalStagingUploadBenchmark.class.getClassLoader();
+    final SnowflakeConnection snowflakeConnection = (SnowflakeConnection) Proxy.newProxyInstance(classLoader,
+        new Class<?>[] {SnowflakeConnection.class}, (proxy, method, args) -> {
+          if (!"uploadStream".equals(method.getName())) {
+            throw new UnsupportedOperationException(method.getName());
+          }
+          final Path stagedFile = getStagedFile(stageDirectory, (String) args[1], (String) args[3]);
+          Files.createDirectories(stagedFile.getParent());
+          Files.copy((InputStream) args[2], stagedFile, StandardCopyOption.REPLACE_EXISTING);
+          return null;
+        });
+    final Connection connection = (Connection) Proxy.newProxyInstance(classLoader,
+        new Class<?>[] {Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+          case "unwrap" -> snowflakeConnection;
+          case "close" -> null;
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+    return (DataSource) Proxy.newProxyInstance(classLoader,
+        new Class<?>[] {DataSource.class}, (proxy, method, args) -> switch (method.getName()) {
+          case "getConnection" -> connection;
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+}
@@ -4,18 +4,19 @@
 
 package io.airbyte.integrations.destination.snowflake;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.staging.StagingOperations;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
+import net.snowflake.client.jdbc.SnowflakeConnection;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,8 +27,6 @@ public class SnowflakeInternalStagingSqlOperations extends SnowflakeSqlStagingOp
 
   private static final String CREATE_STAGE_QUERY =
       "CREATE STAGE IF NOT EXISTS %s encryption = (type = 'SNOWFLAKE_SSE') copy_options = (on_error='skip_file');";
-  private static final String PUT_FILE_QUERY = "PUT file://%s @%s/%s PARALLEL = %d;";
-  private static final String LIST_STAGE_QUERY = "LIST @%s/%s/%s;";
   private static final String COPY_QUERY = "COPY INTO %s.%s FROM '@%s/%s' "
       + "file_format = (type = csv compression = auto field_delimiter = ',' skip_header = 0 FIELD_OPTIONALLY_ENCLOSED_BY = '\"')";
   private static final String DROP_STAGE_QUERY = "DROP STAGE IF EXISTS %s;";
@@ -59,6 +58,11 @@ public class SnowflakeInternalStagingSqlOperations extends SnowflakeSqlStagingOp
         connectionId));
   }
 
+  /**
+   * Streams the buffer into the stage with the upload API of the Snowflake driver, so that the buffer
+   * does not need to be a file on local disk. The upload fails if the file does not end up in the
+   * stage, so its presence is not checked afterwards.
+   */
   @Override
   public String uploadRecordsToStage(final JdbcDatabase database,
                                      final SerializableBuffer recordsData,
@@ -70,7 +74,7 @@ public class SnowflakeInternalStagingSqlOperations extends SnowflakeSqlStagingOp
     boolean succeeded = false;
     while (exceptionsThrown.size() < UPLOAD_RETRY_LIMIT && !succeeded) {
       try {
-        uploadRecordsToBucket(database, stageName, stagingPath, recordsData);
+        uploadRecordsToBucket(database, stageName, stagingPath, recordsData, exceptionsThrown.size());
         succeeded = true;
       } catch (final Exception e) {
         LOGGER.error("Failed to upload records into stage {}", stagingPath, e);
@@ -88,46 +92,40 @@ public class SnowflakeInternalStagingSqlOperations extends SnowflakeSqlStagingOp
     return recordsData.getFilename();
   }
 
+  /**
+   * Uploads the data of the buffer, read again from its start when retrying a failed upload.
+   */
   private void uploadRecordsToBucket(final JdbcDatabase database,
                                      final String stageName,
                                      final String stagingPath,
-                                     final SerializableBuffer recordsData)
+                                     final SerializableBuffer recordsData,
+                                     final int attempt)
       throws Exception {
-    final String query = getPutQuery(stageName, stagingPath, recordsData.getFile().getAbsolutePath());
-    LOGGER.debug("Executing query: {}", query);
-    database.execute(query);
-    if (!checkStageObjectExists(database, stageName, stagingPath, recordsData.getFilename())) {
-      LOGGER.error(String.format("Failed to upload data into stage, object @%s not found",
-          (stagingPath + "/" + recordsData.getFilename()).replaceAll("/+", "/")));
-      throw new RuntimeException("Upload failed");
-    }
-  }
-
-  protected String getPutQuery(final String stageName, final String stagingPath, final String filePath) {
-    return String.format(PUT_FILE_QUERY, filePath, stageName, stagingPath, Runtime.getRuntime().availableProcessors());
-  }
-
-  private boolean checkStageObjectExists(final JdbcDatabase database, final String stageName, final String stagingPath, final String filename)
-      throws SQLException {
-    final String query = getListQuery(stageName, stagingPath, filename);
-    LOGGER.debug("Executing query: {}", query);
-    final boolean result;
-    try (final Stream<JsonNode> stream = database.unsafeQuery(query)) {
-      result = stream.findAny().isPresent();
+    final InputStream inputStream = recordsData.getInputStream();
+    if (attempt == 0) {
+      uploadStream(database, stageName, stagingPath, recordsData.getFilename(), inputStream);
+    } else if (inputStream.markSupported()) {
+      // in-memory buffers
+      inputStream.reset();
+      uploadStream(database, stageName, stagingPath, recordsData.getFilename(), inputStream);
+    } else {
+      // the stream of a file buffer is owned by the buffer, the file is read again by a stream of its own
+      try (final InputStream fileInputStream = new FileInputStream(recordsData.getFile())) {
+        uploadStream(database, stageName, stagingPath, recordsData.getFilename(), fileInputStream);
+      }
     }
-    return result;
   }
 
-  /**
-   * Creates a SQL query to list all files that have been staged
-   *
-   * @param stageName name of staging folder
-   * @param stagingPath path to the files within the staging folder
-   * @param filename name of the file within staging area
-   * @return SQL query string
-   */
-  protected String getListQuery(final String stageName, final String stagingPath, final String filename) {
-    return String.format(LIST_STAGE_QUERY, stageName, stagingPath, filename).replaceAll("/+", "/");
+  private void uploadStream(final JdbcDatabase database,
+                            final String stageName,
+                            final String stagingPath,
+                            final String filename,
+                            final InputStream inputStream)
+      throws Exception {
+    LOGGER.debug("Uploading {} to stage {}/{}", filename, stageName, stagingPath);
+    // buffers are already compressed
+    database.execute(connection -> connection.unwrap(SnowflakeConnection.class)
+        .uploadStream(stageName, stagingPath, inputStream, filename, false));
   }
 
   @Override
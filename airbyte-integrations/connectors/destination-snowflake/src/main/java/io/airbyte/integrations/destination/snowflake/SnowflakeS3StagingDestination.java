@@ -34,6 +34,8 @@ import org.slf4j.LoggerFactory;
 public class SnowflakeS3StagingDestination extends AbstractJdbcDestination implements Destination {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeS3StagingDestination.class);
+  private static final String CONCURRENT_FLUSHES_KEY = "concurrent_flushes";
+  private static final int MAX_CONCURRENT_FLUSHES = 8;
   private final String airbyteEnvironment;
 
   public SnowflakeS3StagingDestination(final String airbyteEnvironment) {
@@ -127,6 +129,21 @@ public class SnowflakeS3StagingDestination extends AbstractJdbcDestination imple
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
     final S3DestinationConfig s3Config = getS3DestinationConfig(config);
     final EncryptionConfig encryptionConfig = EncryptionConfig.fromJson(config.get("loading_method").get("encryption"));
+    final int concurrentFlushes = getConcurrentFlushes(config);
+    if (concurrentFlushes > 1) {
+      // the files being uploaded are bounded by the disk budget of the buffers being written
+      return new StagingConsumerFactory().create(
+          outputRecordCollector,
+          getDatabase(getDataSource(config)),
+          new SnowflakeS3StagingSqlOperations(getNamingResolver(), s3Config.getS3Client(), s3Config, encryptionConfig),
+          getNamingResolver(),
+          CsvSerializedBuffer.createFunction(null, () -> new FileBuffer(CsvSerializedBuffer.CSV_GZ_SUFFIX)),
+          config,
+          catalog,
+          isPurgeStagingData(config),
+          concurrentFlushes,
+          FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES);
+    }
     return new StagingConsumerFactory().create(
         outputRecordCollector,
         getDatabase(getDataSource(config)),
@@ -143,6 +160,17 @@ public class SnowflakeS3StagingDestination extends AbstractJdbcDestination imple
     return S3DestinationConfig.getS3DestinationConfig(loadingMethod);
   }
 
+  /**
+   * @return number of buffers uploaded to the staging area at the same time, 1 if not configured
+   */
+  public static int getConcurrentFlushes(final JsonNode config) {
+    final JsonNode loadingMethod = config.get("loading_method");
+    if (!loadingMethod.has(CONCURRENT_FLUSHES_KEY)) {
+      return 1;
+    }
+    return Math.min(Math.max(loadingMethod.get(CONCURRENT_FLUSHES_KEY).asInt(), 1), MAX_CONCURRENT_FLUSHES);
+  }
+
   public static boolean isPurgeStagingData(final JsonNode config) {
     final JsonNode loadingMethod = config.get("loading_method");
     if (!loadingMethod.has("purge_staging_data")) {
@@ -63,6 +63,21 @@ public class SnowflakeDestinationTest {
     assertFalse(SnowflakeDestinationResolver.isS3Copy(stubConfig));
   }
 
+  @Test
+  @DisplayName("S3 staging uploads one buffer at a time unless configured otherwise")
+  public void concurrentFlushesTest() {
+    final var stubLoadingMethod = mapper.createObjectNode();
+    final var stubConfig = mapper.createObjectNode();
+    stubConfig.set("loading_method", stubLoadingMethod);
+    assertEquals(1, SnowflakeS3StagingDestination.getConcurrentFlushes(stubConfig));
+
+    stubLoadingMethod.put("concurrent_flushes", 4);
+    assertEquals(4, SnowflakeS3StagingDestination.getConcurrentFlushes(stubConfig));
+
+    stubLoadingMethod.put("concurrent_flushes", 100);
+    assertEquals(8, SnowflakeS3StagingDestination.getConcurrentFlushes(stubConfig));
+  }
+
   @ParameterizedTest
   @MethodSource("destinationTypeToConfig")
   public void testS3ConfigType(final String configFileName, final DestinationType expectedDestinationType) throws Exception {
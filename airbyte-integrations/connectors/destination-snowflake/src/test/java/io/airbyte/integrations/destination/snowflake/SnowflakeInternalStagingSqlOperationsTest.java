@@ -5,9 +5,25 @@
 package io.airbyte.integrations.destination.snowflake;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.List;
+import net.snowflake.client.jdbc.SnowflakeConnection;
 import org.junit.jupiter.api.Test;
 
 class SnowflakeInternalStagingSqlOperationsTest {
@@ -15,7 +31,7 @@ class SnowflakeInternalStagingSqlOperationsTest {
   private static final String SCHEMA_NAME = "schemaName";
   private static final String STAGE_NAME = "stageName";
   private static final String STAGE_PATH = "stagePath/2022/";
-  private static final String FILE_PATH = "filepath/filename";
+  private static final String FILE_NAME = "filename.csv.gz";
 
   private final SnowflakeInternalStagingSqlOperations snowflakeStagingSqlOperations =
       new SnowflakeInternalStagingSqlOperations(new SnowflakeSQLNameTransformer());
@@ -29,17 +45,53 @@ class SnowflakeInternalStagingSqlOperationsTest {
   }
 
   @Test
-  void putFileToStage() {
-    final String expectedQuery = "PUT file://" + FILE_PATH + " @" + STAGE_NAME + "/" + STAGE_PATH + " PARALLEL =";
-    final String actualPutQuery = snowflakeStagingSqlOperations.getPutQuery(STAGE_NAME, STAGE_PATH, FILE_PATH);
-    assertTrue(actualPutQuery.startsWith(expectedQuery));
+  void uploadRecordsToStage() throws Exception {
+    final SnowflakeConnection snowflakeConnection = mock(SnowflakeConnection.class);
+    final JdbcDatabase database = mockDatabase(snowflakeConnection);
+    final SerializableBuffer recordsData = mock(SerializableBuffer.class);
+    final InputStream inputStream = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    when(recordsData.getInputStream()).thenReturn(inputStream);
+    when(recordsData.getFilename()).thenReturn(FILE_NAME);
+
+    final String actualFilename = snowflakeStagingSqlOperations.uploadRecordsToStage(database, recordsData, SCHEMA_NAME, STAGE_NAME, STAGE_PATH);
+
+    assertEquals(FILE_NAME, actualFilename);
+    verify(snowflakeConnection).uploadStream(STAGE_NAME, STAGE_PATH, inputStream, FILE_NAME, false);
+    verify(database, never()).unsafeQuery(anyString());
   }
 
   @Test
-  void listStage() {
-    final String expectedQuery = "LIST @" + STAGE_NAME + "/" + STAGE_PATH + FILE_PATH + ";";
-    final String actualListQuery = snowflakeStagingSqlOperations.getListQuery(STAGE_NAME, STAGE_PATH, FILE_PATH);
-    assertEquals(expectedQuery, actualListQuery);
+  void retryUploadFromStartOfBuffer() throws Exception {
+    final SnowflakeConnection snowflakeConnection = mock(SnowflakeConnection.class);
+    final JdbcDatabase database = mockDatabase(snowflakeConnection);
+    final SerializableBuffer recordsData = mock(SerializableBuffer.class);
+    final InputStream inputStream = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    when(recordsData.getInputStream()).thenReturn(inputStream);
+    when(recordsData.getFilename()).thenReturn(FILE_NAME);
+    doAnswer(invocation -> {
+      // partially read before failing
+      invocation.<InputStream>getArgument(2).read();
+      throw new SQLException("upload failed");
+    }).doAnswer(invocation -> {
+      assertEquals(1, invocation.<InputStream>getArgument(2).read());
+      return null;
+    }).when(snowflakeConnection).uploadStream(anyString(), anyString(), any(InputStream.class), anyString(), anyBoolean());
+
+    snowflakeStagingSqlOperations.uploadRecordsToStage(database, recordsData, SCHEMA_NAME, STAGE_NAME, STAGE_PATH);
+
+    verify(snowflakeConnection, times(2)).uploadStream(STAGE_NAME, STAGE_PATH, inputStream, FILE_NAME, false);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JdbcDatabase mockDatabase(final SnowflakeConnection snowflakeConnection) throws SQLException {
+    final Connection connection = mock(Connection.class);
+    when(connection.unwrap(SnowflakeConnection.class)).thenReturn(snowflakeConnection);
+    final JdbcDatabase database = mock(JdbcDatabase.class);
+    doAnswer(invocation -> {
+      invocation.<CheckedConsumer<Connection, SQLException>>getArgument(0).accept(connection);
+      return null;
+    }).when(database).execute(any(CheckedConsumer.class));
+    return database;
   }
 
   @Test
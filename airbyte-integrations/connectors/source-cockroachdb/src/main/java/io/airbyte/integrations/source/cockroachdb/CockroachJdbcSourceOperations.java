@@ -6,14 +6,12 @@ package io.airbyte.integrations.source.cockroachdb;
 
 import static io.airbyte.db.DataTypeUtils.TIMETZ_FORMATTER;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.time.OffsetTime;
-import java.util.Collections;
 
 /**
  * Class is the responsible for special Cockroach DataTypes handling
@@ -40,21 +38,15 @@ public class CockroachJdbcSourceOperations extends JdbcSourceOperations {
   }
 
   @Override
-  public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    final int columnCount = queryContext.getMetaData().getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
+  protected ColumnCopier getColumnCopier(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    final ColumnCopier columnCopier = super.getColumnCopier(metadata, colIndex);
+    return (resultSet, node) -> {
       try {
-        queryContext.getObject(i);
-        if (!queryContext.wasNull()) {
-          copyToJsonField(queryContext, i, jsonNode);
-        }
+        columnCopier.copy(resultSet, node);
       } catch (final SQLException e) {
-        putCockroachSpecialDataType(queryContext, i, jsonNode);
+        putCockroachSpecialDataType(resultSet, colIndex, node);
       }
-    }
-    return jsonNode;
+    };
   }
 
   private void putCockroachSpecialDataType(final ResultSet resultSet, final int index, final ObjectNode node) throws SQLException {
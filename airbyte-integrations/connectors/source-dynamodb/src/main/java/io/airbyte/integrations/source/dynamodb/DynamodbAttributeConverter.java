@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.dynamodb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Map;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Converts the items returned by Dynamodb to json nodes directly, instead of serializing them
+ * through an intermediate token buffer of an ObjectMapper.
+ */
+public class DynamodbAttributeConverter {
+
+  private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+  private DynamodbAttributeConverter() {
+
+  }
+
+  public static ObjectNode toJson(Map<String, AttributeValue> item) {
+    ObjectNode node = NODE_FACTORY.objectNode();
+    for (var attr : item.entrySet()) {
+      JsonNode value = toJson(attr.getValue());
+      // ignore unknown fields
+      if (value != null) {
+        node.set(attr.getKey(), value);
+      }
+    }
+    return node;
+  }
+
+  /**
+   * @return the json node of the attribute value, or null if its type is unknown to the sdk
+   */
+  public static JsonNode toJson(AttributeValue value) {
+    return switch (value.type()) {
+      case S -> NODE_FACTORY.textNode(value.s());
+      case N -> toNumber(value.n());
+      case B -> NODE_FACTORY.binaryNode(value.b().asByteArray());
+      case SS -> {
+        ArrayNode array = NODE_FACTORY.arrayNode(value.ss().size());
+        for (var str : value.ss()) {
+          array.add(str);
+        }
+        yield array;
+      }
+      case NS -> {
+        ArrayNode array = NODE_FACTORY.arrayNode(value.ns().size());
+        for (var str : value.ns()) {
+          array.add(toNumber(str));
+        }
+        yield array;
+      }
+      case BS -> {
+        ArrayNode array = NODE_FACTORY.arrayNode(value.bs().size());
+        for (var sb : value.bs()) {
+          array.add(sb.asByteArray());
+        }
+        yield array;
+      }
+      case M -> toJson(value.m());
+      case L -> {
+        ArrayNode array = NODE_FACTORY.arrayNode(value.l().size());
+        for (var attr : value.l()) {
+          JsonNode element = toJson(attr);
+          if (element != null) {
+            array.add(element);
+          }
+        }
+        yield array;
+      }
+      case BOOL -> NODE_FACTORY.booleanNode(value.bool());
+      case NUL -> NODE_FACTORY.nullNode();
+      case UNKNOWN_TO_SDK_VERSION -> null;
+    };
+  }
+
+  private static JsonNode toNumber(String number) {
+    try {
+      return NODE_FACTORY.numberNode(Long.parseLong(number));
+    } catch (NumberFormatException e) {
+      return NODE_FACTORY.numberNode(Double.parseDouble(number));
+    }
+  }
+
+}
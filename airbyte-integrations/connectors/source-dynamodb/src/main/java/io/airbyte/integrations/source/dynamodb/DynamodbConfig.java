@@ -20,20 +20,30 @@ public record DynamodbConfig(
 
                              String secretKey,
 
-                             List<String> reservedAttributeNames
+                             List<String> reservedAttributeNames,
+
+                             int scanSegments,
+
+                             Integer scanPageSize
 
 ) {
 
+  public static final int DEFAULT_SCAN_SEGMENTS = 1;
+
   public static DynamodbConfig createDynamodbConfig(JsonNode jsonNode) {
     JsonNode endpoint = jsonNode.get("endpoint");
     JsonNode region = jsonNode.get("region");
     JsonNode attributeNames = jsonNode.get("reserved_attribute_names");
+    JsonNode scanSegments = jsonNode.get("scan_segments");
+    JsonNode scanPageSize = jsonNode.get("scan_page_size");
     return new DynamodbConfig(
         endpoint != null && !endpoint.asText().isBlank() ? URI.create(endpoint.asText()) : null,
         region != null && !region.asText().isBlank() ? Region.of(region.asText()) : null,
         jsonNode.get("access_key_id").asText(),
         jsonNode.get("secret_access_key").asText(),
-        attributeNames != null ? Arrays.asList(attributeNames.asText().split("\\s*,\\s*")) : List.of());
+        attributeNames != null ? Arrays.asList(attributeNames.asText().split("\\s*,\\s*")) : List.of(),
+        scanSegments != null ? Math.max(scanSegments.asInt(), 1) : DEFAULT_SCAN_SEGMENTS,
+        scanPageSize != null && scanPageSize.asInt() > 0 ? scanPageSize.asInt() : null);
   }
 
 }
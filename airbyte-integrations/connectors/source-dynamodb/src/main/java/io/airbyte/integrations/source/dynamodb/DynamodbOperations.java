@@ -7,6 +7,7 @@ package io.airbyte.integrations.source.dynamodb;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.db.AbstractDatabase;
 import java.io.Closeable;
 import java.time.LocalDate;
@@ -28,8 +29,6 @@ public class DynamodbOperations extends AbstractDatabase implements Closeable {
 
   private final DynamoDbClient dynamoDbClient;
 
-  private ObjectMapper attributeObjectMapper;
-
   private ObjectMapper schemaObjectMapper;
 
   private DynamodbConfig dynamodbConfig;
@@ -46,10 +45,6 @@ public class DynamodbOperations extends AbstractDatabase implements Closeable {
   }
 
   private void initMappers() {
-    SimpleModule attributeModule = new SimpleModule();
-    attributeModule.addSerializer(AttributeValue.class, new DynamodbAttributeSerializer());
-    this.attributeObjectMapper = new ObjectMapper().registerModule(attributeModule);
-
     SimpleModule schemaModule = new SimpleModule();
     schemaModule.addSerializer(AttributeValue.class, new DynamodbSchemaSerializer());
     this.schemaObjectMapper = new ObjectMapper().registerModule(schemaModule);
@@ -107,9 +102,11 @@ public class DynamodbOperations extends AbstractDatabase implements Closeable {
     return schemaObjectMapper.convertValue(mergedItems, JsonNode.class);
   }
 
-  public List<JsonNode> scanTable(String tableName, Set<String> attributes, FilterAttribute filterAttribute) {
-    List<JsonNode> items = new ArrayList<>();
-
+  /**
+   * @return an iterator over the items of the table, scanned in parallel segments as the iterator is
+   *         consumed
+   */
+  public AutoCloseableIterator<JsonNode> scanTable(String tableName, Set<String> attributes, FilterAttribute filterAttribute) {
     String prefix = "dyndb";
     // remove and replace reserved attribute names
     Set<String> copyAttributes = new HashSet<>(attributes);
@@ -127,7 +124,8 @@ public class DynamodbOperations extends AbstractDatabase implements Closeable {
 
     ScanRequest.Builder scanRequestBuilder = ScanRequest.builder()
         .tableName(tableName)
-        .projectionExpression(projectionAttributes);
+        .projectionExpression(projectionAttributes)
+        .limit(dynamodbConfig.scanPageSize());
 
     if (!mappingAttributes.isEmpty()) {
       scanRequestBuilder
@@ -165,16 +163,7 @@ public class DynamodbOperations extends AbstractDatabase implements Closeable {
 
     }
 
-    var scanIterable = dynamoDbClient.scanPaginator(scanRequestBuilder.build());
-    for (var scanResponse : scanIterable) {
-
-      scanResponse.items().stream()
-          .map(attr -> attributeObjectMapper.convertValue(attr, JsonNode.class))
-          .forEach(items::add);
-
-    }
-
-    return items;
+    return new DynamodbScanIterator(dynamoDbClient, scanRequestBuilder.build(), dynamodbConfig.scanSegments());
   }
 
   @Override
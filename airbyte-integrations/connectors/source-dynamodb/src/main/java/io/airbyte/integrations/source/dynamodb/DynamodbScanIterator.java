@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.dynamodb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+/**
+ * Iterates over the items of a table as they are scanned, rather than once the whole table was
+ * read. The table is divided into the given number of segments, each scanned page by page by its own
+ * thread (see
+ * <a href="https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/Scan.html#Scan.ParallelScan">parallel
+ * scan</a>). Pages are converted to json by the scanning threads, and at most two pages per segment
+ * are held in memory while waiting to be consumed.
+ */
+public class DynamodbScanIterator extends AbstractIterator<JsonNode> implements AutoCloseableIterator<JsonNode> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DynamodbScanIterator.class);
+
+  private static final int QUEUED_PAGES_PER_SEGMENT = 2;
+
+  // marks the end of a segment, compared by identity
+  private static final List<JsonNode> END_OF_SEGMENT = Collections.unmodifiableList(new ArrayList<>());
+
+  private final DynamoDbClient dynamoDbClient;
+
+  private final ScanRequest scanRequest;
+
+  private final int totalSegments;
+
+  private final BlockingQueue<List<JsonNode>> scannedPages;
+
+  private final AtomicReference<Throwable> scanFailure;
+
+  private ExecutorService executor;
+
+  private volatile boolean closed;
+
+  private int runningSegments;
+
+  private Iterator<JsonNode> currentPage;
+
+  public DynamodbScanIterator(DynamoDbClient dynamoDbClient, ScanRequest scanRequest, int totalSegments) {
+    this.dynamoDbClient = dynamoDbClient;
+    this.scanRequest = scanRequest;
+    this.totalSegments = totalSegments;
+    this.scannedPages = new ArrayBlockingQueue<>(totalSegments * QUEUED_PAGES_PER_SEGMENT);
+    this.scanFailure = new AtomicReference<>();
+  }
+
+  @Override
+  protected JsonNode computeNext() {
+    // the scan is started lazily so that tables are scanned one after the other
+    if (executor == null) {
+      start();
+    }
+    while (currentPage == null || !currentPage.hasNext()) {
+      if (runningSegments == 0) {
+        return endOfData();
+      }
+      List<JsonNode> page;
+      try {
+        page = scannedPages.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      if (scanFailure.get() != null) {
+        throw new RuntimeException("Failed to scan table " + scanRequest.tableName(), scanFailure.get());
+      }
+      if (page == END_OF_SEGMENT) {
+        runningSegments--;
+      } else {
+        currentPage = page.iterator();
+      }
+    }
+    return currentPage.next();
+  }
+
+  private void start() {
+    LOGGER.info("Scanning table {} in {} segments", scanRequest.tableName(), totalSegments);
+    executor = Executors.newFixedThreadPool(totalSegments);
+    runningSegments = totalSegments;
+    for (int segment = 0; segment < totalSegments; segment++) {
+      ScanRequest segmentRequest = totalSegments > 1
+          ? scanRequest.toBuilder().segment(segment).totalSegments(totalSegments).build()
+          : scanRequest;
+      executor.submit(() -> scanSegment(segmentRequest));
+    }
+  }
+
+  private void scanSegment(ScanRequest segmentRequest) {
+    try {
+      for (var scanResponse : dynamoDbClient.scanPaginator(segmentRequest)) {
+        if (closed) {
+          return;
+        }
+        if (scanResponse.hasItems() && !scanResponse.items().isEmpty()) {
+          List<JsonNode> page = new ArrayList<>(scanResponse.items().size());
+          scanResponse.items().forEach(item -> page.add(DynamodbAttributeConverter.toJson(item)));
+          enqueue(page);
+        }
+      }
+    } catch (Throwable e) {
+      scanFailure.compareAndSet(null, e);
+    } finally {
+      enqueue(END_OF_SEGMENT);
+    }
+  }
+
+  private void enqueue(List<JsonNode> page) {
+    try {
+      while (!closed && !scannedPages.offer(page, 1, TimeUnit.SECONDS)) {
+        // waits for the items of the previous pages to be consumed
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    scannedPages.clear();
+    if (executor != null) {
+      executor.shutdownNow();
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOGGER.warn("Scan of table {} did not stop within a minute", scanRequest.tableName());
+      }
+    }
+  }
+
+}
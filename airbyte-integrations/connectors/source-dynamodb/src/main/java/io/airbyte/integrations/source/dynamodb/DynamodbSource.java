@@ -103,8 +103,10 @@ public class DynamodbSource extends BaseConnector implements Source {
 
     final var dynamodbConfig = DynamodbConfig.createDynamodbConfig(config);
 
-    try (final var dynamodbOperations = new DynamodbOperations(dynamodbConfig)) {
+    // tables are scanned as the messages are consumed, the client is closed along with the iterator
+    final var dynamodbOperations = new DynamodbOperations(dynamodbConfig);
 
+    try {
       final var streamIterators = catalog.getStreams().stream()
           .map(str -> switch (str.getSyncMode()) {
           case INCREMENTAL -> scanIncremental(dynamodbOperations, str.getStream(), str.getCursorField().get(0), stateManager);
@@ -112,8 +114,10 @@ public class DynamodbSource extends BaseConnector implements Source {
           })
           .toList();
 
-      return AutoCloseableIterators.concatWithEagerClose(streamIterators);
-
+      return AutoCloseableIterators.appendOnClose(AutoCloseableIterators.concatWithEagerClose(streamIterators), dynamodbOperations::close);
+    } catch (final RuntimeException e) {
+      dynamodbOperations.close();
+      throw e;
     }
   }
 
@@ -133,7 +137,7 @@ public class DynamodbSource extends BaseConnector implements Source {
     // large amount of items
     final String cursorType = properties.get(cursorField).get("type").asText();
 
-    final var messageStream = cursorInfo.map(cursor -> {
+    final var itemIterator = cursorInfo.map(cursor -> {
 
       final var filterType = switch (cursorType) {
         case "string" -> DynamodbOperations.FilterAttribute.FilterType.S;
@@ -158,9 +162,7 @@ public class DynamodbSource extends BaseConnector implements Source {
 
     })
         // perform full refresh if cursor is not present
-        .orElse(dynamodbOperations.scanTable(airbyteStream.getName(), selectedAttributes, null))
-        .stream()
-        .map(jn -> DynamodbUtils.mapAirbyteMessage(airbyteStream.getName(), jn));
+        .orElseGet(() -> dynamodbOperations.scanTable(airbyteStream.getName(), selectedAttributes, null));
 
     // wrap stream in state emission iterator
     return AutoCloseableIterators.transform(autoCloseableIterator -> new StateDecoratingIterator(
@@ -172,7 +174,7 @@ public class DynamodbSource extends BaseConnector implements Source {
         JsonSchemaPrimitive.valueOf(cursorType.toUpperCase()),
         // emit state after full stream has been processed
         0),
-        AutoCloseableIterators.fromStream(messageStream));
+        AutoCloseableIterators.transform(itemIterator, jn -> DynamodbUtils.mapAirbyteMessage(airbyteStream.getName(), jn)));
 
   }
 
@@ -181,12 +183,9 @@ public class DynamodbSource extends BaseConnector implements Source {
     final Map<String, JsonNode> properties = objectMapper.convertValue(airbyteStream.getJsonSchema().get("properties"), new TypeReference<>() {});
     final Set<String> selectedAttributes = properties.keySet();
 
-    final var messageStream = dynamodbOperations
-        .scanTable(airbyteStream.getName(), selectedAttributes, null)
-        .stream()
-        .map(jn -> DynamodbUtils.mapAirbyteMessage(airbyteStream.getName(), jn));
-
-    return AutoCloseableIterators.fromStream(messageStream);
+    return AutoCloseableIterators.transform(
+        dynamodbOperations.scanTable(airbyteStream.getName(), selectedAttributes, null),
+        jn -> DynamodbUtils.mapAirbyteMessage(airbyteStream.getName(), jn));
   }
 
 }
@@ -9,9 +9,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.util.AutoCloseableIterators;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.json.JSONException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -144,7 +147,7 @@ public class DynamodbOperationsTest {
   }
 
   @Test
-  void testScanTable() throws JsonProcessingException, JSONException {
+  void testScanTable() throws Exception {
 
     var createTableRequests = DynamodbDataFactory.createTables(TABLE_NAME, 1);
     var createTableResponse = dynamoDbClient.createTable(createTableRequests.get(0));
@@ -166,9 +169,9 @@ public class DynamodbOperationsTest {
 
     dynamoDbClient.putItem(putItemRequest2);
 
-    var response = dynamodbOperations.scanTable(tableName, Set.of("attr_1", "attr_2", "name"),
+    var response = AutoCloseableIterators.toListAndClose(dynamodbOperations.scanTable(tableName, Set.of("attr_1", "attr_2", "name"),
         new DynamodbOperations.FilterAttribute("name", "2018-12-21T17:42:34Z",
-            DynamodbOperations.FilterAttribute.FilterType.S));
+            DynamodbOperations.FilterAttribute.FilterType.S)));
 
     assertThat(response)
         .hasSize(1);
@@ -183,4 +186,33 @@ public class DynamodbOperationsTest {
 
   }
 
+  @Test
+  void testScanTableInParallelSegments() throws Exception {
+
+    var createTableRequests = DynamodbDataFactory.createTables(TABLE_NAME, 1);
+    var createTableResponse = dynamoDbClient.createTable(createTableRequests.get(0));
+    String tableName = createTableResponse.tableDescription().tableName();
+
+    for (int i = 0; i < 500; i++) {
+      dynamoDbClient.putItem(DynamodbDataFactory.putItemRequest(tableName, Map.of(
+          "attr_1", AttributeValue.builder().s("str_" + i).build(),
+          "attr_2", AttributeValue.builder().s("str_" + i).build(),
+          "attr_3", AttributeValue.builder().n(String.valueOf(i)).build())));
+    }
+
+    var jsonConfig = (ObjectNode) DynamodbDataFactory.createJsonConfig(dynamodbContainer);
+    jsonConfig.put("scan_segments", 4);
+    jsonConfig.put("scan_page_size", 25);
+
+    try (var parallelOperations = new DynamodbOperations(DynamodbConfig.createDynamodbConfig(jsonConfig))) {
+      var response = AutoCloseableIterators.toListAndClose(parallelOperations.scanTable(tableName, Set.of("attr_1", "attr_3"), null));
+
+      assertThat(response)
+          .hasSize(500)
+          .extracting(item -> item.get("attr_3").asInt())
+          .containsExactlyInAnyOrderElementsOf(IntStream.range(0, 500).boxed().toList());
+    }
+
+  }
+
 }
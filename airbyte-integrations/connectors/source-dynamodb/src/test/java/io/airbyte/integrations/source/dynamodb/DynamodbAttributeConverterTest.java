@@ -7,7 +7,6 @@ package io.airbyte.integrations.source.dynamodb;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import org.json.JSONException;
@@ -17,22 +16,19 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
-class DynamodbAttributeSerializerTest {
+class DynamodbAttributeConverterTest {
 
-  private ObjectMapper attributeObjectMapper;
+  private ObjectMapper objectMapper;
 
   @BeforeEach
   void setup() {
-    SimpleModule module = new SimpleModule();
-    module.addSerializer(AttributeValue.class, new DynamodbAttributeSerializer());
-    this.attributeObjectMapper = new ObjectMapper()
-        .registerModule(module)
+    this.objectMapper = new ObjectMapper()
         .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
         .configure(SerializationFeature.INDENT_OUTPUT, true);
   }
 
   @Test
-  void serializeAttributeValueToJson() throws JSONException, JsonProcessingException {
+  void convertAttributeValueToJson() throws JSONException, JsonProcessingException {
 
     Map<String, AttributeValue> items = Map.of(
         "sAttribute", AttributeValue.builder().s("string").build(),
@@ -53,7 +49,7 @@ class DynamodbAttributeSerializerTest {
         "boolAttribute", AttributeValue.builder().bool(false).build(),
         "nulAttribute", AttributeValue.builder().nul(true).build());
 
-    var jsonNode = attributeObjectMapper.writeValueAsString(items);
+    var jsonNode = objectMapper.writeValueAsString(DynamodbAttributeConverter.toJson(items));
 
     JSONAssert.assertEquals(jsonNode, """
                                        {
@@ -29,7 +29,26 @@ class DynamodbConfigTest {
         .hasFieldOrPropertyWithValue("endpoint", URI.create("http://localhost:8080"))
         .hasFieldOrPropertyWithValue("region", Region.of("us-east-1"))
         .hasFieldOrPropertyWithValue("accessKey", "A012345678910EXAMPLE")
-        .hasFieldOrPropertyWithValue("secretKey", "a012345678910ABCDEFGH/AbCdEfGhLEKEY");
+        .hasFieldOrPropertyWithValue("secretKey", "a012345678910ABCDEFGH/AbCdEfGhLEKEY")
+        .hasFieldOrPropertyWithValue("scanSegments", DynamodbConfig.DEFAULT_SCAN_SEGMENTS)
+        .hasFieldOrPropertyWithValue("scanPageSize", null);
+
+  }
+
+  @Test
+  void testDynamodbConfigWithParallelScan() {
+
+    var jsonConfig = Jsons.jsonNode(Map.of(
+        "access_key_id", "A012345678910EXAMPLE",
+        "secret_access_key", "a012345678910ABCDEFGH/AbCdEfGhLEKEY",
+        "scan_segments", 8,
+        "scan_page_size", 500));
+
+    var dynamodbConfig = DynamodbConfig.createDynamodbConfig(jsonConfig);
+
+    assertThat(dynamodbConfig)
+        .hasFieldOrPropertyWithValue("scanSegments", 8)
+        .hasFieldOrPropertyWithValue("scanPageSize", 500);
 
   }
 
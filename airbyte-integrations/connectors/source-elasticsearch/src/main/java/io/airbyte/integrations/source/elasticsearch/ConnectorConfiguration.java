@@ -14,6 +14,8 @@ public class ConnectorConfiguration {
 
   private String endpoint;
   private boolean upsert;
+  private int slices = 1;
+  private int scrollKeepAliveMinutes = 10;
   private AuthenticationMethod authenticationMethod = new AuthenticationMethod();
 
   public ConnectorConfiguration() {}
@@ -30,6 +32,14 @@ public class ConnectorConfiguration {
     return this.upsert;
   }
 
+  public int getSlices() {
+    return this.slices;
+  }
+
+  public int getScrollKeepAliveMinutes() {
+    return this.scrollKeepAliveMinutes;
+  }
+
   public AuthenticationMethod getAuthenticationMethod() {
     return this.authenticationMethod;
   }
@@ -42,6 +52,14 @@ public class ConnectorConfiguration {
     this.upsert = upsert;
   }
 
+  public void setSlices(int slices) {
+    this.slices = slices;
+  }
+
+  public void setScrollKeepAliveMinutes(int scrollKeepAliveMinutes) {
+    this.scrollKeepAliveMinutes = scrollKeepAliveMinutes;
+  }
+
   public void setAuthenticationMethod(AuthenticationMethod authenticationMethod) {
     this.authenticationMethod = authenticationMethod;
   }
@@ -53,12 +71,14 @@ public class ConnectorConfiguration {
     if (o == null || getClass() != o.getClass())
       return false;
     ConnectorConfiguration that = (ConnectorConfiguration) o;
-    return upsert == that.upsert && Objects.equals(endpoint, that.endpoint) && Objects.equals(authenticationMethod, that.authenticationMethod);
+    return upsert == that.upsert && slices == that.slices && scrollKeepAliveMinutes == that.scrollKeepAliveMinutes
+        && Objects.equals(endpoint, that.endpoint)
+        && Objects.equals(authenticationMethod, that.authenticationMethod);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(endpoint, upsert, authenticationMethod);
+    return Objects.hash(endpoint, upsert, slices, scrollKeepAliveMinutes, authenticationMethod);
   }
 
   @Override
@@ -66,6 +86,8 @@ public class ConnectorConfiguration {
     return "ConnectorConfiguration{" +
         "endpoint='" + endpoint + '\'' +
         ", upsert=" + upsert +
+        ", slices=" + slices +
+        ", scrollKeepAliveMinutes=" + scrollKeepAliveMinutes +
         ", authenticationMethod=" + authenticationMethod +
         '}';
   }
@@ -7,6 +7,7 @@ package io.airbyte.integrations.source.elasticsearch;
 import co.elastic.clients.base.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.commons.util.AutoCloseableIterator;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -14,7 +15,6 @@ import java.util.regex.Pattern;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
 import org.apache.http.message.BasicHeader;
-import org.elasticsearch.action.search.*;
 import org.elasticsearch.client.*;
 import org.elasticsearch.client.indices.GetIndexRequest;
 import org.elasticsearch.client.indices.GetIndexResponse;
@@ -22,10 +22,6 @@ import org.elasticsearch.client.indices.GetMappingsRequest;
 import org.elasticsearch.client.indices.GetMappingsResponse;
 import org.elasticsearch.cluster.metadata.MappingMetadata;
 import org.elasticsearch.common.unit.TimeValue;
-import org.elasticsearch.index.query.QueryBuilders;
-import org.elasticsearch.search.Scroll;
-import org.elasticsearch.search.SearchHit;
-import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +34,8 @@ public class ElasticsearchConnection {
   private static final Logger log = LoggerFactory.getLogger(ElasticsearchConnection.class);
   private final RestHighLevelClient client;
   private final ObjectMapper mapper = new ObjectMapper();
+  private final int slices;
+  private final int scrollKeepAliveMinutes;
 
   /**
    * Creates a new ElasticsearchConnection that can be used to read/write records to indices
@@ -54,6 +52,8 @@ public class ElasticsearchConnection {
 
     RestClientBuilder builder = RestClient.builder(httpHost).setDefaultHeaders(configureHeaders(config)).setFailureListener((new FailureListener()));
     client = new RestHighLevelClient(builder);
+    slices = config.getSlices();
+    scrollKeepAliveMinutes = config.getScrollKeepAliveMinutes();
   }
 
   static class FailureListener extends RestClient.FailureListener {
@@ -174,53 +174,15 @@ public class ElasticsearchConnection {
   }
 
   /**
-   * Returns a list of all records, without the metadata in JsonNode format Uses scroll API for
-   * pagination
+   * Returns an iterator over all records, without the metadata in JsonNode format. Uses the scroll
+   * API for pagination, the index being split into the configured number of slices read in parallel
    *
    * @param index index name in Elasticsearch cluster
-   * @return list of documents
-   * @throws IOException throws IOException if Elasticsearch request fails
+   * @return iterator over the documents, which must be closed to clear the scroll contexts
    */
-  public List<JsonNode> getRecords(String index) throws IOException {
-    final Scroll scroll = new Scroll(TimeValue.timeValueMinutes(1L));
-    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-    searchSourceBuilder.size(MAX_HITS);
-    searchSourceBuilder.query(QueryBuilders.matchAllQuery());
-
-    SearchRequest searchRequest = new SearchRequest(index);
-    searchRequest.scroll(scroll);
-    searchRequest.source(searchSourceBuilder);
-
-    SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
-    String scrollId = searchResponse.getScrollId();
-    log.info("Running scroll query with scrollId {}", scrollId);
-    SearchHit[] searchHits = searchResponse.getHits().getHits();
-    List<JsonNode> data = new ArrayList<>();
-
-    while (searchHits != null && searchHits.length > 0) {
-      SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
-      scrollRequest.scroll(scroll);
-      searchResponse = client.scroll(scrollRequest, RequestOptions.DEFAULT);
-      scrollId = searchResponse.getScrollId();
-
-      for (SearchHit hit : searchHits) {
-        data.add(mapper.convertValue(hit, JsonNode.class).get("sourceAsMap"));
-
-      }
-      searchHits = searchResponse.getHits().getHits();
-    }
-
-    ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
-    clearScrollRequest.addScrollId(scrollId);
-    ClearScrollResponse clearScrollResponse = client.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
-    boolean succeeded = clearScrollResponse.isSucceeded();
-    if (succeeded) {
-      log.info("scroll response cleared successfully");
-    } else {
-      log.error("failed to clear scroll response");
-    }
-
-    return data;
+  public AutoCloseableIterator<JsonNode> getRecords(String index) {
+    return new ElasticsearchScrollIterator(client, mapper, index, slices, MAX_HITS,
+        TimeValue.timeValueMinutes(scrollKeepAliveMinutes));
   }
 
   /**
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.elasticsearch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.ClearScrollResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.Scroll;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.slice.SliceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Iterates over the documents of an index page by page, as they are scrolled. The index is split
+ * into the given number of slices, each slice being scrolled by its own thread (see
+ * <a href="https://www.elastic.co/guide/en/elasticsearch/reference/7.15/paginate-search-results.html#slice-scroll">sliced
+ * scroll</a>). At most two pages per slice are held in memory while waiting to be consumed, and the
+ * scroll contexts are cleared once their slice is read or the iterator is closed. A slice waiting for
+ * its pages to be consumed does not request its next page, so the scroll keep alive must cover the
+ * time the destination takes to consume two pages.
+ */
+public class ElasticsearchScrollIterator extends AbstractIterator<JsonNode> implements AutoCloseableIterator<JsonNode> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ElasticsearchScrollIterator.class);
+
+  private static final int QUEUED_PAGES_PER_SLICE = 2;
+  private static final long CLOSE_TIMEOUT_MINUTES = 1;
+
+  // marks the end of a slice, compared by identity
+  private static final List<JsonNode> END_OF_SLICE = Collections.unmodifiableList(new ArrayList<>());
+
+  private final RestHighLevelClient client;
+  private final ObjectMapper mapper;
+  private final String index;
+  private final int slices;
+  private final int pageSize;
+  private final Scroll scroll;
+
+  private final BlockingQueue<List<JsonNode>> scrolledPages;
+  private final Map<Integer, String> scrollIds;
+  private final AtomicReference<Throwable> scrollFailure;
+  private ExecutorService executor;
+  private volatile boolean closed;
+
+  private int runningSlices;
+  private Iterator<JsonNode> currentPage;
+
+  /**
+   * @param index index to read the documents of
+   * @param slices number of slices read in parallel
+   * @param pageSize number of documents returned by each scroll request of a slice
+   * @param keepAlive time each scroll context is kept alive between two requests of its slice
+   */
+  public ElasticsearchScrollIterator(RestHighLevelClient client,
+                                     ObjectMapper mapper,
+                                     String index,
+                                     int slices,
+                                     int pageSize,
+                                     TimeValue keepAlive) {
+    this.client = client;
+    this.mapper = mapper;
+    this.index = index;
+    this.slices = Math.max(slices, 1);
+    this.pageSize = pageSize;
+    this.scroll = new Scroll(keepAlive);
+    this.scrolledPages = new ArrayBlockingQueue<>(this.slices * QUEUED_PAGES_PER_SLICE);
+    this.scrollIds = new ConcurrentHashMap<>();
+    this.scrollFailure = new AtomicReference<>();
+  }
+
+  @Override
+  protected JsonNode computeNext() {
+    // scrolling starts lazily so that indices are read one after the other
+    if (executor == null) {
+      start();
+    }
+    while (currentPage == null || !currentPage.hasNext()) {
+      if (runningSlices == 0) {
+        return endOfData();
+      }
+      List<JsonNode> page;
+      try {
+        page = scrolledPages.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      if (scrollFailure.get() != null) {
+        throw new RuntimeException("failed to scroll index " + index, scrollFailure.get());
+      }
+      if (page == END_OF_SLICE) {
+        runningSlices--;
+      } else {
+        currentPage = page.iterator();
+      }
+    }
+    return currentPage.next();
+  }
+
+  private void start() {
+    LOGGER.info("Reading index {} in {} slices", index, slices);
+    executor = Executors.newFixedThreadPool(slices);
+    runningSlices = slices;
+    for (int slice = 0; slice < slices; slice++) {
+      final int sliceId = slice;
+      executor.submit(() -> readSlice(sliceId));
+    }
+  }
+
+  private void readSlice(int sliceId) {
+    try {
+      SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+      searchSourceBuilder.size(pageSize);
+      searchSourceBuilder.query(QueryBuilders.matchAllQuery());
+      if (slices > 1) {
+        searchSourceBuilder.slice(new SliceBuilder(sliceId, slices));
+      }
+
+      SearchRequest searchRequest = new SearchRequest(index);
+      searchRequest.scroll(scroll);
+      searchRequest.source(searchSourceBuilder);
+
+      SearchResponse searchResponse = search(searchRequest);
+      scrollIds.put(sliceId, searchResponse.getScrollId());
+      LOGGER.info("Running scroll query of slice {} with scrollId {}", sliceId, searchResponse.getScrollId());
+      SearchHit[] searchHits = searchResponse.getHits().getHits();
+
+      while (!closed && searchHits != null && searchHits.length > 0) {
+        List<JsonNode> page = new ArrayList<>(searchHits.length);
+        for (SearchHit hit : searchHits) {
+          page.add(hit.hasSource() ? mapper.readTree(hit.getSourceAsString()) : mapper.nullNode());
+        }
+        // the next page is requested while the previous one is consumed
+        enqueue(page);
+
+        SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollIds.get(sliceId));
+        scrollRequest.scroll(scroll);
+        searchResponse = scroll(scrollRequest);
+        scrollIds.put(sliceId, searchResponse.getScrollId());
+        searchHits = searchResponse.getHits().getHits();
+      }
+    } catch (Throwable e) {
+      scrollFailure.compareAndSet(null, e);
+    } finally {
+      clearSliceScroll(sliceId);
+      enqueue(END_OF_SLICE);
+    }
+  }
+
+  private void enqueue(List<JsonNode> page) {
+    try {
+      while (!closed && !scrolledPages.offer(page, 1, TimeUnit.SECONDS)) {
+        // waits for the documents of the previous pages to be consumed
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void clearSliceScroll(int sliceId) {
+    String scrollId = scrollIds.remove(sliceId);
+    if (scrollId == null) {
+      return;
+    }
+    try {
+      ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+      clearScrollRequest.addScrollId(scrollId);
+      ClearScrollResponse clearScrollResponse = clearScroll(clearScrollRequest);
+      if (clearScrollResponse.isSucceeded()) {
+        LOGGER.info("scroll response of slice {} cleared successfully", sliceId);
+      } else {
+        LOGGER.error("failed to clear scroll response of slice {}", sliceId);
+      }
+    } catch (IOException e) {
+      LOGGER.error("failed to clear scroll response of slice {}", sliceId, e);
+    }
+  }
+
+  @VisibleForTesting
+  SearchResponse search(SearchRequest searchRequest) throws IOException {
+    return client.search(searchRequest, RequestOptions.DEFAULT);
+  }
+
+  @VisibleForTesting
+  SearchResponse scroll(SearchScrollRequest scrollRequest) throws IOException {
+    return client.scroll(scrollRequest, RequestOptions.DEFAULT);
+  }
+
+  @VisibleForTesting
+  ClearScrollResponse clearScroll(ClearScrollRequest clearScrollRequest) throws IOException {
+    return client.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+  }
+
+  /**
+   * Stops reading the slices, each slice clearing its scroll context once its current request
+   * completes.
+   */
+  @Override
+  public void close() throws Exception {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    scrolledPages.clear();
+    if (executor != null) {
+      executor.shutdown();
+      if (!executor.awaitTermination(CLOSE_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+        LOGGER.warn("Slices of index {} did not stop within {} minute", index, CLOSE_TIMEOUT_MINUTES);
+        executor.shutdownNow();
+        scrollIds.keySet().forEach(this::clearSliceScroll);
+      }
+    }
+  }
+
+}
@@ -11,20 +11,12 @@ import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
 import io.airbyte.protocol.models.v0.AirbyteStream;
 import java.time.Instant;
-import java.util.List;
 
 public class ElasticsearchUtils {
 
   public static AutoCloseableIterator<JsonNode> getDataIterator(final ElasticsearchConnection connection,
                                                                 final AirbyteStream stream) {
-    return AutoCloseableIterators.lazyIterator(() -> {
-      try {
-        List<JsonNode> data = connection.getRecords(stream.getName());
-        return AutoCloseableIterators.fromIterator(data.iterator());
-      } catch (final Exception e) {
-        throw new RuntimeException(e);
-      }
-    });
+    return AutoCloseableIterators.lazyIterator(() -> connection.getRecords(stream.getName()));
   }
 
   public static AutoCloseableIterator<AirbyteMessage> getMessageIterator(final AutoCloseableIterator<JsonNode> recordIterator,
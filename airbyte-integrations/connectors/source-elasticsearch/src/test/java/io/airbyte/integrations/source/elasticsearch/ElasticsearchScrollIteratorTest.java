@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.elasticsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.ClearScrollResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.junit.jupiter.api.Test;
+
+class ElasticsearchScrollIteratorTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String INDEX = "index";
+  private static final TimeValue KEEP_ALIVE = TimeValue.timeValueMinutes(10);
+
+  @Test
+  void testReadsEachSliceInOrder() throws Exception {
+    final FakeScrollIterator iterator = new FakeScrollIterator(new int[] {5, 0, 3}, 2);
+
+    final Map<Integer, List<Integer>> documentsBySlice = new HashMap<>();
+    while (iterator.hasNext()) {
+      final JsonNode document = iterator.next();
+      documentsBySlice.computeIfAbsent(document.get("slice").asInt(), slice -> new ArrayList<>()).add(document.get("n").asInt());
+    }
+
+    assertEquals(Map.of(0, List.of(0, 1, 2, 3, 4), 2, List.of(0, 1, 2)), documentsBySlice);
+    assertFalse(iterator.hasNext());
+    assertEquals(Map.of(0, KEEP_ALIVE, 1, KEEP_ALIVE, 2, KEEP_ALIVE), iterator.searchKeepAlives);
+    assertEquals(Set.of("0-3", "1-0", "2-2"), iterator.clearedScrollIds);
+    iterator.close();
+  }
+
+  @Test
+  void testCloseClearsScrollOfUnreadSlice() throws Exception {
+    final FakeScrollIterator iterator = new FakeScrollIterator(new int[] {100}, 1);
+
+    assertEquals(0, iterator.next().get("n").asInt());
+    iterator.close();
+
+    assertEquals(1, iterator.clearedScrollIds.size());
+    assertTrue(iterator.scrollRequests.get() < 100);
+  }
+
+  @Test
+  void testScrollFailureIsRethrown() throws Exception {
+    final FakeScrollIterator iterator = new FakeScrollIterator(new int[] {4}, 2);
+    iterator.failScrolls = true;
+
+    assertThrows(RuntimeException.class, () -> {
+      while (iterator.hasNext()) {
+        iterator.next();
+      }
+    });
+    assertEquals(Set.of("0-0"), iterator.clearedScrollIds);
+    iterator.close();
+  }
+
+  /**
+   * Scrolls an in-memory index, each slice holding the given number of documents. Scroll ids are made
+   * of the slice and of the page they were returned with.
+   */
+  private static class FakeScrollIterator extends ElasticsearchScrollIterator {
+
+    private final Map<String, SearchResponse> responses = new HashMap<>();
+    private final Map<Integer, TimeValue> searchKeepAlives = new ConcurrentHashMap<>();
+    private final Set<String> clearedScrollIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger scrollRequests = new AtomicInteger();
+    private volatile boolean failScrolls;
+
+    FakeScrollIterator(final int[] documentsPerSlice, final int pageSize) {
+      super(null, MAPPER, INDEX, documentsPerSlice.length, pageSize, KEEP_ALIVE);
+      for (int slice = 0; slice < documentsPerSlice.length; slice++) {
+        final int pages = (documentsPerSlice[slice] + pageSize - 1) / pageSize;
+        // the page following the last documents of a slice is empty
+        for (int page = 0; page <= pages; page++) {
+          final List<SearchHit> hits = new ArrayList<>();
+          for (int n = page * pageSize; n < Math.min((page + 1) * pageSize, documentsPerSlice[slice]); n++) {
+            hits.add(new SearchHit(n).sourceRef(new BytesArray("{\"slice\":" + slice + ",\"n\":" + n + "}")));
+          }
+          responses.put(slice + "-" + page, response(slice + "-" + page, hits));
+        }
+      }
+    }
+
+    private static SearchResponse response(final String scrollId, final List<SearchHit> hits) {
+      final SearchResponse response = mock(SearchResponse.class);
+      when(response.getScrollId()).thenReturn(scrollId);
+      when(response.getHits()).thenReturn(new SearchHits(hits.toArray(new SearchHit[0]), null, 0));
+      return response;
+    }
+
+    @Override
+    SearchResponse search(final SearchRequest searchRequest) {
+      final int slice = searchRequest.source().slice() == null ? 0 : searchRequest.source().slice().getId();
+      searchKeepAlives.put(slice, searchRequest.scroll().keepAlive());
+      return responses.get(slice + "-0");
+    }
+
+    @Override
+    SearchResponse scroll(final SearchScrollRequest scrollRequest) throws IOException {
+      scrollRequests.incrementAndGet();
+      if (failScrolls) {
+        throw new IOException("scroll failed");
+      }
+      final String[] sliceAndPage = scrollRequest.scrollId().split("-");
+      return responses.get(sliceAndPage[0] + "-" + (Integer.parseInt(sliceAndPage[1]) + 1));
+    }
+
+    @Override
+    ClearScrollResponse clearScroll(final ClearScrollRequest clearScrollRequest) {
+      clearedScrollIds.addAll(clearScrollRequest.getScrollIds());
+      return new ClearScrollResponse(true, 1);
+    }
+
+  }
+
+}
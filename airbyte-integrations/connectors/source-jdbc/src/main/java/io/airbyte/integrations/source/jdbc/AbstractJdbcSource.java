@@ -48,13 +48,18 @@ import io.airbyte.integrations.source.relationaldb.TableInfo;
 import io.airbyte.integrations.source.relationaldb.state.StateManager;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.v0.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.v0.DestinationSyncMode;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -64,6 +69,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -82,6 +88,9 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractJdbcSource<Datatype> extends AbstractDbSource<Datatype, JdbcDatabase> implements Source {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
+  // stays below the size of the connection pool created by DataSourceFactory (10 by default), so
+  // that the streams read concurrently never wait on each other for a connection
+  private static final int MAX_CONCURRENT_STREAM_READS = 8;
 
   protected final String driverClass;
   protected final Supplier<JdbcStreamingQueryConfig> streamingQueryConfigProvider;
@@ -109,6 +118,164 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractDbSource<Data
         getFullyQualifiedTableNameWithQuoting(schemaName, tableName, getQuoteString())));
   }
 
+  /**
+   * Reads the table in ranges of its primary key when the config sets full_refresh_chunk_size, see
+   * {@link ChunkedFullRefreshIterator}. Tables without a single numeric primary key column, or whose
+   * primary key values do not fit in a long, are read with a single query.
+   *
+   * <p>
+   * A read interrupted by a failure resumes after the last checkpointed range, unless the destination
+   * overwrites the stream, in which case the records of the previous attempts are gone and the table
+   * is read again from the start.
+   * </p>
+   */
+  @Override
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshIterator(final JdbcDatabase database,
+                                                                         final ConfiguredAirbyteStream airbyteStream,
+                                                                         final List<String> selectedDatabaseFields,
+                                                                         final TableInfo<CommonField<Datatype>> table,
+                                                                         final StateManager stateManager,
+                                                                         final Instant emittedAt) {
+    final JsonNode config = database.getSourceConfig();
+    if (config == null || !config.hasNonNull(JdbcUtils.FULL_REFRESH_CHUNK_SIZE_KEY)) {
+      return super.getFullRefreshIterator(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
+    }
+    final String fullyQualifiedTableName = JdbcUtils.getFullyQualifiedTableName(table.getNameSpace(), table.getName());
+    final List<String> primaryKeys = discoverPrimaryKeys(database, List.of(table)).getOrDefault(fullyQualifiedTableName, List.of());
+    if (primaryKeys.size() != 1) {
+      LOGGER.info("Table {} does not have a single column primary key, reading it with a single query", fullyQualifiedTableName);
+      return super.getFullRefreshIterator(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
+    }
+    final String primaryKey = primaryKeys.get(0);
+    final AirbyteStreamNameNamespacePair pair = AirbyteStreamNameNamespacePair.fromAirbyteStream(airbyteStream.getStream());
+    final Optional<CursorInfo> cursorInfo = stateManager.getCursorInfo(pair);
+    final Long lowerBound = airbyteStream.getDestinationSyncMode() == DestinationSyncMode.OVERWRITE
+        ? null
+        : ChunkedFullRefreshIterator.getResumePosition(cursorInfo.orElse(null), primaryKey);
+    final Optional<ImmutablePair<Long, Long>> primaryKeyRange = queryPrimaryKeyRange(database, table, primaryKey, lowerBound);
+    if (primaryKeyRange.isEmpty()) {
+      LOGGER.info("Primary key {} of table {} is not numeric or does not fit in a long, reading it with a single query", primaryKey,
+          fullyQualifiedTableName);
+      return super.getFullRefreshIterator(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
+    }
+
+    final List<ChunkedFullRefreshIterator.Chunk> chunks = ChunkedFullRefreshIterator.split(primaryKeyRange.get().getLeft(),
+        primaryKeyRange.get().getRight(), lowerBound, config.get(JdbcUtils.FULL_REFRESH_CHUNK_SIZE_KEY).asLong());
+    LOGGER.info("Reading table {} in {} chunks of primary key {}{}", fullyQualifiedTableName, chunks.size(), primaryKey,
+        lowerBound == null ? "" : String.format(", resuming from %s", lowerBound));
+    estimateFullRefreshSyncSize(database, airbyteStream);
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    // the connections of the pool are shared between the streams read concurrently
+    final int maxConcurrentChunkReads = Math.max(1, MAX_CONCURRENT_STREAM_READS / getMaxConcurrentStreamReads(config));
+    return new ChunkedFullRefreshIterator(
+        chunks,
+        chunk -> getMessageIterator(
+            queryTableFullRefreshChunk(database, selectedDatabaseFields, table.getNameSpace(), table.getName(), primaryKey, chunk),
+            streamName,
+            namespace,
+            emittedAt.toEpochMilli()),
+        maxConcurrentChunkReads,
+        stateManager,
+        pair,
+        primaryKey);
+  }
+
+  /**
+   * @return min and max values of the primary key, from lowerBound if it is not null, rounded to
+   *         longs (both null if there are no rows), or empty if the primary key is not numeric or its
+   *         values do not fit in a long
+   */
+  private Optional<ImmutablePair<Long, Long>> queryPrimaryKeyRange(final JdbcDatabase database,
+                                                                   final TableInfo<CommonField<Datatype>> table,
+                                                                   final String primaryKey,
+                                                                   final Long lowerBound) {
+    final String quotedPrimaryKey = enquoteIdentifier(primaryKey, getQuoteString());
+    final String sql = String.format("SELECT MIN(%s), MAX(%s) FROM %s%s",
+        quotedPrimaryKey,
+        quotedPrimaryKey,
+        getFullyQualifiedTableNameWithQuoting(table.getNameSpace(), table.getName(), getQuoteString()),
+        lowerBound == null ? "" : String.format(" WHERE %s >= ?", quotedPrimaryKey));
+    try {
+      final List<Optional<ImmutablePair<Long, Long>>> result = database.bufferedResultSetQuery(
+          connection -> {
+            final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            if (lowerBound != null) {
+              preparedStatement.setLong(1, lowerBound);
+            }
+            LOGGER.info("Executing query for table {}: {}", table.getName(), preparedStatement);
+            return preparedStatement.executeQuery();
+          },
+          resultSet -> {
+            final Object min = resultSet.getObject(1);
+            final Object max = resultSet.getObject(2);
+            if (min == null || max == null) {
+              return Optional.of(new ImmutablePair<>(null, null));
+            }
+            if (!(min instanceof Number) || !(max instanceof Number)) {
+              return Optional.empty();
+            }
+            final BigDecimal roundedMin = new BigDecimal(min.toString()).setScale(0, RoundingMode.FLOOR);
+            final BigDecimal roundedMax = new BigDecimal(max.toString()).setScale(0, RoundingMode.CEILING);
+            // chunk bounds are longs, truncating larger values would leave rows out of the chunks
+            if (roundedMin.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0 || roundedMax.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+              return Optional.empty();
+            }
+            return Optional.of(new ImmutablePair<>(roundedMin.longValue(), roundedMax.longValue()));
+          });
+      return result.isEmpty() ? Optional.of(new ImmutablePair<>(null, null)) : result.get(0);
+    } catch (final SQLException | NumberFormatException e) {
+      LOGGER.warn("Could not retrieve the range of primary key {} of table {}", primaryKey, table.getName(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Queries the records of a range of primary key values, see
+   * {@link ChunkedFullRefreshIterator.Chunk}.
+   */
+  protected AutoCloseableIterator<JsonNode> queryTableFullRefreshChunk(final JdbcDatabase database,
+                                                                       final List<String> columnNames,
+                                                                       final String schemaName,
+                                                                       final String tableName,
+                                                                       final String primaryKey,
+                                                                       final ChunkedFullRefreshIterator.Chunk chunk) {
+    LOGGER.info("Queueing query for table: {}, primary key range: [{}, {})", tableName, chunk.lowerBound(), chunk.upperBound());
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              final String quotedPrimaryKey = enquoteIdentifier(primaryKey, getQuoteString());
+              final List<String> conditions = new ArrayList<>();
+              if (chunk.lowerBound() != null) {
+                conditions.add(String.format("%s >= ?", quotedPrimaryKey));
+              }
+              if (chunk.upperBound() != null) {
+                conditions.add(String.format("%s < ?", quotedPrimaryKey));
+              }
+              final String sql = String.format("SELECT %s FROM %s%s",
+                  getWrappedColumnNames(database, connection, columnNames, schemaName, tableName),
+                  getFullyQualifiedTableNameWithQuoting(schemaName, tableName, getQuoteString()),
+                  conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions));
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+              int parameterIndex = 1;
+              if (chunk.lowerBound() != null) {
+                preparedStatement.setLong(parameterIndex++, chunk.lowerBound());
+              }
+              if (chunk.upperBound() != null) {
+                preparedStatement.setLong(parameterIndex, chunk.upperBound());
+              }
+              LOGGER.info("Executing query for table {}: {}", tableName, preparedStatement);
+              return preparedStatement;
+            },
+            sourceOperations::rowToJson);
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   /**
    * Configures a list of operations that can be used to check the connection to the source.
    *
@@ -389,6 +556,18 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractDbSource<Data
     }
   }
 
+  /**
+   * Streams are read one at a time unless the config sets max_concurrent_stream_reads, in which case
+   * each of them is read on its own connection of the pool.
+   */
+  @Override
+  protected int getMaxConcurrentStreamReads(final JsonNode config) {
+    if (!config.hasNonNull(JdbcUtils.MAX_CONCURRENT_STREAM_READS_KEY)) {
+      return 1;
+    }
+    return Math.max(1, Math.min(config.get(JdbcUtils.MAX_CONCURRENT_STREAM_READS_KEY).asInt(), MAX_CONCURRENT_STREAM_READS));
+  }
+
   protected DataSource createDataSource(final JsonNode sourceConfig) {
     final JsonNode jdbcConfig = toDatabaseConfig(sourceConfig);
     final DataSource dataSource = DataSourceFactory.create(
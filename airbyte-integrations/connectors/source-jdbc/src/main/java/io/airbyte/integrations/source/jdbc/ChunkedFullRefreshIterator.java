@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.source.relationaldb.CursorInfo;
+import io.airbyte.integrations.source.relationaldb.state.StateManager;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads a full refresh stream as a sequence of primary key ranges ({@link Chunk}s), up to
+ * maxConcurrentChunkReads of them at the same time, and checkpoints the progress of the read.
+ *
+ * <p>
+ * Chunks may complete out of order. Each time the chunks completed from the first one onward form a
+ * longer sequence, a state message is emitted with the upper bound of the last of these chunks as
+ * full refresh position of the stream, so that a new attempt can resume the read from it. The cursor
+ * of the stream, which incremental reads rely on, is left as is. Once every chunk has been read, a
+ * last state message clears that position, so that the next sync reads the whole table again.
+ * </p>
+ */
+public class ChunkedFullRefreshIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedFullRefreshIterator.class);
+
+  // max number of records read ahead of the consumer when chunks are read concurrently
+  private static final int CONCURRENT_READ_QUEUE_CAPACITY = 10_000;
+  // bounds the number of queries run for a table, whatever the configured chunk size
+  private static final int MAX_CHUNKS = 10_000;
+
+  /**
+   * Range of primary key values, from lowerBound included to upperBound excluded, so that
+   * consecutive chunks do not leave any value out even if the primary key is not an integer. A null
+   * bound means that the range is not bounded on that side.
+   */
+  public record Chunk(Long lowerBound, Long upperBound) {}
+
+  private final List<Chunk> chunks;
+  private final StateManager stateManager;
+  private final AirbyteStreamNameNamespacePair pair;
+  private final String primaryKey;
+  private final AutoCloseableIterator<AirbyteMessage> chunksIterator;
+  // marker appended to the records of each chunk, mapped to the index of the chunk
+  private final Map<AirbyteMessage, Integer> chunkEndMarkers;
+  private final boolean[] completedChunks;
+
+  private int completedChunksPrefix;
+  private boolean hasEmittedFinalState;
+
+  public ChunkedFullRefreshIterator(final List<Chunk> chunks,
+                                    final Function<Chunk, AutoCloseableIterator<AirbyteMessage>> chunkReader,
+                                    final int maxConcurrentChunkReads,
+                                    final StateManager stateManager,
+                                    final AirbyteStreamNameNamespacePair pair,
+                                    final String primaryKey) {
+    Preconditions.checkArgument(!chunks.isEmpty(), "at least one chunk must be read");
+    this.chunks = chunks;
+    this.stateManager = stateManager;
+    this.pair = pair;
+    this.primaryKey = primaryKey;
+    this.chunkEndMarkers = new IdentityHashMap<>();
+    this.completedChunks = new boolean[chunks.size()];
+
+    final List<AutoCloseableIterator<AirbyteMessage>> chunkIterators = new ArrayList<>();
+    for (int i = 0; i < chunks.size(); i++) {
+      final AirbyteMessage chunkEndMarker = new AirbyteMessage().withType(Type.STATE);
+      chunkEndMarkers.put(chunkEndMarker, i);
+      chunkIterators.add(AutoCloseableIterators.concatWithEagerClose(
+          chunkReader.apply(chunks.get(i)),
+          AutoCloseableIterators.fromIterator(Iterators.singletonIterator(chunkEndMarker))));
+    }
+    this.chunksIterator = maxConcurrentChunkReads > 1 && chunks.size() > 1
+        ? AutoCloseableIterators.concatWithConcurrency(chunkIterators, maxConcurrentChunkReads, CONCURRENT_READ_QUEUE_CAPACITY)
+        : AutoCloseableIterators.concatWithEagerClose(chunkIterators);
+  }
+
+  /**
+   * Splits the primary key values between min and max into chunks of chunkSize values. The first and
+   * last chunks are left unbounded, so that rows inserted outside of that range while the table is
+   * being read are still read, unless lowerBound is given, in which case only the values from
+   * lowerBound onward are read.
+   *
+   * @param min min primary key value at the time of the split, rounded down, null if there are no
+   *        rows to read
+   * @param max max primary key value at the time of the split, rounded up, null if there are no rows
+   *        to read
+   * @param lowerBound lowest primary key value to read, null to read all of them
+   * @param chunkSize number of primary key values per chunk
+   * @return chunks covering the primary key values to read, in increasing order
+   */
+  public static List<Chunk> split(final Long min, final Long max, final Long lowerBound, final long chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+    if (min == null || max == null) {
+      return List.of(new Chunk(lowerBound, null));
+    }
+    final long span = max - min;
+    // a table spanning the whole long range overflows, it is then read as a single chunk
+    if (span < 0) {
+      return List.of(new Chunk(lowerBound, null));
+    }
+    final long effectiveChunkSize = Math.max(chunkSize, span / MAX_CHUNKS + 1);
+    final List<Chunk> chunks = new ArrayList<>();
+    Long chunkLowerBound = lowerBound;
+    // stops on overflow as well
+    for (long chunkUpperBound = min + effectiveChunkSize; chunkUpperBound <= max
+        && chunkUpperBound > min; chunkUpperBound += effectiveChunkSize) {
+      chunks.add(new Chunk(chunkLowerBound, chunkUpperBound));
+      chunkLowerBound = chunkUpperBound;
+    }
+    chunks.add(new Chunk(chunkLowerBound, null));
+    return chunks;
+  }
+
+  /**
+   * @return the primary key value from which the read of a previous attempt can be resumed, if it was
+   *         read in chunks on the same primary key
+   */
+  public static Long getResumePosition(final CursorInfo cursorInfo, final String primaryKey) {
+    if (cursorInfo == null || !primaryKey.equals(cursorInfo.getFullRefreshPrimaryKey()) || cursorInfo.getFullRefreshPosition() == null) {
+      return null;
+    }
+    return Long.parseLong(cursorInfo.getFullRefreshPosition());
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (chunksIterator.hasNext()) {
+      final AirbyteMessage message = chunksIterator.next();
+      final Integer chunkIndex = message.getType() == Type.STATE ? chunkEndMarkers.get(message) : null;
+      if (chunkIndex == null) {
+        return message;
+      }
+      completedChunks[chunkIndex] = true;
+      final int previousCompletedChunksPrefix = completedChunksPrefix;
+      while (completedChunksPrefix < chunks.size() && completedChunks[completedChunksPrefix]) {
+        completedChunksPrefix++;
+      }
+      if (completedChunksPrefix > previousCompletedChunksPrefix && completedChunksPrefix < chunks.size()) {
+        final Long upperBound = chunks.get(completedChunksPrefix - 1).upperBound();
+        LOGGER.info("Read {} of {} chunks of stream {}, up to {} = {}", completedChunksPrefix, chunks.size(), pair, primaryKey, upperBound);
+        return createStateMessage(upperBound.toString());
+      }
+    }
+    if (!hasEmittedFinalState) {
+      hasEmittedFinalState = true;
+      return createStateMessage(null);
+    }
+    return endOfData();
+  }
+
+  private AirbyteMessage createStateMessage(final String position) {
+    final AirbyteStateMessage stateMessage;
+    // the state manager is shared with the iterators of the other streams, which may be read
+    // concurrently
+    synchronized (stateManager) {
+      final Optional<CursorInfo> cursorInfo = stateManager.getCursorInfo(pair);
+      Preconditions.checkState(cursorInfo.isPresent(), "Could not find cursor information for stream: " + pair);
+      cursorInfo.get().setFullRefreshPosition(position == null ? null : primaryKey, position);
+      stateMessage = stateManager.emit(Optional.of(pair));
+    }
+    return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+  }
+
+  @Override
+  public void close() throws Exception {
+    chunksIterator.close();
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.source.jdbc.ChunkedFullRefreshIterator.Chunk;
+import io.airbyte.integrations.source.relationaldb.CursorInfo;
+import io.airbyte.integrations.source.relationaldb.state.StateManager;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedFullRefreshIteratorTest {
+
+  private static final String PRIMARY_KEY = "id";
+  private static final AirbyteStreamNameNamespacePair PAIR = new AirbyteStreamNameNamespacePair("stream", "namespace");
+
+  private StateManager stateManager;
+  private CursorInfo cursorInfo;
+  // full refresh position of each emitted state
+  private List<String> emittedPositions;
+
+  @BeforeEach
+  void setup() {
+    stateManager = mock(StateManager.class);
+    cursorInfo = new CursorInfo("updated_at", "2023-01-01", "updated_at", "2023-01-01");
+    emittedPositions = new ArrayList<>();
+    when(stateManager.getCursorInfo(PAIR)).thenReturn(Optional.of(cursorInfo));
+    when(stateManager.emit(any())).thenAnswer(invocation -> {
+      emittedPositions.add(cursorInfo.getFullRefreshPosition());
+      return new AirbyteStateMessage();
+    });
+  }
+
+  @Test
+  void testSplit() {
+    assertEquals(List.of(new Chunk(null, 11L), new Chunk(11L, 21L), new Chunk(21L, null)),
+        ChunkedFullRefreshIterator.split(1L, 25L, null, 10));
+    assertEquals(List.of(new Chunk(null, 11L), new Chunk(11L, null)),
+        ChunkedFullRefreshIterator.split(1L, 11L, null, 10));
+    assertEquals(List.of(new Chunk(null, null)),
+        ChunkedFullRefreshIterator.split(1L, 10L, null, 10));
+  }
+
+  @Test
+  void testSplitFromLowerBound() {
+    assertEquals(List.of(new Chunk(15L, 25L), new Chunk(25L, null)),
+        ChunkedFullRefreshIterator.split(15L, 30L, 15L, 10));
+  }
+
+  @Test
+  void testSplitWithoutRows() {
+    assertEquals(List.of(new Chunk(null, null)), ChunkedFullRefreshIterator.split(null, null, null, 10));
+    assertEquals(List.of(new Chunk(42L, null)), ChunkedFullRefreshIterator.split(null, null, 42L, 10));
+  }
+
+  @Test
+  void testSplitBoundsNumberOfChunks() {
+    assertTrue(ChunkedFullRefreshIterator.split(0L, 10_000_000L, null, 1).size() <= 10_000);
+    assertEquals(List.of(new Chunk(null, null)), ChunkedFullRefreshIterator.split(Long.MIN_VALUE, Long.MAX_VALUE, null, 1));
+    final List<Chunk> chunks = ChunkedFullRefreshIterator.split(Long.MAX_VALUE - 5, Long.MAX_VALUE, null, 2);
+    assertEquals(new Chunk(null, Long.MAX_VALUE - 3), chunks.get(0));
+    assertEquals(new Chunk(Long.MAX_VALUE - 1, null), chunks.get(chunks.size() - 1));
+  }
+
+  @Test
+  void testGetResumePosition() {
+    assertEquals(21L, ChunkedFullRefreshIterator.getResumePosition(
+        new CursorInfo(null, null, null, null).setFullRefreshPosition(PRIMARY_KEY, "21"), PRIMARY_KEY));
+    assertNull(ChunkedFullRefreshIterator.getResumePosition(
+        new CursorInfo(null, null, null, null).setFullRefreshPosition("other_id", "21"), PRIMARY_KEY));
+    assertNull(ChunkedFullRefreshIterator.getResumePosition(
+        new CursorInfo(null, null, null, null).setFullRefreshPosition(null, null), PRIMARY_KEY));
+    // a cursor on the primary key is not a full refresh position
+    assertNull(ChunkedFullRefreshIterator.getResumePosition(new CursorInfo(PRIMARY_KEY, "21", PRIMARY_KEY, "21"), PRIMARY_KEY));
+    assertNull(ChunkedFullRefreshIterator.getResumePosition(null, PRIMARY_KEY));
+  }
+
+  @Test
+  void testEmitsStateAfterEachChunk() throws Exception {
+    final List<Chunk> chunks = ChunkedFullRefreshIterator.split(1L, 25L, null, 10);
+    final ChunkedFullRefreshIterator iterator = new ChunkedFullRefreshIterator(chunks, this::readChunk, 1, stateManager, PAIR, PRIMARY_KEY);
+
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
+    iterator.close();
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.RECORD, Type.STATE),
+        messages.stream().map(AirbyteMessage::getType).collect(Collectors.toList()));
+    // the last state clears the position, so that the next sync reads the whole table again
+    assertEquals(Arrays.asList("11", "21", null), emittedPositions);
+    assertNull(cursorInfo.getFullRefreshPrimaryKey());
+    // the cursor used by incremental reads is left as is
+    assertEquals(new CursorInfo("updated_at", "2023-01-01", "updated_at", "2023-01-01"), cursorInfo);
+  }
+
+  @Test
+  void testReadsChunksConcurrently() throws Exception {
+    final List<Chunk> chunks = ChunkedFullRefreshIterator.split(0L, 1000L, null, 10);
+    final ChunkedFullRefreshIterator iterator = new ChunkedFullRefreshIterator(chunks, this::readChunk, 4, stateManager, PAIR, PRIMARY_KEY);
+
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
+    iterator.close();
+
+    assertEquals(2 * chunks.size(), messages.stream().filter(message -> message.getType() == Type.RECORD).count());
+    final List<AirbyteMessage> states = messages.stream().filter(message -> message.getType() == Type.STATE).toList();
+    assertEquals(Type.STATE, messages.get(messages.size() - 1).getType());
+    // at most one state per chunk, the last one clearing the position
+    assertTrue(states.size() <= chunks.size());
+    assertEquals(states.size(), emittedPositions.size());
+    assertNull(emittedPositions.get(emittedPositions.size() - 1));
+  }
+
+  private AutoCloseableIterator<AirbyteMessage> readChunk(final Chunk chunk) {
+    final List<AirbyteMessage> records = IntStream.range(0, 2)
+        .mapToObj(i -> new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage().withStream(PAIR.getName())))
+        .collect(Collectors.toList());
+    return AutoCloseableIterators.fromIterator(records.iterator());
+  }
+
+}
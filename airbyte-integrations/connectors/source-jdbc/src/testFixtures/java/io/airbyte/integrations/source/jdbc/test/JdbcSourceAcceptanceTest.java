@@ -440,6 +440,25 @@ public abstract class JdbcSourceAcceptanceTest {
     assertThat(actualMessages, Matchers.containsInAnyOrder(expectedMessages.toArray()));
   }
 
+  @Test
+  void testReadInPrimaryKeyChunks() throws Exception {
+    final JsonNode chunkedConfig = Jsons.clone(config);
+    ((ObjectNode) chunkedConfig).put(JdbcUtils.FULL_REFRESH_CHUNK_SIZE_KEY, 1);
+    final List<AirbyteMessage> actualMessages =
+        MoreIterators.toList(
+            source.read(chunkedConfig, getConfiguredCatalogWithOneStream(getDefaultNamespace()), null));
+    final List<AirbyteMessage> actualRecords = actualMessages.stream()
+        .filter(r -> r.getType() == Type.RECORD)
+        .collect(Collectors.toList());
+
+    setEmittedAtToNull(actualRecords);
+    final List<AirbyteMessage> expectedMessages = getTestMessages();
+    assertThat(expectedMessages, Matchers.containsInAnyOrder(actualRecords.toArray()));
+    assertThat(actualRecords, Matchers.containsInAnyOrder(expectedMessages.toArray()));
+    // the read is checkpointed after each chunk, and a last state is emitted once all chunks are read
+    assertEquals(Type.STATE, actualMessages.get(actualMessages.size() - 1).getType());
+  }
+
   @Test
   void testReadOneColumn() throws Exception {
     final ConfiguredAirbyteCatalog catalog = CatalogHelpers
@@ -470,6 +489,17 @@ public abstract class JdbcSourceAcceptanceTest {
 
   @Test
   void testReadMultipleTables() throws Exception {
+    assertReadMultipleTables(config);
+  }
+
+  @Test
+  void testReadMultipleTablesConcurrently() throws Exception {
+    final JsonNode concurrentConfig = Jsons.clone(config);
+    ((ObjectNode) concurrentConfig).put(JdbcUtils.MAX_CONCURRENT_STREAM_READS_KEY, 4);
+    assertReadMultipleTables(concurrentConfig);
+  }
+
+  private void assertReadMultipleTables(final JsonNode readConfig) throws Exception {
     final ConfiguredAirbyteCatalog catalog = getConfiguredCatalogWithOneStream(
         getDefaultNamespace());
     final List<AirbyteMessage> expectedMessages = new ArrayList<>(getTestMessages());
@@ -502,7 +532,7 @@ public abstract class JdbcSourceAcceptanceTest {
     }
 
     final List<AirbyteMessage> actualMessages = MoreIterators
-        .toList(source.read(config, catalog, null));
+        .toList(source.read(readConfig, catalog, null));
 
     setEmittedAtToNull(actualMessages);
 
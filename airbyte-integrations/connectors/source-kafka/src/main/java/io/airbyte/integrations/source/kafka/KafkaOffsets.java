@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage;
+import io.airbyte.protocol.models.v0.AirbyteStateMessage.AirbyteStateType;
+import io.airbyte.protocol.models.v0.AirbyteStreamState;
+import io.airbyte.protocol.models.v0.StreamDescriptor;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Offsets of the next record to read from each partition, kept in the per-stream state of the topic
+ * by partition number, e.g. {"partitions": {"0": 42, "1": 17}}. Reads resume from these offsets
+ * rather than from the offsets committed by the consumer group, so that records polled but not yet
+ * checkpointed are read again by the next sync.
+ */
+public class KafkaOffsets {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KafkaOffsets.class);
+
+  private static final String PARTITIONS_PROPERTY = "partitions";
+
+  private final Map<TopicPartition, Long> offsets;
+
+  public KafkaOffsets() {
+    this.offsets = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @param state state of the source, a list of per-stream state messages, or null
+   */
+  public static KafkaOffsets fromState(final JsonNode state) {
+    final KafkaOffsets kafkaOffsets = new KafkaOffsets();
+    if (state == null || !state.isArray()) {
+      return kafkaOffsets;
+    }
+    final List<AirbyteStateMessage> stateMessages = Jsons.object(state, new TypeReference<>() {});
+    stateMessages.stream()
+        .filter(stateMessage -> stateMessage.getType() == AirbyteStateType.STREAM)
+        .map(AirbyteStateMessage::getStream)
+        .filter(streamState -> streamState.getStreamState() != null && streamState.getStreamState().has(PARTITIONS_PROPERTY))
+        .forEach(streamState -> streamState.getStreamState().get(PARTITIONS_PROPERTY).fields().forEachRemaining(partition -> {
+          final TopicPartition topicPartition =
+              new TopicPartition(streamState.getStreamDescriptor().getName(), Integer.parseInt(partition.getKey()));
+          kafkaOffsets.offsets.put(topicPartition, partition.getValue().asLong());
+        }));
+    LOGGER.info("Resuming from offsets: {}", kafkaOffsets.offsets);
+    return kafkaOffsets;
+  }
+
+  /**
+   * Records that the record at the given offset was read. Offsets only move forward, in case a
+   * partition is read again after being reassigned to another consumer.
+   */
+  public void update(final TopicPartition topicPartition, final long offset) {
+    offsets.merge(topicPartition, offset + 1, Math::max);
+  }
+
+  /**
+   * @return the state of the topic, with the offsets of each of its partitions read so far
+   */
+  public AirbyteStateMessage toStateMessage(final String topic) {
+    final Map<String, Long> partitions = new TreeMap<>();
+    offsets.forEach((topicPartition, offset) -> {
+      if (topicPartition.topic().equals(topic)) {
+        partitions.put(String.valueOf(topicPartition.partition()), offset);
+      }
+    });
+    return new AirbyteStateMessage()
+        .withType(AirbyteStateType.STREAM)
+        .withStream(new AirbyteStreamState()
+            .withStreamDescriptor(new StreamDescriptor().withName(topic))
+            .withStreamState(Jsons.jsonNode(Map.of(PARTITIONS_PROPERTY, partitions))));
+  }
+
+  /**
+   * @return the offsets to commit to the consumer group
+   */
+  public Map<TopicPartition, OffsetAndMetadata> toCommittableOffsets() {
+    return offsets.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, e -> new OffsetAndMetadata(e.getValue())));
+  }
+
+  /**
+   * Moves the consumer to the offsets of the given partitions, if they were read before.
+   */
+  public void seek(final Consumer<?, ?> consumer, final Collection<TopicPartition> partitions) {
+    partitions.forEach(topicPartition -> {
+      final Long offset = offsets.get(topicPartition);
+      if (offset != null) {
+        consumer.seek(topicPartition, offset);
+      }
+    });
+  }
+
+  /**
+   * @return a listener moving the consumer to the offsets of the partitions assigned by the group
+   */
+  public ConsumerRebalanceListener seekOnAssignment(final Consumer<?, ?> consumer) {
+    return new ConsumerRebalanceListener() {
+
+      @Override
+      public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {}
+
+      @Override
+      public void onPartitionsAssigned(final Collection<TopicPartition> partitions) {
+        seek(consumer, partitions);
+      }
+
+    };
+  }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emits the records of the given consumers as they are polled, each consumer being polled by its
+ * own thread. A consumer stops polling once it polled nothing more than the configured number of
+ * times in a row, or once the consumers polled the maximum number of records between them. While
+ * the polled records wait to be emitted, a consumer pauses its partitions and keeps polling, so that
+ * it does not leave its group.
+ *
+ * <p>
+ * The offsets of the emitted records are checkpointed as per-stream state messages every
+ * {@link #CHECKPOINT_RECORD_COUNT} records and when the last record was emitted. Offsets are only
+ * committed to the consumer group once the state message including them was emitted, so that
+ * records which were not checkpointed are read again by the next sync.
+ * </p>
+ */
+public class KafkaRecordIterator<V> extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KafkaRecordIterator.class);
+
+  public static final int CHECKPOINT_RECORD_COUNT = 10_000;
+  // polled batches waiting to be emitted, per consumer
+  private static final int QUEUED_BATCHES_PER_CONSUMER = 2;
+  private static final Duration CLOSE_TIMEOUT = Duration.ofMinutes(1);
+
+  private final KafkaOffsets offsets;
+  private final Function<V, JsonNode> toJson;
+  private final int repeatedCalls;
+  private final Duration pollingTime;
+  private final long maxRecords;
+  private final boolean commitOffsets;
+
+  private final List<Poller> pollers;
+  private final ExecutorService executor;
+  private final BlockingQueue<ConsumerRecords<String, V>> polledRecords;
+  private final AtomicLong polledRecordCount;
+  private final AtomicReference<Throwable> pollFailure;
+  private final CountDownLatch closing;
+  private volatile boolean closed;
+
+  private final Queue<AirbyteMessage> pendingStates;
+  private final Set<String> topicsSinceCheckpoint;
+  private int recordsSinceCheckpoint;
+  private Map<TopicPartition, OffsetAndMetadata> checkpointedOffsets;
+  private int runningPollers;
+  private Iterator<ConsumerRecord<String, V>> currentRecords;
+
+  /**
+   * @param consumers consumers already subscribed or assigned to the partitions to read, the
+   *        iterator closes them
+   * @param offsets offsets to resume from, updated as records are emitted
+   * @param toJson converts the value of a record to the data of its record message
+   * @param repeatedCalls number of empty polls in a row after which a consumer stops polling
+   * @param pollingTime maximum time a poll blocks for
+   * @param maxRecords number of polled records after which the consumers stop polling
+   * @param commitOffsets whether checkpointed offsets are committed to the consumer group
+   */
+  public KafkaRecordIterator(final List<? extends Consumer<String, V>> consumers,
+                             final KafkaOffsets offsets,
+                             final Function<V, JsonNode> toJson,
+                             final int repeatedCalls,
+                             final Duration pollingTime,
+                             final long maxRecords,
+                             final boolean commitOffsets) {
+    this.offsets = offsets;
+    this.toJson = toJson;
+    this.repeatedCalls = repeatedCalls;
+    this.pollingTime = pollingTime;
+    this.maxRecords = maxRecords;
+    this.commitOffsets = commitOffsets;
+    this.pollers = consumers.stream().map(Poller::new).collect(Collectors.toList());
+    this.executor = Executors.newFixedThreadPool(consumers.size());
+    this.polledRecords = new ArrayBlockingQueue<>(consumers.size() * QUEUED_BATCHES_PER_CONSUMER);
+    this.polledRecordCount = new AtomicLong();
+    this.pollFailure = new AtomicReference<>();
+    this.closing = new CountDownLatch(1);
+    this.pendingStates = new ArrayDeque<>();
+    this.topicsSinceCheckpoint = new LinkedHashSet<>();
+    this.runningPollers = pollers.size();
+    pollers.forEach(executor::submit);
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    // the previous state message was handed over, its offsets can be committed
+    if (pendingStates.isEmpty() && checkpointedOffsets != null) {
+      final Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = checkpointedOffsets;
+      pollers.forEach(poller -> poller.offsetsToCommit.set(offsetsToCommit));
+      checkpointedOffsets = null;
+    }
+    if (!pendingStates.isEmpty()) {
+      return pendingStates.poll();
+    }
+    while (true) {
+      if (recordsSinceCheckpoint >= CHECKPOINT_RECORD_COUNT) {
+        checkpoint();
+        return pendingStates.poll();
+      }
+      if (currentRecords != null && currentRecords.hasNext()) {
+        final ConsumerRecord<String, V> record = currentRecords.next();
+        offsets.update(new TopicPartition(record.topic(), record.partition()), record.offset());
+        topicsSinceCheckpoint.add(record.topic());
+        recordsSinceCheckpoint++;
+        return new AirbyteMessage()
+            .withType(AirbyteMessage.Type.RECORD)
+            .withRecord(new AirbyteRecordMessage()
+                .withStream(record.topic())
+                .withEmittedAt(Instant.now().toEpochMilli())
+                .withData(toJson.apply(record.value())));
+      }
+      if (runningPollers == 0) {
+        if (recordsSinceCheckpoint > 0) {
+          checkpoint();
+          return pendingStates.poll();
+        }
+        LOGGER.info("Read {} records from Kafka", polledRecordCount.get());
+        return endOfData();
+      }
+      final ConsumerRecords<String, V> records = takePolledRecords();
+      if (records.isEmpty()) {
+        runningPollers--;
+      } else {
+        currentRecords = records.iterator();
+      }
+    }
+  }
+
+  private ConsumerRecords<String, V> takePolledRecords() {
+    final ConsumerRecords<String, V> records;
+    try {
+      records = polledRecords.take();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+    if (pollFailure.get() != null) {
+      throw new RuntimeException("Failed to poll records from Kafka", pollFailure.get());
+    }
+    return records;
+  }
+
+  private void checkpoint() {
+    topicsSinceCheckpoint.forEach(topic -> pendingStates.add(new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(offsets.toStateMessage(topic))));
+    checkpointedOffsets = offsets.toCommittableOffsets();
+    topicsSinceCheckpoint.clear();
+    recordsSinceCheckpoint = 0;
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    closing.countDown();
+    // unblocks the pollers waiting for room in the queue
+    polledRecords.clear();
+    executor.shutdown();
+    if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+      LOGGER.warn("Kafka consumers did not close within {}", CLOSE_TIMEOUT);
+      executor.shutdownNow();
+    }
+  }
+
+  private class Poller implements Runnable {
+
+    private final Consumer<String, V> consumer;
+    private final AtomicReference<Map<TopicPartition, OffsetAndMetadata>> offsetsToCommit;
+    // polled batches waiting for room in the queue of the iterator
+    private final Queue<ConsumerRecords<String, V>> backlog;
+    private boolean paused;
+    private boolean doneQueued;
+
+    Poller(final Consumer<String, V> consumer) {
+      this.consumer = consumer;
+      this.offsetsToCommit = new AtomicReference<>();
+      this.backlog = new ArrayDeque<>();
+    }
+
+    @Override
+    public void run() {
+      try {
+        poll();
+        // an empty batch tells the iterator this consumer is done
+        backlog.add(ConsumerRecords.empty());
+        // the consumer keeps polling until it is closed, without fetching records, so that it stays in
+        // its group until the last checkpointed offsets are committed
+        while (!closed) {
+          offerBacklog();
+          pause();
+          consumer.poll(pollingTime);
+        }
+      } catch (final Throwable e) {
+        pollFailure.compareAndSet(null, e);
+        if (!doneQueued) {
+          enqueue(ConsumerRecords.empty());
+        }
+      }
+      try {
+        closing.await();
+        commit(true);
+      } catch (final Exception e) {
+        LOGGER.warn("Failed to commit offsets to Kafka, the next sync resumes from its state", e);
+      } finally {
+        consumer.close();
+      }
+    }
+
+    private void poll() {
+      int emptyPolls = 0;
+      while (!closed) {
+        commit(false);
+        if (!offerBacklog()) {
+          // the iterator is behind, the partitions are paused rather than the consumer not polling for
+          // longer than the max poll interval of its group
+          pause();
+          addToBacklog(consumer.poll(pollingTime));
+          continue;
+        }
+        if (polledRecordCount.get() >= maxRecords) {
+          return;
+        }
+        resume();
+        final ConsumerRecords<String, V> records = consumer.poll(pollingTime);
+        if (records.isEmpty()) {
+          if (++emptyPolls > repeatedCalls) {
+            LOGGER.info("There is no new data in the queue of partitions {}", consumer.assignment());
+            return;
+          }
+          continue;
+        }
+        emptyPolls = 0;
+        addToBacklog(records);
+      }
+    }
+
+    private void addToBacklog(final ConsumerRecords<String, V> records) {
+      // records of partitions assigned by a rebalance are polled even though the consumer is paused
+      if (records.isEmpty()) {
+        return;
+      }
+      if (polledRecordCount.addAndGet(records.count()) >= maxRecords) {
+        LOGGER.info("Max record count is reached");
+      }
+      backlog.add(records);
+    }
+
+    /**
+     * Queues the backlog for the iterator, as long as there is room in the queue.
+     *
+     * @return whether the whole backlog was queued
+     */
+    private boolean offerBacklog() {
+      while (!backlog.isEmpty() && polledRecords.offer(backlog.peek())) {
+        doneQueued = backlog.poll().isEmpty();
+      }
+      return backlog.isEmpty();
+    }
+
+    private void pause() {
+      consumer.pause(consumer.assignment());
+      paused = true;
+    }
+
+    private void resume() {
+      if (paused) {
+        consumer.resume(consumer.paused());
+        paused = false;
+      }
+    }
+
+    private void enqueue(final ConsumerRecords<String, V> records) {
+      try {
+        while (!closed && !polledRecords.offer(records, pollingTime.toMillis(), TimeUnit.MILLISECONDS)) {
+          // waits for the iterator to catch up
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private void commit(final boolean sync) {
+      final Map<TopicPartition, OffsetAndMetadata> checkpointed = offsetsToCommit.getAndSet(null);
+      if (!commitOffsets || checkpointed == null) {
+        return;
+      }
+      final Set<TopicPartition> assignment = consumer.assignment();
+      final Map<TopicPartition, OffsetAndMetadata> assigned = checkpointed.entrySet().stream()
+          .filter(entry -> assignment.contains(entry.getKey()))
+          .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+      if (assigned.isEmpty()) {
+        return;
+      }
+      if (sync) {
+        consumer.commitSync(assigned);
+      } else {
+        consumer.commitAsync(assigned, (committed, e) -> {
+          if (e != null) {
+            LOGGER.warn("Failed to commit offsets {} to Kafka", committed, e);
+          }
+        });
+      }
+    }
+
+  }
+
+}
@@ -6,34 +6,186 @@ package io.airbyte.integrations.source.kafka.format;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.source.kafka.KafkaOffsets;
 import io.airbyte.integrations.source.kafka.KafkaProtocol;
+import io.airbyte.integrations.source.kafka.KafkaRecordIterator;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteStream;
+import io.airbyte.protocol.models.v0.CatalogHelpers;
+import io.airbyte.protocol.models.v0.SyncMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.SaslConfigs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public abstract class AbstractFormat implements KafkaFormat {
+/**
+ * @param <V> type of the deserialized values of the Kafka records
+ */
+public abstract class AbstractFormat<V> implements KafkaFormat {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFormat.class);
 
   protected Set<String> topicsToSubscribe;
   protected JsonNode config;
 
+  private KafkaConsumer<String, V> consumer;
+
   public AbstractFormat(JsonNode config) {
     this.config = config;
 
   }
 
-  protected abstract KafkaConsumer<String, ?> getConsumer();
+  /**
+   * @return the data of the record message of a Kafka record with the given value
+   */
+  protected abstract JsonNode toJson(V value);
+
+  protected KafkaConsumer<String, V> getConsumer() {
+    if (consumer != null) {
+      return consumer;
+    }
+    consumer = createConsumer(0);
+
+    final JsonNode subscription = config.get("subscription");
+    LOGGER.info("Kafka subscribe method: {}", subscription.toString());
+    switch (subscription.get("subscription_type").asText()) {
+      case "subscribe" -> {
+        final String topicPattern = subscription.get("topic_pattern").asText();
+        consumer.subscribe(Pattern.compile(topicPattern));
+        topicsToSubscribe = consumer.listTopics().keySet().stream()
+            .filter(topic -> topic.matches(topicPattern))
+            .collect(Collectors.toSet());
+        LOGGER.info("Topic list: {}", topicsToSubscribe);
+      }
+      case "assign" -> {
+        final List<TopicPartition> topicPartitionList = getTopicPartitions();
+        topicsToSubscribe = topicPartitionList.stream().map(TopicPartition::topic).collect(Collectors.toSet());
+        LOGGER.info("Topic-partition list: {}", topicPartitionList);
+        consumer.assign(topicPartitionList);
+      }
+    }
+    return consumer;
+  }
+
+  /**
+   * @param consumerIndex index of the consumer among the consumers of a read, used to tell their
+   *        client ids apart
+   */
+  private KafkaConsumer<String, V> createConsumer(final int consumerIndex) {
+    final Map<String, Object> props = getKafkaConfig();
+    // offsets are committed by the reading iterator once they are checkpointed
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    if (consumerIndex > 0 && props.containsKey(ConsumerConfig.CLIENT_ID_CONFIG)) {
+      props.put(ConsumerConfig.CLIENT_ID_CONFIG, props.get(ConsumerConfig.CLIENT_ID_CONFIG) + "-" + consumerIndex);
+    }
+    return new KafkaConsumer<>(props);
+  }
+
+  private List<TopicPartition> getTopicPartitions() {
+    final String topicPartitions = config.get("subscription").get("topic_partitions").asText();
+    final String[] topicPartitionsStr = topicPartitions.replaceAll("\\s+", "").split(",");
+    return Arrays.stream(topicPartitionsStr).map(topicPartition -> {
+      final String[] pair = topicPartition.split(":");
+      return new TopicPartition(pair[0], Integer.parseInt(pair[1]));
+    }).collect(Collectors.toList());
+  }
+
+  protected Set<String> getTopicsToSubscribe() {
+    if (topicsToSubscribe == null) {
+      getConsumer();
+    }
+    return topicsToSubscribe;
+  }
+
+  @Override
+  public boolean isAccessible() {
+    try {
+      final String testTopic = config.has("test_topic") ? config.get("test_topic").asText() : "";
+      if (!testTopic.isBlank()) {
+        final KafkaConsumer<String, V> consumer = getConsumer();
+        consumer.subscribe(Pattern.compile(testTopic));
+        consumer.listTopics();
+        consumer.close();
+        LOGGER.info("Successfully connected to Kafka brokers for topic '{}'.", config.get("test_topic").asText());
+      }
+      return true;
+    } catch (final Exception e) {
+      LOGGER.error("Exception attempting to connect to the Kafka brokers: ", e);
+      return false;
+    }
+  }
 
-  protected abstract Set<String> getTopicsToSubscribe();
+  @Override
+  public List<AirbyteStream> getStreams() {
+    final Set<String> topicsToSubscribe = getTopicsToSubscribe();
+    final List<AirbyteStream> streams = topicsToSubscribe.stream().map(topic -> CatalogHelpers
+        .createAirbyteStream(topic, Field.of("value", JsonSchemaType.STRING))
+        .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL))
+        .withSourceDefinedCursor(true))
+        .collect(Collectors.toList());
+    return streams;
+  }
+
+  /**
+   * Reads the subscribed topics with as many consumers as configured, each polled by its own
+   * thread. With a subscription to a topic pattern, the consumers join the same group and share the
+   * partitions of the topics, while assigned partitions are split between the consumers.
+   */
+  @Override
+  public AutoCloseableIterator<AirbyteMessage> read(final JsonNode state) {
+    final int retry = config.has("repeated_calls") ? config.get("repeated_calls").intValue() : 0;
+    final int polling_time = config.has("polling_time") ? config.get("polling_time").intValue() : 100;
+    final int max_records = config.has("max_records_process") ? config.get("max_records_process").intValue() : 100000;
+    final int concurrent_consumers = config.has("concurrent_consumers") ? Math.max(config.get("concurrent_consumers").intValue(), 1) : 1;
+    final KafkaOffsets offsets = KafkaOffsets.fromState(state);
+
+    final List<KafkaConsumer<String, V>> consumers = new ArrayList<>();
+    final JsonNode subscription = config.get("subscription");
+    switch (subscription.get("subscription_type").asText()) {
+      case "subscribe" -> {
+        final Pattern topicPattern = Pattern.compile(subscription.get("topic_pattern").asText());
+        for (int i = 0; i < concurrent_consumers; i++) {
+          final KafkaConsumer<String, V> consumer = createConsumer(i);
+          consumer.subscribe(topicPattern, offsets.seekOnAssignment(consumer));
+          consumers.add(consumer);
+        }
+      }
+      case "assign" -> {
+        final List<TopicPartition> topicPartitionList = getTopicPartitions();
+        final int consumerCount = Math.min(concurrent_consumers, topicPartitionList.size());
+        for (int i = 0; i < consumerCount; i++) {
+          final List<TopicPartition> assigned = new ArrayList<>();
+          for (int j = i; j < topicPartitionList.size(); j += consumerCount) {
+            assigned.add(topicPartitionList.get(j));
+          }
+          final KafkaConsumer<String, V> consumer = createConsumer(i);
+          consumer.assign(assigned);
+          offsets.seek(consumer, assigned);
+          consumers.add(consumer);
+        }
+      }
+    }
+    LOGGER.info("Reading with {} Kafka consumers", consumers.size());
+    return new KafkaRecordIterator<>(consumers, offsets, this::toJson, retry, Duration.ofMillis(polling_time), max_records,
+        getKafkaConfig().containsKey(ConsumerConfig.GROUP_ID_CONFIG));
+  }
 
   protected Map<String, Object> getKafkaConfig() {
 
@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.source.kafka.format;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteStream;
@@ -15,6 +16,9 @@ public interface KafkaFormat {
 
   List<AirbyteStream> getStreams();
 
-  AutoCloseableIterator<AirbyteMessage> read();
+  /**
+   * @param state state of the previous sync, a list of per-stream state messages, or null
+   */
+  AutoCloseableIterator<AirbyteMessage> read(JsonNode state);
 
 }
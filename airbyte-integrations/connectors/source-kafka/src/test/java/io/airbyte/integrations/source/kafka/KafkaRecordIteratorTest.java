@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+class KafkaRecordIteratorTest {
+
+  private static final String TOPIC = "test.topic";
+  private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+  private static final Duration POLLING_TIME = Duration.ofMillis(10);
+
+  @Test
+  void testEmitsRecordsThenCheckpointsOffsets() throws Exception {
+    final Consumer<String, JsonNode> consumer = mockConsumer(Set.of(PARTITION_0, PARTITION_1),
+        records(PARTITION_0, 0, 3),
+        records(PARTITION_1, 5, 2));
+
+    final List<AirbyteMessage> messages = readAll(List.of(consumer), new KafkaOffsets(), Long.MAX_VALUE);
+
+    assertEquals(5, messages.stream().filter(message -> message.getType() == Type.RECORD).count());
+    final AirbyteMessage lastMessage = messages.get(messages.size() - 1);
+    assertEquals(Type.STATE, lastMessage.getType());
+    assertEquals(Jsons.jsonNode(Map.of("partitions", Map.of("0", 3L, "1", 7L))), lastMessage.getState().getStream().getStreamState());
+    verify(consumer).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(3), PARTITION_1, new OffsetAndMetadata(7)));
+    verify(consumer).close();
+  }
+
+  @Test
+  void testCheckpointsEveryCheckpointRecordCount() throws Exception {
+    final Consumer<String, JsonNode> consumer = mockConsumer(Set.of(PARTITION_0),
+        records(PARTITION_0, 0, KafkaRecordIterator.CHECKPOINT_RECORD_COUNT + 1));
+
+    final List<AirbyteMessage> messages = readAll(List.of(consumer), new KafkaOffsets(), Long.MAX_VALUE);
+
+    final List<Integer> statePositions = new ArrayList<>();
+    for (int i = 0; i < messages.size(); i++) {
+      if (messages.get(i).getType() == Type.STATE) {
+        statePositions.add(i);
+      }
+    }
+    assertEquals(List.of(KafkaRecordIterator.CHECKPOINT_RECORD_COUNT, KafkaRecordIterator.CHECKPOINT_RECORD_COUNT + 2), statePositions);
+  }
+
+  @Test
+  void testStopsPollingOnceMaxRecordsArePolled() throws Exception {
+    final Consumer<String, JsonNode> consumer = mockConsumer(Set.of(PARTITION_0),
+        records(PARTITION_0, 0, 3),
+        records(PARTITION_0, 3, 3));
+
+    final List<AirbyteMessage> messages = readAll(List.of(consumer), new KafkaOffsets(), 2);
+
+    assertEquals(3, messages.stream().filter(message -> message.getType() == Type.RECORD).count());
+  }
+
+  @Test
+  void testReadsConsumersInParallel() throws Exception {
+    final Consumer<String, JsonNode> consumer0 = mockConsumer(Set.of(PARTITION_0), records(PARTITION_0, 0, 100));
+    final Consumer<String, JsonNode> consumer1 = mockConsumer(Set.of(PARTITION_1), records(PARTITION_1, 0, 50));
+
+    final List<AirbyteMessage> messages = readAll(List.of(consumer0, consumer1), new KafkaOffsets(), Long.MAX_VALUE);
+
+    assertEquals(150, messages.stream().filter(message -> message.getType() == Type.RECORD).count());
+    assertEquals(Jsons.jsonNode(Map.of("partitions", Map.of("0", 100L, "1", 50L))),
+        messages.get(messages.size() - 1).getState().getStream().getStreamState());
+    verify(consumer0).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(100)));
+    verify(consumer1).commitSync(Map.of(PARTITION_1, new OffsetAndMetadata(50)));
+  }
+
+  @Test
+  void testPausesPartitionsUntilPolledRecordsAreEmitted() throws Exception {
+    final Consumer<String, JsonNode> consumer = mockConsumer(Set.of(PARTITION_0),
+        records(PARTITION_0, 0, 1),
+        records(PARTITION_0, 1, 1),
+        records(PARTITION_0, 2, 1),
+        records(PARTITION_0, 3, 1));
+
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    try (final KafkaRecordIterator<JsonNode> iterator =
+        new KafkaRecordIterator<>(List.of(consumer), new KafkaOffsets(), Function.identity(), 0, POLLING_TIME, Long.MAX_VALUE, true)) {
+      // two batches fill the queue, the third one is held back until the iterator catches up
+      verify(consumer, timeout(1000).atLeastOnce()).pause(Set.of(PARTITION_0));
+      iterator.forEachRemaining(messages::add);
+    }
+
+    assertEquals(4, messages.stream().filter(message -> message.getType() == Type.RECORD).count());
+    verify(consumer, atLeastOnce()).resume(any());
+  }
+
+  @Test
+  void testResumesFromState() {
+    final KafkaOffsets previousOffsets = new KafkaOffsets();
+    previousOffsets.update(PARTITION_0, 41);
+    final KafkaOffsets offsets = KafkaOffsets.fromState(Jsons.jsonNode(List.of(previousOffsets.toStateMessage(TOPIC))));
+    final Consumer<String, JsonNode> consumer = mock(Consumer.class);
+
+    offsets.seek(consumer, List.of(PARTITION_0, PARTITION_1));
+
+    verify(consumer).seek(PARTITION_0, 42);
+  }
+
+  @Test
+  void testPollFailureIsRethrown() throws Exception {
+    final Consumer<String, JsonNode> consumer = mock(Consumer.class);
+    when(consumer.poll(any(Duration.class))).thenThrow(new IllegalStateException("broker unavailable"));
+
+    try (final KafkaRecordIterator<JsonNode> iterator =
+        new KafkaRecordIterator<>(List.of(consumer), new KafkaOffsets(), Function.identity(), 0, POLLING_TIME, Long.MAX_VALUE, true)) {
+      assertThrows(RuntimeException.class, iterator::hasNext);
+    }
+    verify(consumer).close();
+  }
+
+  private static List<AirbyteMessage> readAll(final List<Consumer<String, JsonNode>> consumers,
+                                              final KafkaOffsets offsets,
+                                              final long maxRecords)
+      throws Exception {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    try (final KafkaRecordIterator<JsonNode> iterator =
+        new KafkaRecordIterator<>(consumers, offsets, Function.identity(), 0, POLLING_TIME, maxRecords, true)) {
+      iterator.forEachRemaining(messages::add);
+    }
+    return messages;
+  }
+
+  /**
+   * @return a consumer polling the given batches, then nothing
+   */
+  @SafeVarargs
+  @SuppressWarnings("unchecked")
+  private static Consumer<String, JsonNode> mockConsumer(final Set<TopicPartition> assignment,
+                                                         final ConsumerRecords<String, JsonNode>... batches) {
+    final Consumer<String, JsonNode> consumer = mock(Consumer.class);
+    when(consumer.assignment()).thenReturn(assignment);
+    final ConsumerRecords<String, JsonNode>[] nextPolls = Arrays.copyOfRange(batches, 1, batches.length + 1);
+    nextPolls[nextPolls.length - 1] = ConsumerRecords.empty();
+    when(consumer.poll(any(Duration.class))).thenReturn(batches[0], nextPolls);
+    return consumer;
+  }
+
+  private static ConsumerRecords<String, JsonNode> records(final TopicPartition partition, final long firstOffset, final int count) {
+    final List<ConsumerRecord<String, JsonNode>> records = LongStream.range(firstOffset, firstOffset + count)
+        .mapToObj(offset -> new ConsumerRecord<String, JsonNode>(partition.topic(), partition.partition(), offset, null,
+            Jsons.jsonNode(Map.of("offset", offset))))
+        .collect(Collectors.toList());
+    return new ConsumerRecords<>(Map.of(partition, records));
+  }
+
+}
@@ -34,6 +34,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -46,6 +50,7 @@ import org.slf4j.LoggerFactory;
 public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MongoDbSource.class);
+  private static final int DISCOVER_PARALLELISM = 4;
 
   public static void main(final String[] args) throws Exception {
     final Source source = new MongoDbSource();
@@ -102,24 +107,43 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
   @Override
   protected List<TableInfo<CommonField<BsonType>>> discoverInternal(final MongoDatabase database)
       throws Exception {
-    final List<TableInfo<CommonField<BsonType>>> tableInfos = new ArrayList<>();
-
     final Set<String> authorizedCollections = getAuthorizedCollections(database);
-    authorizedCollections.parallelStream().forEach(collectionName -> {
-      final MongoCollection<Document> collection = database.getCollection(collectionName);
-      final List<CommonField<BsonType>> fields = MongoUtils.getUniqueFields(collection).stream().map(MongoUtils::nodeToCommonField).toList();
-
-      // The field name _id is reserved for use as a primary key;
-      final TableInfo<CommonField<BsonType>> tableInfo = TableInfo.<CommonField<BsonType>>builder()
-          .nameSpace(database.getName())
-          .name(collectionName)
-          .fields(fields)
-          .primaryKeys(List.of(MongoUtils.PRIMARY_KEY))
-          .build();
-
-      tableInfos.add(tableInfo);
-    });
-    return tableInfos;
+    if (authorizedCollections.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    // each collection is sampled by a single query, the collections are sampled in parallel
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(authorizedCollections.size(), DISCOVER_PARALLELISM));
+    try {
+      final List<Future<TableInfo<CommonField<BsonType>>>> discoveredCollections = new ArrayList<>();
+      for (final String collectionName : authorizedCollections) {
+        discoveredCollections.add(executor.submit(() -> discoverCollection(database, collectionName)));
+      }
+      final List<TableInfo<CommonField<BsonType>>> tableInfos = new ArrayList<>();
+      for (final Future<TableInfo<CommonField<BsonType>>> discoveredCollection : discoveredCollections) {
+        try {
+          tableInfos.add(discoveredCollection.get());
+        } catch (final ExecutionException e) {
+          throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+      }
+      return tableInfos;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private TableInfo<CommonField<BsonType>> discoverCollection(final MongoDatabase database, final String collectionName) {
+    final MongoCollection<Document> collection = database.getCollection(collectionName);
+    final List<CommonField<BsonType>> fields = MongoUtils.getUniqueFields(collection).stream().map(MongoUtils::nodeToCommonField).toList();
+
+    // The field name _id is reserved for use as a primary key;
+    return TableInfo.<CommonField<BsonType>>builder()
+        .nameSpace(database.getName())
+        .name(collectionName)
+        .fields(fields)
+        .primaryKeys(List.of(MongoUtils.PRIMARY_KEY))
+        .build();
   }
 
   private Set<String> getAuthorizedCollections(final MongoDatabase database) {
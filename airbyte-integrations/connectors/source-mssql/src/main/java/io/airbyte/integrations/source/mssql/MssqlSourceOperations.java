@@ -14,12 +14,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.microsoft.sqlserver.jdbc.Geography;
 import com.microsoft.sqlserver.jdbc.Geometry;
-import com.microsoft.sqlserver.jdbc.SQLServerResultSetMetaData;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.nio.charset.Charset;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,55 +29,49 @@ public class MssqlSourceOperations extends JdbcSourceOperations {
   private static final Logger LOGGER = LoggerFactory.getLogger(MssqlSourceOperations.class);
 
   /**
-   * The method is used to set json value by type. Need to be overridden as MSSQL has some its own
-   * specific types (ex. Geometry, Geography, Hierarchyid, etc)
+   * The method is used to resolve how to set json value by type. Need to be overridden as MSSQL has
+   * some its own specific types (ex. Geometry, Geography, Hierarchyid, etc)
    *
    * @throws SQLException
    */
   @Override
-  public void copyToJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json)
+  protected ColumnCopier getColumnCopier(final ResultSetMetaData metadata, final int colIndex)
       throws SQLException {
 
-    final SQLServerResultSetMetaData metadata = (SQLServerResultSetMetaData) resultSet
-        .getMetaData();
     final String columnName = metadata.getColumnName(colIndex);
     final String columnTypeName = metadata.getColumnTypeName(colIndex);
     final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
 
     if (columnTypeName.equalsIgnoreCase("time")) {
-      putTime(json, columnName, resultSet, colIndex);
+      return skipNulls(this::putTime, columnName, colIndex);
     } else if (columnTypeName.equalsIgnoreCase("geometry")) {
-      putGeometry(json, columnName, resultSet, colIndex);
+      return skipNulls(this::putGeometry, columnName, colIndex);
     } else if (columnTypeName.equalsIgnoreCase("geography")) {
-      putGeography(json, columnName, resultSet, colIndex);
+      return skipNulls(this::putGeography, columnName, colIndex);
     } else {
-      putValue(columnType, resultSet, columnName, colIndex, json);
+      return getValueCopier(columnType, columnName, colIndex);
     }
   }
 
-  private void putValue(final JDBCType columnType,
-                        final ResultSet resultSet,
-                        final String columnName,
-                        final int colIndex,
-                        final ObjectNode json)
-      throws SQLException {
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, NVARCHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet,
-          colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+  private ColumnCopier getValueCopier(final JDBCType columnType,
+                                      final String columnName,
+                                      final int colIndex) {
+    return switch (columnType) {
+      case BIT, BOOLEAN -> skipNullsAfterRead(this::putBoolean, columnName, colIndex);
+      case TINYINT, SMALLINT -> skipNullsAfterRead(this::putShortInt, columnName, colIndex);
+      case INTEGER -> skipNullsAfterRead(this::putInteger, columnName, colIndex);
+      case BIGINT -> skipNullsAfterRead(this::putBigInt, columnName, colIndex);
+      case FLOAT, DOUBLE -> skipNullsAfterRead(this::putDouble, columnName, colIndex);
+      case REAL -> skipNullsAfterRead(this::putFloat, columnName, colIndex);
+      case NUMERIC, DECIMAL -> skipNullsAfterRead(this::putBigDecimal, columnName, colIndex);
+      case CHAR, NVARCHAR, VARCHAR, LONGVARCHAR -> skipNullsAfterRead(this::putString, columnName, colIndex);
+      case DATE -> skipNulls(this::putDate, columnName, colIndex);
+      case TIME -> skipNulls(this::putTime, columnName, colIndex);
+      case TIMESTAMP -> skipNulls(this::putTimestamp, columnName, colIndex);
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> skipNulls(this::putBinary, columnName, colIndex);
+      case ARRAY -> skipNulls(this::putArray, columnName, colIndex);
+      default -> skipNullsAfterRead(this::putDefault, columnName, colIndex);
+    };
   }
 
   @Override
@@ -4,11 +4,13 @@
 
 package io.airbyte.integrations.source.mysql;
 
+import static io.airbyte.integrations.source.mysql.MySqlSource.IS_COMPRESSED;
 import static io.airbyte.integrations.source.mysql.MySqlSource.MYSQL_CDC_OFFSET;
 import static io.airbyte.integrations.source.mysql.MySqlSource.MYSQL_DB_HISTORY;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.integrations.debezium.CdcSavedInfoFetcher;
+import io.airbyte.integrations.debezium.SchemaHistory;
 import io.airbyte.integrations.source.relationaldb.models.CdcState;
 import java.util.Optional;
 
@@ -16,11 +18,15 @@ public class MySqlCdcSavedInfoFetcher implements CdcSavedInfoFetcher {
 
   private final JsonNode savedOffset;
   private final JsonNode savedSchemaHistory;
+  private final boolean isSavedSchemaHistoryCompressed;
 
   protected MySqlCdcSavedInfoFetcher(final CdcState savedState) {
     final boolean savedStatePresent = savedState != null && savedState.getState() != null;
     this.savedOffset = savedStatePresent ? savedState.getState().get(MYSQL_CDC_OFFSET) : null;
     this.savedSchemaHistory = savedStatePresent ? savedState.getState().get(MYSQL_DB_HISTORY) : null;
+    // the history saved by previous versions is not compressed and not flagged
+    this.isSavedSchemaHistoryCompressed = savedStatePresent && savedState.getState().has(IS_COMPRESSED)
+        && savedState.getState().get(IS_COMPRESSED).asBoolean();
   }
 
   @Override
@@ -29,8 +35,8 @@ public class MySqlCdcSavedInfoFetcher implements CdcSavedInfoFetcher {
   }
 
   @Override
-  public Optional<JsonNode> getSavedSchemaHistory() {
-    return Optional.ofNullable(savedSchemaHistory);
+  public Optional<SchemaHistory<JsonNode>> getSavedSchemaHistory() {
+    return Optional.ofNullable(savedSchemaHistory).map(history -> new SchemaHistory<>(history, isSavedSchemaHistoryCompressed));
   }
 
 }
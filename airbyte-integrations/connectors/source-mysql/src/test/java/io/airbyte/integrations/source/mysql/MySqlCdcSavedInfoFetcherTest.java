@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.mysql;
+
+import static io.airbyte.integrations.source.mysql.MySqlSource.IS_COMPRESSED;
+import static io.airbyte.integrations.source.mysql.MySqlSource.MYSQL_CDC_OFFSET;
+import static io.airbyte.integrations.source.mysql.MySqlSource.MYSQL_DB_HISTORY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.debezium.SchemaHistory;
+import io.airbyte.integrations.source.relationaldb.models.CdcState;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class MySqlCdcSavedInfoFetcherTest {
+
+  private static final String HISTORY = "{\"ddl\":\"CREATE TABLE a (id INT)\"}";
+
+  @Test
+  void testReadsCompressedSchemaHistory() {
+    final Optional<SchemaHistory<JsonNode>> schemaHistory =
+        new MySqlCdcSavedInfoFetcher(createState("H4sIAAAAAAAA", true)).getSavedSchemaHistory();
+
+    assertTrue(schemaHistory.isPresent());
+    assertTrue(schemaHistory.get().isCompressed());
+    assertEquals("H4sIAAAAAAAA", schemaHistory.get().schema().asText());
+  }
+
+  @Test
+  void testReadsLegacyUncompressedSchemaHistory() {
+    final Optional<SchemaHistory<JsonNode>> schemaHistory =
+        new MySqlCdcSavedInfoFetcher(createState(HISTORY, null)).getSavedSchemaHistory();
+
+    assertTrue(schemaHistory.isPresent());
+    assertFalse(schemaHistory.get().isCompressed());
+    assertEquals(HISTORY, schemaHistory.get().schema().asText());
+  }
+
+  @Test
+  void testWithoutSavedState() {
+    assertTrue(new MySqlCdcSavedInfoFetcher(null).getSavedSchemaHistory().isEmpty());
+  }
+
+  private static CdcState createState(final String history, final Boolean isCompressed) {
+    final Map<String, Object> state = new HashMap<>();
+    state.put(MYSQL_CDC_OFFSET, Map.of());
+    state.put(MYSQL_DB_HISTORY, history);
+    if (isCompressed != null) {
+      state.put(IS_COMPRESSED, isCompressed);
+    }
+    return new CdcState().withState(Jsons.jsonNode(state));
+  }
+
+}
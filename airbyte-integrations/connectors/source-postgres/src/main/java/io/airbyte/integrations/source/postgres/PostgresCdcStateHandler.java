@@ -7,12 +7,13 @@ package io.airbyte.integrations.source.postgres;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.debezium.CdcStateHandler;
+import io.airbyte.integrations.debezium.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.SchemaHistory;
 import io.airbyte.integrations.source.relationaldb.models.CdcState;
 import io.airbyte.integrations.source.relationaldb.state.StateManager;
 import io.airbyte.protocol.models.v0.AirbyteMessage;
 import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
 import io.airbyte.protocol.models.v0.AirbyteStateMessage;
-import io.debezium.engine.ChangeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +30,7 @@ public class PostgresCdcStateHandler implements CdcStateHandler {
   }
 
   @Override
-  public AirbyteMessage saveState(final Map<String, String> offset, final String dbHistory) {
+  public AirbyteMessage saveState(final Map<String, String> offset, final SchemaHistory<String> dbHistory) {
     final JsonNode asJson = Jsons.jsonNode(offset);
     LOGGER.info("debezium state: {}", asJson);
     final CdcState cdcState = new CdcState().withState(asJson);
@@ -64,13 +65,13 @@ public class PostgresCdcStateHandler implements CdcStateHandler {
   }
 
   @Override
-  public boolean isSnapshotEvent(final ChangeEvent<String, String> event){
-    JsonNode isSnapshotEvent = Jsons.deserialize(event.value()).get("source").get("snapshot");
+  public boolean isSnapshotEvent(final ChangeEventWithMetadata event){
+    JsonNode isSnapshotEvent = event.eventValueAsJson().get("source").get("snapshot");
     return isSnapshotEvent != null && isSnapshotEvent.asBoolean();
   }
 
   @Override
-  public boolean isRecordBehindOffset(final Map<String, String> offset, final ChangeEvent<String, String> event) {
+  public boolean isRecordBehindOffset(final Map<String, String> offset, final ChangeEventWithMetadata event) {
     if (offset.size() != 1) {
       return false;
     }
@@ -80,7 +81,7 @@ public class PostgresCdcStateHandler implements CdcStateHandler {
     final String offset_lsn = offsetJson.get("lsn_commit") != null ?
         String.valueOf(offsetJson.get("lsn_commit")) :
         String.valueOf(offsetJson.get("lsn"));
-    final String event_lsn = String.valueOf(Jsons.deserialize(event.value()).get("source").get("lsn"));
+    final String event_lsn = String.valueOf(event.eventValueAsJson().get("source").get("lsn"));
     return Integer.parseInt(event_lsn) > Integer.parseInt(offset_lsn);
   }
 
@@ -41,7 +41,6 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.postgresql.geometric.PGbox;
@@ -51,7 +50,6 @@ import org.postgresql.geometric.PGlseg;
 import org.postgresql.geometric.PGpath;
 import org.postgresql.geometric.PGpoint;
 import org.postgresql.geometric.PGpolygon;
-import org.postgresql.jdbc.PgResultSetMetaData;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,27 +62,11 @@ public class PostgresSourceOperations extends AbstractJdbcCompatibleSourceOperat
   private static final String TIMETZ = "timetz";
   private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
   private static final Map<Integer, PostgresType> POSTGRES_TYPE_DICT = new HashMap<>();
-  private final Map<String, Map<String, ColumnInfo>> streamColumnInfo = new HashMap<>();
 
   static {
     Arrays.stream(PostgresType.class.getEnumConstants()).forEach(c -> POSTGRES_TYPE_DICT.put(c.type, c));
   }
 
-  @Override
-  public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final ResultSetMetaData metadata = queryContext.getMetaData();
-    final int columnCount = metadata.getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
-      // convert to java types that will convert into reasonable json.
-      copyToJsonField(queryContext, i, jsonNode);
-    }
-
-    return jsonNode;
-  }
-
   @Override
   public void setCursorField(final PreparedStatement preparedStatement,
                              final int parameterIndex,
@@ -152,61 +134,83 @@ public class PostgresSourceOperations extends AbstractJdbcCompatibleSourceOperat
 
   @Override
   public void copyToJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final PgResultSetMetaData metadata = (PgResultSetMetaData) resultSet.getMetaData();
+    copyColumnToJsonField(resultSet, colIndex, json);
+  }
+
+  @Override
+  protected ColumnCopier getColumnCopier(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
     final String columnName = metadata.getColumnName(colIndex);
-    final ColumnInfo columnInfo = getColumnInfo(colIndex, metadata, columnName);
-    final String value = resultSet.getString(colIndex);
-    if (value == null) {
-      json.putNull(columnName);
-    } else {
-      switch (columnInfo.columnTypeName) {
-        case "bool", "boolean" -> putBoolean(json, columnName, resultSet, colIndex);
-        case "bytea" -> json.put(columnName, value);
-        case TIMETZ -> putTimeWithTimezone(json, columnName, resultSet, colIndex);
-        case TIMESTAMPTZ -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-        case "hstore" -> putHstoreAsJson(json, columnName, resultSet, colIndex);
-        case "circle" -> putObject(json, columnName, resultSet, colIndex, PGcircle.class);
-        case "box" -> putObject(json, columnName, resultSet, colIndex, PGbox.class);
-        case "double precision", "float", "float8" -> putDouble(json, columnName, resultSet, colIndex);
-        case "line" -> putObject(json, columnName, resultSet, colIndex, PGline.class);
-        case "lseg" -> putObject(json, columnName, resultSet, colIndex, PGlseg.class);
-        case "path" -> putObject(json, columnName, resultSet, colIndex, PGpath.class);
-        case "point" -> putObject(json, columnName, resultSet, colIndex, PGpoint.class);
-        case "polygon" -> putObject(json, columnName, resultSet, colIndex, PGpolygon.class);
-        case "_varchar", "_char", "_bpchar", "_text", "_name" -> putArray(json, columnName, resultSet, colIndex);
-        case "_int2", "_int4", "_int8", "_oid" -> putLongArray(json, columnName, resultSet, colIndex);
-        case "_numeric", "_decimal" -> putBigDecimalArray(json, columnName, resultSet, colIndex);
-        case "_money" -> putMoneyArray(json, columnName, resultSet, colIndex);
-        case "_float4", "_float8" -> putDoubleArray(json, columnName, resultSet, colIndex);
-        case "_bool" -> putBooleanArray(json, columnName, resultSet, colIndex);
-        case "_bit" -> putBitArray(json, columnName, resultSet, colIndex);
-        case "_bytea" -> putByteaArray(json, columnName, resultSet, colIndex);
-        case "_date" -> putDateArray(json, columnName, resultSet, colIndex);
-        case "_timestamptz" -> putTimestampTzArray(json, columnName, resultSet, colIndex);
-        case "_timestamp" -> putTimestampArray(json, columnName, resultSet, colIndex);
-        case "_timetz" -> putTimeTzArray(json, columnName, resultSet, colIndex);
-        case "_time" -> putTimeArray(json, columnName, resultSet, colIndex);
-        default -> {
-          switch (columnInfo.columnType) {
-            case BOOLEAN -> json.put(columnName, value.equalsIgnoreCase("t"));
-            case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-            case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-            case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-            case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-            case REAL -> putFloat(json, columnName, resultSet, colIndex);
-            case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-            // BIT is a bit string in Postgres, e.g. '0100'
-            case BIT, CHAR, VARCHAR, LONGVARCHAR -> json.put(columnName, value);
-            case DATE -> putDate(json, columnName, resultSet, colIndex);
-            case TIME -> putTime(json, columnName, resultSet, colIndex);
-            case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-            case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-            case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-            default -> json.put(columnName, value);
-          }
-        }
+    final String columnTypeName = metadata.getColumnTypeName(colIndex).toLowerCase();
+    return switch (columnTypeName) {
+      case "bool", "boolean" -> putNulls(this::putBoolean, columnName, colIndex);
+      case "bytea" -> copyString(columnName, colIndex);
+      case TIMETZ -> putNulls(this::putTimeWithTimezone, columnName, colIndex);
+      case TIMESTAMPTZ -> putNulls(this::putTimestampWithTimezone, columnName, colIndex);
+      case "hstore" -> putNulls(this::putHstoreAsJson, columnName, colIndex);
+      case "circle" -> putNulls(objectPutter(PGcircle.class), columnName, colIndex);
+      case "box" -> putNulls(objectPutter(PGbox.class), columnName, colIndex);
+      case "double precision", "float", "float8" -> putNulls(super::putDouble, columnName, colIndex);
+      case "line" -> putNulls(objectPutter(PGline.class), columnName, colIndex);
+      case "lseg" -> putNulls(objectPutter(PGlseg.class), columnName, colIndex);
+      case "path" -> putNulls(objectPutter(PGpath.class), columnName, colIndex);
+      case "point" -> putNulls(objectPutter(PGpoint.class), columnName, colIndex);
+      case "polygon" -> putNulls(objectPutter(PGpolygon.class), columnName, colIndex);
+      case "_varchar", "_char", "_bpchar", "_text", "_name" -> putNulls(this::putArray, columnName, colIndex);
+      case "_int2", "_int4", "_int8", "_oid" -> putNulls(this::putLongArray, columnName, colIndex);
+      case "_numeric", "_decimal" -> putNulls(this::putBigDecimalArray, columnName, colIndex);
+      case "_money" -> putNulls(this::putMoneyArray, columnName, colIndex);
+      case "_float4", "_float8" -> putNulls(this::putDoubleArray, columnName, colIndex);
+      case "_bool" -> putNulls(this::putBooleanArray, columnName, colIndex);
+      case "_bit" -> putNulls(this::putBitArray, columnName, colIndex);
+      case "_bytea" -> putNulls(this::putByteaArray, columnName, colIndex);
+      case "_date" -> putNulls(this::putDateArray, columnName, colIndex);
+      case "_timestamptz" -> putNulls(this::putTimestampTzArray, columnName, colIndex);
+      case "_timestamp" -> putNulls(this::putTimestampArray, columnName, colIndex);
+      case "_timetz" -> putNulls(this::putTimeTzArray, columnName, colIndex);
+      case "_time" -> putNulls(this::putTimeArray, columnName, colIndex);
+      default -> switch (safeGetJdbcType(metadata.getColumnType(colIndex), POSTGRES_TYPE_DICT)) {
+        case BOOLEAN -> putNulls(this::putBoolean, columnName, colIndex);
+        case TINYINT, SMALLINT -> putNulls(this::putShortInt, columnName, colIndex);
+        case INTEGER -> putNulls(this::putInteger, columnName, colIndex);
+        case BIGINT -> putNulls(this::putBigInt, columnName, colIndex);
+        case FLOAT, DOUBLE -> putNulls("money".equals(columnTypeName) ? this::putMoney : super::putDouble, columnName, colIndex);
+        case REAL -> putNulls(this::putFloat, columnName, colIndex);
+        case NUMERIC, DECIMAL -> putNulls(this::putBigDecimal, columnName, colIndex);
+        // BIT is a bit string in Postgres, e.g. '0100'
+        case BIT, CHAR, VARCHAR, LONGVARCHAR -> copyString(columnName, colIndex);
+        case DATE -> putNulls(this::putDate, columnName, colIndex);
+        case TIME -> putNulls(this::putTime, columnName, colIndex);
+        case TIMESTAMP -> putNulls(this::putTimestamp, columnName, colIndex);
+        case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putNulls(this::putBinary, columnName, colIndex);
+        case ARRAY -> putNulls(this::putArray, columnName, colIndex);
+        default -> copyString(columnName, colIndex);
+      };
+    };
+  }
+
+  /**
+   * @return a copier which puts an explicit null for null values, as Postgres records keep their null
+   *         columns, and otherwise puts the value with the putter
+   */
+  private static ColumnCopier putNulls(final ColumnPutter putter, final String columnName, final int index) {
+    return (resultSet, node) -> {
+      if (resultSet.getString(index) == null) {
+        node.putNull(columnName);
+      } else {
+        putter.put(node, columnName, resultSet, index);
       }
-    }
+    };
+  }
+
+  /**
+   * @return a copier which puts the text representation of the value, null included
+   */
+  private static ColumnCopier copyString(final String columnName, final int index) {
+    return (resultSet, node) -> node.put(columnName, resultSet.getString(index));
+  }
+
+  private <T extends PGobject> ColumnPutter objectPutter(final Class<T> clazz) {
+    return (node, columnName, resultSet, index) -> putObject(node, columnName, resultSet, index, clazz);
   }
 
   private void putTimeArray(final ObjectNode node, final String columnName, final ResultSet resultSet, final int colIndex) throws SQLException {
@@ -570,36 +574,4 @@ public class PostgresSourceOperations extends AbstractJdbcCompatibleSourceOperat
     return PostgresUtils.ALLOWED_CURSOR_TYPES.contains(type);
   }
 
-  private ColumnInfo getColumnInfo(final int colIndex, final PgResultSetMetaData metadata, final String columnName) throws SQLException {
-    final String tableName = metadata.getBaseTableName(colIndex);
-    final String schemaName = metadata.getBaseSchemaName(colIndex);
-    final String key = schemaName + tableName;
-    if (!streamColumnInfo.containsKey(key)) {
-      streamColumnInfo.clear();
-      streamColumnInfo.put(key, new HashMap<>(metadata.getColumnCount()));
-    }
-
-    final Map<String, ColumnInfo> stringColumnInfoMap = streamColumnInfo.get(key);
-    if (stringColumnInfoMap.containsKey(columnName)) {
-      return stringColumnInfoMap.get(columnName);
-    } else {
-      final PostgresType columnType = safeGetJdbcType(metadata.getColumnType(colIndex), POSTGRES_TYPE_DICT);
-      final ColumnInfo columnInfo = new ColumnInfo(metadata.getColumnTypeName(colIndex).toLowerCase(), columnType);
-      stringColumnInfoMap.put(columnName, columnInfo);
-      return columnInfo;
-    }
-  }
-
-  private static class ColumnInfo {
-
-    public String columnTypeName;
-    public PostgresType columnType;
-
-    public ColumnInfo(final String columnTypeName, final PostgresType columnType) {
-      this.columnTypeName = columnTypeName;
-      this.columnType = columnType;
-    }
-
-  }
-
 }
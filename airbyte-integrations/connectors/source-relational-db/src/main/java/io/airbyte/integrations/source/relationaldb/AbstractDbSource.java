@@ -75,6 +75,8 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     BaseConnector implements Source, AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDbSource.class);
+  // max number of messages read ahead of the consumer when streams are read concurrently
+  private static final int CONCURRENT_READ_QUEUE_CAPACITY = 10_000;
   // TODO: Remove when the flag is not use anymore
   private final FeatureFlags featureFlags = new EnvVariableFeatureFlags();
 
@@ -161,8 +163,17 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
 
+    final int maxConcurrentStreamReads = getMaxConcurrentStreamReads(config);
+    final AutoCloseableIterator<AirbyteMessage> concatenatedIterator;
+    if (maxConcurrentStreamReads > 1 && iteratorList.size() > 1) {
+      LOGGER.info("Reading up to {} streams concurrently.", maxConcurrentStreamReads);
+      concatenatedIterator = AutoCloseableIterators.concatWithConcurrency(iteratorList, maxConcurrentStreamReads, CONCURRENT_READ_QUEUE_CAPACITY);
+    } else {
+      concatenatedIterator = AutoCloseableIterators.concatWithEagerClose(iteratorList);
+    }
+
     return AutoCloseableIterators
-        .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+        .appendOnClose(concatenatedIterator, () -> {
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(this::close);
           LOGGER.info("Closed database connection pool.");
@@ -436,9 +447,8 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
               getStateEmissionFrequency()),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      estimateFullRefreshSyncSize(database, airbyteStream);
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields,
-          table, emittedAt);
+      iterator = getFullRefreshIterator(database, airbyteStream, selectedDatabaseFields, table,
+          stateManager, emittedAt);
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(
           String.format("%s requires a source sync mode", this.getClass()));
@@ -458,6 +468,30 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     });
   }
 
+  /**
+   * Creates the iterator reading all records of a stream in full refresh sync mode. Sources can
+   * override it to split the read, in which case they can use the state manager to checkpoint their
+   * progress.
+   *
+   * @param database Source Database
+   * @param airbyteStream represents an ingestion source (e.g. API endpoint or database table)
+   * @param selectedDatabaseFields subset of database fields selected for replication
+   * @param table information in tabular format
+   * @param stateManager Manager used to track the state of data synced by the connector
+   * @param emittedAt Time when data was emitted from the Source database
+   * @return AirbyteMessage Iterator with all records of the stream
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshIterator(final Database database,
+                                                                         final ConfiguredAirbyteStream airbyteStream,
+                                                                         final List<String> selectedDatabaseFields,
+                                                                         final TableInfo<CommonField<DataType>> table,
+                                                                         final StateManager stateManager,
+                                                                         final Instant emittedAt) {
+    estimateFullRefreshSyncSize(database, airbyteStream);
+    return getFullRefreshStream(database, airbyteStream.getStream().getName(), airbyteStream.getStream().getNamespace(),
+        selectedDatabaseFields, table, emittedAt);
+  }
+
   /**
    * @param database Source Database
    * @param airbyteStream represents an ingestion source (e.g. API endpoint or database table)
@@ -522,11 +556,11 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return getMessageIterator(queryStream, streamName, namespace, emittedAt.toEpochMilli());
   }
 
-  private AutoCloseableIterator<AirbyteMessage> getMessageIterator(
-                                                                   final AutoCloseableIterator<JsonNode> recordIterator,
-                                                                   final String streamName,
-                                                                   final String namespace,
-                                                                   final long emittedAt) {
+  protected AutoCloseableIterator<AirbyteMessage> getMessageIterator(
+                                                                     final AutoCloseableIterator<JsonNode> recordIterator,
+                                                                     final String streamName,
+                                                                     final String namespace,
+                                                                     final long emittedAt) {
     return AutoCloseableIterators.transform(recordIterator, r -> new AirbyteMessage()
         .withType(Type.RECORD)
         .withRecord(new AirbyteRecordMessage()
@@ -690,6 +724,19 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return 0;
   }
 
+  /**
+   * When larger than 1, up to this number of streams are read at the same time, each one on its own
+   * thread, and their messages are interleaved. The messages of a given stream, including its state
+   * messages, keep their order. The database returned by {@link #createDatabase(JsonNode)} must then
+   * support concurrent queries.
+   *
+   * @param config The connector configuration.
+   * @return max number of streams read concurrently
+   */
+  protected int getMaxConcurrentStreamReads(final JsonNode config) {
+    return 1;
+  }
+
   /**
    * @return list of fields that could be used as cursors
    */
@@ -16,6 +16,10 @@ public class CursorInfo {
   private String cursor;
   private long cursorRecordCount;
 
+  // checkpoint of a full refresh read in ranges of the primary key, unrelated to the cursor
+  private String fullRefreshPrimaryKey;
+  private String fullRefreshPosition;
+
   public CursorInfo(final String originalCursorField,
                     final String originalCursor,
                     final String cursorField,
@@ -72,6 +76,25 @@ public class CursorInfo {
     return this;
   }
 
+  public String getFullRefreshPrimaryKey() {
+    return fullRefreshPrimaryKey;
+  }
+
+  public String getFullRefreshPosition() {
+    return fullRefreshPosition;
+  }
+
+  /**
+   * Records up to which value of the primary key a full refresh read of the stream has been read, or
+   * clears it when both are null. Incremental reads only rely on the cursor.
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public CursorInfo setFullRefreshPosition(final String fullRefreshPrimaryKey, final String fullRefreshPosition) {
+    this.fullRefreshPrimaryKey = fullRefreshPrimaryKey;
+    this.fullRefreshPosition = fullRefreshPosition;
+    return this;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -86,12 +109,15 @@ public class CursorInfo {
         && Objects.equals(originalCursorRecordCount, that.originalCursorRecordCount)
         && Objects.equals(cursorField, that.cursorField)
         && Objects.equals(cursor, that.cursor)
-        && Objects.equals(cursorRecordCount, that.cursorRecordCount);
+        && Objects.equals(cursorRecordCount, that.cursorRecordCount)
+        && Objects.equals(fullRefreshPrimaryKey, that.fullRefreshPrimaryKey)
+        && Objects.equals(fullRefreshPosition, that.fullRefreshPosition);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(originalCursorField, originalCursor, originalCursorRecordCount, cursorField, cursor, cursorRecordCount);
+    return Objects.hash(originalCursorField, originalCursor, originalCursorRecordCount, cursorField, cursor, cursorRecordCount,
+        fullRefreshPrimaryKey, fullRefreshPosition);
   }
 
   @Override
@@ -103,6 +129,8 @@ public class CursorInfo {
         ", cursorField='" + cursorField + '\'' +
         ", cursor='" + cursor + '\'' +
         ", cursorRecordCount='" + cursorRecordCount + '\'' +
+        ", fullRefreshPrimaryKey='" + fullRefreshPrimaryKey + '\'' +
+        ", fullRefreshPosition='" + fullRefreshPosition + '\'' +
         '}';
   }
 
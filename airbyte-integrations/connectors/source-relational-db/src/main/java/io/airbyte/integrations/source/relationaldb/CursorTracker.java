@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.protocol.models.JsonSchemaPrimitiveUtil.JsonSchemaPrimitive;
+import java.math.BigDecimal;
+
+/**
+ * Tracks the maximum cursor value of a stream, comparing the cursor values of its records as the
+ * type of the cursor field rather than as strings. The comparison is chosen once per stream, and the
+ * values are kept in their typed form, so that comparing the cursor of a record neither parses nor
+ * allocates in the common cases. Values are converted to strings only when a state is emitted.
+ *
+ * <p>
+ * The value given to {@link #compareToMax(JsonNode)} is kept as the candidate, which becomes the
+ * maximum once {@link #acceptCandidate()} is called. The maximum can also be kept aside with
+ * {@link #markReady()}, as the cursor of the next intermediate state.
+ * </p>
+ */
+public abstract class CursorTracker {
+
+  /**
+   * @param cursorType type of the cursor field, in the schema of the stream
+   * @param initialCursor cursor value the stream is read from, or null to read it from the start
+   */
+  public static CursorTracker create(final JsonSchemaPrimitive cursorType, final String initialCursor) {
+    return switch (cursorType) {
+      case STRING, STRING_V1, DATE_V1, TIME_WITH_TIMEZONE_V1, TIME_WITHOUT_TIMEZONE_V1, TIMESTAMP_WITH_TIMEZONE_V1, TIMESTAMP_WITHOUT_TIMEZONE_V1 -> new StringCursorTracker(
+          initialCursor);
+      case NUMBER, NUMBER_V1, INTEGER_V1 -> new NumberCursorTracker(initialCursor);
+      case BOOLEAN, BOOLEAN_V1 -> new BooleanCursorTracker(initialCursor);
+      // includes OBJECT, ARRAY, NULL, which only fail once a record has a cursor value
+      default -> new UnsupportedCursorTracker(cursorType, initialCursor);
+    };
+  }
+
+  /**
+   * Compares the maximum cursor value with the given one, which becomes the candidate.
+   *
+   * @param value non-null cursor value of a record
+   * @return a value less than 0 if there is no maximum or if it is less than the given value, greater
+   *         than 0 if it is greater, else 0
+   */
+  public abstract int compareToMax(JsonNode value);
+
+  /**
+   * Makes the value last given to {@link #compareToMax(JsonNode)} the maximum.
+   */
+  public abstract void acceptCandidate();
+
+  /**
+   * Keeps the current maximum as the cursor returned by {@link #getReadyCursor()}.
+   */
+  public abstract void markReady();
+
+  /**
+   * @return the maximum cursor value, null if there is none
+   */
+  public abstract String getMaxCursor();
+
+  /**
+   * @return the maximum cursor value when {@link #markReady()} was last called
+   */
+  public abstract String getReadyCursor();
+
+  private static String removeNullCharacters(final String value) {
+    if (value.indexOf('\u0000') >= 0) {
+      return value.replace("\u0000", "");
+    }
+    return value;
+  }
+
+  private static class StringCursorTracker extends CursorTracker {
+
+    private String max;
+    private String candidate;
+    private String ready;
+
+    StringCursorTracker(final String initialCursor) {
+      this.max = initialCursor;
+    }
+
+    @Override
+    public int compareToMax(final JsonNode value) {
+      candidate = removeNullCharacters(value.asText());
+      return max == null ? -1 : max.compareTo(candidate);
+    }
+
+    @Override
+    public void acceptCandidate() {
+      max = candidate;
+    }
+
+    @Override
+    public void markReady() {
+      ready = max;
+    }
+
+    @Override
+    public String getMaxCursor() {
+      return max;
+    }
+
+    @Override
+    public String getReadyCursor() {
+      return ready;
+    }
+
+  }
+
+  private static class BooleanCursorTracker extends CursorTracker {
+
+    private final String initialCursor;
+    private boolean hasMax;
+    private boolean max;
+    private boolean candidate;
+    private boolean hasReady;
+    private boolean ready;
+    // the initial cursor is kept as it was, until a record goes past it
+    private boolean isInitialMax;
+    private boolean isInitialReady;
+
+    BooleanCursorTracker(final String initialCursor) {
+      this.initialCursor = initialCursor;
+      this.hasMax = initialCursor != null;
+      this.max = Boolean.parseBoolean(initialCursor);
+      this.isInitialMax = hasMax;
+    }
+
+    @Override
+    public int compareToMax(final JsonNode value) {
+      candidate = value.isBoolean() ? value.booleanValue() : Boolean.parseBoolean(value.asText());
+      return hasMax ? Boolean.compare(max, candidate) : -1;
+    }
+
+    @Override
+    public void acceptCandidate() {
+      hasMax = true;
+      max = candidate;
+      isInitialMax = false;
+    }
+
+    @Override
+    public void markReady() {
+      hasReady = hasMax;
+      ready = max;
+      isInitialReady = isInitialMax;
+    }
+
+    @Override
+    public String getMaxCursor() {
+      return isInitialMax ? initialCursor : (hasMax ? Boolean.toString(max) : null);
+    }
+
+    @Override
+    public String getReadyCursor() {
+      return isInitialReady ? initialCursor : (hasReady ? Boolean.toString(ready) : null);
+    }
+
+  }
+
+  private static class NumberCursorTracker extends CursorTracker {
+
+    private final NumberValue max = new NumberValue();
+    private final NumberValue candidate = new NumberValue();
+    private final NumberValue ready = new NumberValue();
+
+    NumberCursorTracker(final String initialCursor) {
+      if (initialCursor != null) {
+        max.setText(initialCursor);
+      }
+    }
+
+    @Override
+    public int compareToMax(final JsonNode value) {
+      candidate.set(value);
+      return max.isPresent() ? max.compareTo(candidate) : -1;
+    }
+
+    @Override
+    public void acceptCandidate() {
+      max.copy(candidate);
+    }
+
+    @Override
+    public void markReady() {
+      ready.copy(max);
+    }
+
+    @Override
+    public String getMaxCursor() {
+      return max.toCursor();
+    }
+
+    @Override
+    public String getReadyCursor() {
+      return ready.toCursor();
+    }
+
+  }
+
+  /**
+   * A mutable number, held as a long when it is an integer which fits one, as a double when it comes
+   * from a floating point column or is not finite, else as a big decimal.
+   */
+  private static class NumberValue {
+
+    private enum Kind {
+      ABSENT,
+      LONG,
+      DOUBLE,
+      DECIMAL
+    }
+
+    private Kind kind = Kind.ABSENT;
+    private long longValue;
+    private double doubleValue;
+    private BigDecimal decimalValue;
+    // the value as it was read, when it was read from text, so that it is emitted as it was
+    private String text;
+
+    boolean isPresent() {
+      return kind != Kind.ABSENT;
+    }
+
+    void set(final JsonNode node) {
+      if (node.isIntegralNumber() && node.canConvertToLong()) {
+        setLong(node.longValue());
+      } else if (node.isFloatingPointNumber() && !node.isBigDecimal()) {
+        setDouble(node.doubleValue());
+      } else if (node.isNumber()) {
+        setDecimal(node.decimalValue());
+      } else {
+        setText(node.asText());
+      }
+    }
+
+    void setText(final String value) {
+      try {
+        setLong(Long.parseLong(value));
+      } catch (final NumberFormatException e) {
+        try {
+          setDecimal(new BigDecimal(value));
+        } catch (final NumberFormatException notDecimal) {
+          // NaN and infinities
+          setDouble(Double.parseDouble(value));
+        }
+      }
+      text = value;
+    }
+
+    private void setLong(final long value) {
+      kind = Kind.LONG;
+      longValue = value;
+      decimalValue = null;
+      text = null;
+    }
+
+    private void setDouble(final double value) {
+      kind = Kind.DOUBLE;
+      doubleValue = value;
+      decimalValue = null;
+      text = null;
+    }
+
+    private void setDecimal(final BigDecimal value) {
+      kind = Kind.DECIMAL;
+      decimalValue = value;
+      text = null;
+    }
+
+    void copy(final NumberValue other) {
+      kind = other.kind;
+      longValue = other.longValue;
+      doubleValue = other.doubleValue;
+      decimalValue = other.decimalValue;
+      text = other.text;
+    }
+
+    int compareTo(final NumberValue other) {
+      if (kind == Kind.LONG && other.kind == Kind.LONG) {
+        return Long.compare(longValue, other.longValue);
+      } else if (kind == Kind.DOUBLE || other.kind == Kind.DOUBLE) {
+        return Double.compare(toDouble(), other.toDouble());
+      } else {
+        return toDecimal().compareTo(other.toDecimal());
+      }
+    }
+
+    private double toDouble() {
+      return switch (kind) {
+        case LONG -> longValue;
+        case DECIMAL -> decimalValue.doubleValue();
+        default -> doubleValue;
+      };
+    }
+
+    private BigDecimal toDecimal() {
+      return kind == Kind.LONG ? BigDecimal.valueOf(longValue) : decimalValue;
+    }
+
+    String toCursor() {
+      if (text != null) {
+        return text;
+      }
+      return switch (kind) {
+        case ABSENT -> null;
+        case LONG -> Long.toString(longValue);
+        case DOUBLE -> Double.toString(doubleValue);
+        case DECIMAL -> decimalValue.toString();
+      };
+    }
+
+  }
+
+  private static class UnsupportedCursorTracker extends CursorTracker {
+
+    private final JsonSchemaPrimitive cursorType;
+    private final String initialCursor;
+
+    UnsupportedCursorTracker(final JsonSchemaPrimitive cursorType, final String initialCursor) {
+      this.cursorType = cursorType;
+      this.initialCursor = initialCursor;
+    }
+
+    @Override
+    public int compareToMax(final JsonNode value) {
+      throw new IllegalStateException(String.format("Cannot use field of type %s as a comparable", cursorType));
+    }
+
+    @Override
+    public void acceptCandidate() {}
+
+    @Override
+    public void markReady() {}
+
+    @Override
+    public String getMaxCursor() {
+      return initialCursor;
+    }
+
+    @Override
+    public String getReadyCursor() {
+      return initialCursor;
+    }
+
+  }
+
+}
@@ -4,8 +4,8 @@
 
 package io.airbyte.integrations.source.relationaldb;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.AbstractIterator;
-import io.airbyte.db.IncrementalUtils;
 import io.airbyte.integrations.source.relationaldb.state.StateManager;
 import io.airbyte.protocol.models.JsonSchemaPrimitiveUtil.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.v0.AirbyteMessage;
@@ -13,7 +13,6 @@ import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
 import io.airbyte.protocol.models.v0.AirbyteStateMessage;
 import io.airbyte.protocol.models.v0.AirbyteStreamNameNamespacePair;
 import java.util.Iterator;
-import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,10 +25,9 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
   private final StateManager stateManager;
   private final AirbyteStreamNameNamespacePair pair;
   private final String cursorField;
-  private final JsonSchemaPrimitive cursorType;
+  private final CursorTracker cursorTracker;
 
-  private final String initialCursor;
-  private String currentMaxCursor;
+  private boolean hasCursorAdvanced;
   private long currentMaxCursorRecordCount = 0L;
   private boolean hasEmittedFinalState;
 
@@ -47,14 +45,16 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
    * fail right after the emission, the next sync may skip some records with the same cursor value due
    * to "WHERE cursor_field > cursor" in {@code AbstractJdbcSource#queryTableIncremental}.
    * <p/>
-   * The {@code intermediateStateMessage} is set to the latest state message that is ready for
-   * emission. For every {@code stateEmissionFrequency} messages, {@code emitIntermediateState} is set
-   * to true and the latest "ready" state will be emitted in the next {@code computeNext} call.
+   * The latest cursor value that is ready for emission is kept aside by the {@code cursorTracker},
+   * along with its record count, and {@code hasReadyIntermediateState} is set. For every
+   * {@code stateEmissionFrequency} messages, {@code emitIntermediateState} is set to true and the
+   * latest "ready" state will be emitted in the next {@code computeNext} call.
    */
   private final int stateEmissionFrequency;
   private int totalRecordCount = 0;
   private boolean emitIntermediateState = false;
-  private AirbyteMessage intermediateStateMessage = null;
+  private boolean hasReadyIntermediateState = false;
+  private long readyCursorRecordCount = 0L;
   private boolean hasCaughtException = false;
 
   /**
@@ -80,24 +80,11 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
     this.stateManager = stateManager;
     this.pair = pair;
     this.cursorField = cursorField;
-    this.cursorType = cursorType;
-    this.initialCursor = initialCursor;
-    this.currentMaxCursor = initialCursor;
+    // the cursor values are compared as the type of the cursor field, chosen once for the stream
+    this.cursorTracker = CursorTracker.create(cursorType, initialCursor);
     this.stateEmissionFrequency = stateEmissionFrequency;
   }
 
-  private String getCursorCandidate(final AirbyteMessage message) {
-    final String cursorCandidate = message.getRecord().getData().get(cursorField).asText();
-    return (cursorCandidate != null ? replaceNull(cursorCandidate) : null);
-  }
-
-  private String replaceNull(final String cursorCandidate) {
-    if (cursorCandidate.contains("\u0000")) {
-      return cursorCandidate.replaceAll("\u0000", "");
-    }
-    return cursorCandidate;
-  }
-
   /**
    * Computes the next record retrieved from Source stream. Emits StateMessage containing data of the
    * record that has been read so far
@@ -131,17 +118,21 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
       // Use try-catch to catch Exception that could occur when connection to the database fails
       try {
         final AirbyteMessage message = messageIterator.next();
-        if (message.getRecord().getData().hasNonNull(cursorField)) {
-          final String cursorCandidate = getCursorCandidate(message);
-          final int cursorComparison = IncrementalUtils.compareCursors(currentMaxCursor, cursorCandidate, cursorType);
+        final JsonNode cursorCandidate = message.getRecord().getData().get(cursorField);
+        if (cursorCandidate != null && !cursorCandidate.isNull()) {
+          final int cursorComparison = cursorTracker.compareToMax(cursorCandidate);
           if (cursorComparison < 0) {
             // Update the current max cursor only when current max cursor < cursor candidate from the message
-            if (stateEmissionFrequency > 0 && !Objects.equals(currentMaxCursor, initialCursor) && messageIterator.hasNext()) {
+            if (stateEmissionFrequency > 0 && hasCursorAdvanced && messageIterator.hasNext()) {
               // Only emit an intermediate state when it is not the first or last record message,
               // because the last state message will be taken care of in a different branch.
-              intermediateStateMessage = createStateMessage(false, totalRecordCount);
+              // The state message itself is only created once it is emitted.
+              cursorTracker.markReady();
+              readyCursorRecordCount = currentMaxCursorRecordCount;
+              hasReadyIntermediateState = true;
             }
-            currentMaxCursor = cursorCandidate;
+            cursorTracker.acceptCandidate();
+            hasCursorAdvanced = true;
             currentMaxCursorRecordCount = 1L;
           } else if (cursorComparison == 0) {
             currentMaxCursorRecordCount++;
@@ -179,9 +170,9 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
    *         be emitted
    */
   protected final Optional<AirbyteMessage> getIntermediateMessage() {
-    if (emitIntermediateState && intermediateStateMessage != null) {
-      final AirbyteMessage message = intermediateStateMessage;
-      intermediateStateMessage = null;
+    if (emitIntermediateState && hasReadyIntermediateState) {
+      final AirbyteMessage message = createStateMessage(cursorTracker.getReadyCursor(), readyCursorRecordCount, false, totalRecordCount);
+      hasReadyIntermediateState = false;
       emitIntermediateState = false;
       return Optional.of(message);
     }
@@ -197,8 +188,21 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
    * @return AirbyteMessage which includes information on state of records read so far
    */
   public AirbyteMessage createStateMessage(final boolean isFinalState, int totalRecordCount) {
-    final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, currentMaxCursor, currentMaxCursorRecordCount);
-    final Optional<CursorInfo> cursorInfo = stateManager.getCursorInfo(pair);
+    return createStateMessage(cursorTracker.getMaxCursor(), currentMaxCursorRecordCount, isFinalState, totalRecordCount);
+  }
+
+  private AirbyteMessage createStateMessage(final String cursor,
+                                            final long cursorRecordCount,
+                                            final boolean isFinalState,
+                                            final int totalRecordCount) {
+    final AirbyteStateMessage stateMessage;
+    final Optional<CursorInfo> cursorInfo;
+    // the state manager is shared with the iterators of the other streams, which may be read
+    // concurrently, see AbstractDbSource#getMaxConcurrentStreamReads
+    synchronized (stateManager) {
+      stateMessage = stateManager.updateAndEmit(pair, cursor, cursorRecordCount);
+      cursorInfo = stateManager.getCursorInfo(pair);
+    }
     // logging once every 100 messages to reduce log verbosity
     if (totalRecordCount % 100 == 0) {
       LOGGER.info("State report for stream {} - original: {} = {} (count {}) -> latest: {} = {} (count {})",
@@ -42,6 +42,11 @@ public abstract class AbstractStateManager<T, S> implements StateManager<T, S> {
    *        stored in the connector's state.
    * @param cursorRecordCountFunction A {@link Function} that extracts the cursor record count for a
    *        stream stored in the connector's state.
+   * @param fullRefreshPrimaryKeyFunction A {@link Function} that extracts the primary key that a full
+   *        refresh read in progress is checkpointed on from a stream stored in the connector's state.
+   * @param fullRefreshPositionFunction A {@link Function} that extracts the primary key value up to
+   *        which a full refresh read in progress has been read from a stream stored in the connector's
+   *        state.
    * @param namespacePairFunction A {@link Function} that generates a
    *        {@link AirbyteStreamNameNamespacePair} that identifies each stream in the connector's
    *        state.
@@ -51,8 +56,11 @@ public abstract class AbstractStateManager<T, S> implements StateManager<T, S> {
                               final Function<S, String> cursorFunction,
                               final Function<S, List<String>> cursorFieldFunction,
                               final Function<S, Long> cursorRecordCountFunction,
+                              final Function<S, String> fullRefreshPrimaryKeyFunction,
+                              final Function<S, String> fullRefreshPositionFunction,
                               final Function<S, AirbyteStreamNameNamespacePair> namespacePairFunction) {
-    cursorManager = new CursorManager(catalog, streamSupplier, cursorFunction, cursorFieldFunction, cursorRecordCountFunction, namespacePairFunction);
+    cursorManager = new CursorManager(catalog, streamSupplier, cursorFunction, cursorFieldFunction, cursorRecordCountFunction,
+        fullRefreshPrimaryKeyFunction, fullRefreshPositionFunction, namespacePairFunction);
   }
 
   @Override
@@ -50,6 +50,11 @@ public class CursorManager<S> {
    *        stored in the connector's state.
    * @param cursorRecordCountFunction A {@link Function} that extracts the cursor record count for a
    *        stream stored in the connector's state.
+   * @param fullRefreshPrimaryKeyFunction A {@link Function} that extracts the primary key that a full
+   *        refresh read in progress is checkpointed on from a stream stored in the connector's state.
+   * @param fullRefreshPositionFunction A {@link Function} that extracts the primary key value up to
+   *        which a full refresh read in progress has been read from a stream stored in the connector's
+   *        state.
    * @param namespacePairFunction A {@link Function} that generates a
    *        {@link AirbyteStreamNameNamespacePair} that identifies each stream in the connector's
    *        state.
@@ -59,9 +64,12 @@ public class CursorManager<S> {
                        final Function<S, String> cursorFunction,
                        final Function<S, List<String>> cursorFieldFunction,
                        final Function<S, Long> cursorRecordCountFunction,
+                       final Function<S, String> fullRefreshPrimaryKeyFunction,
+                       final Function<S, String> fullRefreshPositionFunction,
                        final Function<S, AirbyteStreamNameNamespacePair> namespacePairFunction) {
     pairToCursorInfo = createCursorInfoMap(
-        catalog, streamSupplier, cursorFunction, cursorFieldFunction, cursorRecordCountFunction, namespacePairFunction);
+        catalog, streamSupplier, cursorFunction, cursorFieldFunction, cursorRecordCountFunction, fullRefreshPrimaryKeyFunction,
+        fullRefreshPositionFunction, namespacePairFunction);
   }
 
   /**
@@ -77,6 +85,11 @@ public class CursorManager<S> {
    *        stored in the connector's state.
    * @param cursorRecordCountFunction A {@link Function} that extracts the cursor record count for a
    *        stream stored in the connector's state.
+   * @param fullRefreshPrimaryKeyFunction A {@link Function} that extracts the primary key that a full
+   *        refresh read in progress is checkpointed on from a stream stored in the connector's state.
+   * @param fullRefreshPositionFunction A {@link Function} that extracts the primary key value up to
+   *        which a full refresh read in progress has been read from a stream stored in the connector's
+   *        state.
    * @param namespacePairFunction A {@link Function} that generates a
    *        {@link AirbyteStreamNameNamespacePair} that identifies each stream in the connector's
    *        state.
@@ -89,6 +102,8 @@ public class CursorManager<S> {
                                                                                 final Function<S, String> cursorFunction,
                                                                                 final Function<S, List<String>> cursorFieldFunction,
                                                                                 final Function<S, Long> cursorRecordCountFunction,
+                                                                                final Function<S, String> fullRefreshPrimaryKeyFunction,
+                                                                                final Function<S, String> fullRefreshPositionFunction,
                                                                                 final Function<S, AirbyteStreamNameNamespacePair> namespacePairFunction) {
     final Set<AirbyteStreamNameNamespacePair> allStreamNames = catalog.getStreams()
         .stream()
@@ -107,8 +122,12 @@ public class CursorManager<S> {
     for (final AirbyteStreamNameNamespacePair pair : allStreamNames) {
       final Optional<S> stateOptional = Optional.ofNullable(pairToState.get(pair));
       final Optional<ConfiguredAirbyteStream> streamOptional = Optional.ofNullable(pairToConfiguredAirbyteStream.get(pair));
-      localMap.put(pair,
-          createCursorInfoForStream(pair, stateOptional, streamOptional, cursorFunction, cursorFieldFunction, cursorRecordCountFunction));
+      final CursorInfo cursorInfo =
+          createCursorInfoForStream(pair, stateOptional, streamOptional, cursorFunction, cursorFieldFunction, cursorRecordCountFunction);
+      // kept whatever the cursor, so that an interrupted full refresh read can be resumed
+      stateOptional.ifPresent(state -> cursorInfo.setFullRefreshPosition(fullRefreshPrimaryKeyFunction.apply(state),
+          fullRefreshPositionFunction.apply(state)));
+      localMap.put(pair, cursorInfo);
     }
 
     return localMap;
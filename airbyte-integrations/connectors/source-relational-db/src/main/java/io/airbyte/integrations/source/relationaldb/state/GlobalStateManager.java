@@ -7,6 +7,8 @@ package io.airbyte.integrations.source.relationaldb.state;
 import static io.airbyte.integrations.source.relationaldb.state.StateGeneratorUtils.CURSOR_FIELD_FUNCTION;
 import static io.airbyte.integrations.source.relationaldb.state.StateGeneratorUtils.CURSOR_FUNCTION;
 import static io.airbyte.integrations.source.relationaldb.state.StateGeneratorUtils.CURSOR_RECORD_COUNT_FUNCTION;
+import static io.airbyte.integrations.source.relationaldb.state.StateGeneratorUtils.FULL_REFRESH_POSITION_FUNCTION;
+import static io.airbyte.integrations.source.relationaldb.state.StateGeneratorUtils.FULL_REFRESH_PRIMARY_KEY_FUNCTION;
 import static io.airbyte.integrations.source.relationaldb.state.StateGeneratorUtils.NAME_NAMESPACE_PAIR_FUNCTION;
 
 import io.airbyte.commons.json.Jsons;
@@ -57,6 +59,8 @@ public class GlobalStateManager extends AbstractStateManager<AirbyteStateMessage
         CURSOR_FUNCTION,
         CURSOR_FIELD_FUNCTION,
         CURSOR_RECORD_COUNT_FUNCTION,
+        FULL_REFRESH_PRIMARY_KEY_FUNCTION,
+        FULL_REFRESH_POSITION_FUNCTION,
         NAME_NAMESPACE_PAIR_FUNCTION);
 
     this.cdcStateManager = new CdcStateManager(extractCdcState(airbyteStateMessage), extractStreams(airbyteStateMessage));
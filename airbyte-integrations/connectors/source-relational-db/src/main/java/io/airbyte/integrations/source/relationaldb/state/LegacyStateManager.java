@@ -46,6 +46,10 @@ public class LegacyStateManager extends AbstractStateManager<DbState, DbStreamSt
   private static final Function<DbStreamState, Long> CURSOR_RECORD_COUNT_FUNCTION =
       stream -> Objects.requireNonNullElse(stream.getCursorRecordCount(), 0L);
 
+  private static final Function<DbStreamState, String> FULL_REFRESH_PRIMARY_KEY_FUNCTION = DbStreamState::getFullRefreshPrimaryKey;
+
+  private static final Function<DbStreamState, String> FULL_REFRESH_POSITION_FUNCTION = DbStreamState::getFullRefreshPosition;
+
   /**
    * {@link Function} that creates an {@link AirbyteStreamNameNamespacePair} from the stream state.
    */
@@ -76,6 +80,8 @@ public class LegacyStateManager extends AbstractStateManager<DbState, DbStreamSt
         CURSOR_FUNCTION,
         CURSOR_FIELD_FUNCTION,
         CURSOR_RECORD_COUNT_FUNCTION,
+        FULL_REFRESH_PRIMARY_KEY_FUNCTION,
+        FULL_REFRESH_POSITION_FUNCTION,
         NAME_NAMESPACE_PAIR_FUNCTION);
 
     this.cdcStateManager = new CdcStateManager(dbState.getCdcState(), AirbyteStreamNameNamespacePair.fromConfiguredCatalog(catalog));
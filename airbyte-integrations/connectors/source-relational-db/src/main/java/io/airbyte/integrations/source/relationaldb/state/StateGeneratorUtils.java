@@ -57,6 +57,24 @@ public class StateGeneratorUtils {
     return dbStreamState.map(DbStreamState::getCursorRecordCount).orElse(0L);
   };
 
+  /**
+   * {@link Function} that extracts the primary key of a full refresh read in progress from the stream
+   * state.
+   */
+  public static final Function<AirbyteStreamState, String> FULL_REFRESH_PRIMARY_KEY_FUNCTION = stream -> {
+    final Optional<DbStreamState> dbStreamState = StateGeneratorUtils.extractState(stream);
+    return dbStreamState.map(DbStreamState::getFullRefreshPrimaryKey).orElse(null);
+  };
+
+  /**
+   * {@link Function} that extracts the position of a full refresh read in progress from the stream
+   * state.
+   */
+  public static final Function<AirbyteStreamState, String> FULL_REFRESH_POSITION_FUNCTION = stream -> {
+    final Optional<DbStreamState> dbStreamState = StateGeneratorUtils.extractState(stream);
+    return dbStreamState.map(DbStreamState::getFullRefreshPosition).orElse(null);
+  };
+
   /**
    * {@link Function} that creates an {@link AirbyteStreamNameNamespacePair} from the stream state.
    */
@@ -133,6 +151,10 @@ public class StateGeneratorUtils {
     if (cursorInfo.getCursorRecordCount() > 0L) {
       state.setCursorRecordCount(cursorInfo.getCursorRecordCount());
     }
+    if (cursorInfo.getFullRefreshPosition() != null) {
+      state.setFullRefreshPrimaryKey(cursorInfo.getFullRefreshPrimaryKey());
+      state.setFullRefreshPosition(cursorInfo.getFullRefreshPosition());
+    }
     return state;
   }
 
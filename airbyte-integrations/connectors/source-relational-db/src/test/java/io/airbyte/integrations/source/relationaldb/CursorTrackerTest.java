@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.airbyte.protocol.models.JsonSchemaPrimitiveUtil.JsonSchemaPrimitive;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+
+class CursorTrackerTest {
+
+  @Test
+  void testComparesLargeIntegersWithoutLosingPrecision() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.INTEGER_V1, "9007199254740993");
+
+    // both values are the same double
+    assertTrue(tracker.compareToMax(LongNode.valueOf(9007199254740992L)) > 0);
+    assertTrue(tracker.compareToMax(LongNode.valueOf(9007199254740994L)) < 0);
+    tracker.acceptCandidate();
+    assertEquals("9007199254740994", tracker.getMaxCursor());
+
+    final BigInteger beyondLong = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.TWO);
+    assertTrue(tracker.compareToMax(BigIntegerNode.valueOf(beyondLong)) < 0);
+    tracker.acceptCandidate();
+    assertEquals(beyondLong.toString(), tracker.getMaxCursor());
+  }
+
+  @Test
+  void testComparesNumbersOfDifferentRepresentations() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.NUMBER, "1.50");
+
+    assertEquals(0, tracker.compareToMax(DecimalNode.valueOf(new BigDecimal("1.5"))));
+    assertEquals(0, tracker.compareToMax(DoubleNode.valueOf(1.5)));
+    assertTrue(tracker.compareToMax(LongNode.valueOf(1)) > 0);
+    assertTrue(tracker.compareToMax(TextNode.valueOf("12345678901234567890.5")) < 0);
+    // the initial cursor is kept as it was given
+    assertEquals("1.50", tracker.getMaxCursor());
+
+    assertTrue(tracker.compareToMax(DecimalNode.valueOf(new BigDecimal("2.25"))) < 0);
+    tracker.acceptCandidate();
+    assertEquals("2.25", tracker.getMaxCursor());
+  }
+
+  @Test
+  void testKeepsReadyCursorAside() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.STRING, null);
+
+    assertTrue(tracker.compareToMax(TextNode.valueOf("a\u0000b")) < 0);
+    tracker.acceptCandidate();
+    tracker.markReady();
+    assertTrue(tracker.compareToMax(TextNode.valueOf("c")) < 0);
+    tracker.acceptCandidate();
+
+    assertEquals("ab", tracker.getReadyCursor());
+    assertEquals("c", tracker.getMaxCursor());
+  }
+
+  @Test
+  void testComparesBooleans() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.BOOLEAN, null);
+
+    assertNull(tracker.getMaxCursor());
+    assertTrue(tracker.compareToMax(BooleanNode.FALSE) < 0);
+    tracker.acceptCandidate();
+    assertTrue(tracker.compareToMax(TextNode.valueOf("true")) < 0);
+    tracker.acceptCandidate();
+    assertEquals("true", tracker.getMaxCursor());
+  }
+
+  @Test
+  void testUnsupportedTypeFailsOnceCompared() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.OBJECT, "a");
+
+    assertEquals("a", tracker.getMaxCursor());
+    assertThrows(IllegalStateException.class, () -> tracker.compareToMax(TextNode.valueOf("a")));
+  }
+
+}
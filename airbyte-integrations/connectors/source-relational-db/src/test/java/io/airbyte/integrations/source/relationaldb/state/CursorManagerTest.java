@@ -142,16 +142,36 @@ public class CursorManagerTest {
     assertEquals(Optional.empty(), cursorManager.getCursor(NAME_NAMESPACE_PAIR2));
   }
 
+  @Test
+  void testFullRefreshPositionIsKeptApartFromCursor() {
+    final DbStreamState dbStreamState = getState(CURSOR_FIELD1, CURSOR).get()
+        .withFullRefreshPrimaryKey(CURSOR_FIELD2)
+        .withFullRefreshPosition("42");
+    final CursorManager<DbStreamState> cursorManager = createCursorManager(dbStreamState, CURSOR_FIELD1, NAME_NAMESPACE_PAIR1);
+    // the stream is not in the catalog, so its cursor is reset, but not its full refresh position
+    final CursorInfo expectedCursorInfo = new CursorInfo(CURSOR_FIELD1, CURSOR, null, null)
+        .setFullRefreshPosition(CURSOR_FIELD2, "42");
+
+    assertEquals(Optional.of(expectedCursorInfo), cursorManager.getCursorInfo(NAME_NAMESPACE_PAIR1));
+  }
+
   private CursorManager<DbStreamState> createCursorManager(final String cursorField,
                                                            final String cursor,
                                                            final AirbyteStreamNameNamespacePair nameNamespacePair) {
-    final DbStreamState dbStreamState = getState(cursorField, cursor).get();
+    return createCursorManager(getState(cursorField, cursor).get(), cursorField, nameNamespacePair);
+  }
+
+  private CursorManager<DbStreamState> createCursorManager(final DbStreamState dbStreamState,
+                                                           final String cursorField,
+                                                           final AirbyteStreamNameNamespacePair nameNamespacePair) {
     return new CursorManager<>(
         getCatalog(cursorField).orElse(null),
         () -> Collections.singleton(dbStreamState),
         DbStreamState::getCursor,
         DbStreamState::getCursorField,
         CURSOR_RECORD_COUNT_FUNCTION,
+        DbStreamState::getFullRefreshPrimaryKey,
+        DbStreamState::getFullRefreshPosition,
         s -> nameNamespacePair);
   }
 
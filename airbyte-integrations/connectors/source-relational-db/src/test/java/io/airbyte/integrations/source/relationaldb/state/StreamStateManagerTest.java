@@ -18,8 +18,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.source.relationaldb.CursorInfo;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
 import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.v0.AirbyteStateMessage;
@@ -234,6 +236,39 @@ public class StreamStateManagerTest {
     assertEquals(expectedFirstEmission, actualFirstEmission);
   }
 
+  @Test
+  void testFullRefreshPosition() {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(List.of(
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME1).withNamespace(NAMESPACE)
+                    .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH)))
+                .withCursorField(List.of(CURSOR_FIELD1))));
+    final AirbyteStateMessage state = createStreamState(STREAM_NAME1, NAMESPACE, List.of(CURSOR_FIELD1), "a", 0L);
+    ((ObjectNode) state.getStream().getStreamState())
+        .put("full_refresh_primary_key", CURSOR_FIELD2)
+        .put("full_refresh_position", "42");
+    final StreamStateManager stateManager = new StreamStateManager(List.of(state), catalog);
+
+    final CursorInfo cursorInfo = stateManager.getCursorInfo(NAME_NAMESPACE_PAIR1).get();
+    assertEquals(CURSOR_FIELD2, cursorInfo.getFullRefreshPrimaryKey());
+    assertEquals("42", cursorInfo.getFullRefreshPosition());
+    assertEquals(CURSOR_FIELD1, cursorInfo.getCursorField());
+    assertEquals("a", cursorInfo.getCursor());
+
+    cursorInfo.setFullRefreshPosition(CURSOR_FIELD2, "84");
+    final DbStreamState emittedStreamState = Jsons.object(
+        stateManager.emit(Optional.of(NAME_NAMESPACE_PAIR1)).getStream().getStreamState(), DbStreamState.class);
+    assertEquals(CURSOR_FIELD2, emittedStreamState.getFullRefreshPrimaryKey());
+    assertEquals("84", emittedStreamState.getFullRefreshPosition());
+    assertEquals(List.of(CURSOR_FIELD1), emittedStreamState.getCursorField());
+    assertEquals("a", emittedStreamState.getCursor());
+
+    cursorInfo.setFullRefreshPosition(null, null);
+    assertEquals(createStreamState(STREAM_NAME1, NAMESPACE, List.of(CURSOR_FIELD1), "a", 0L).getStream(),
+        stateManager.emit(Optional.of(NAME_NAMESPACE_PAIR1)).getStream());
+  }
+
   @Test
   void testCdcStateManager() {
     final ConfiguredAirbyteCatalog catalog = mock(ConfiguredAirbyteCatalog.class);
@@ -22,6 +22,7 @@ import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -95,16 +96,15 @@ public class SnowflakeSourceOperations extends JdbcSourceOperations {
   }
 
   @Override
-  public void copyToJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final String columnName = resultSet.getMetaData().getColumnName(colIndex);
-    final String columnTypeName = resultSet.getMetaData().getColumnTypeName(colIndex).toLowerCase();
+  protected ColumnCopier getColumnCopier(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    final String columnName = metadata.getColumnName(colIndex);
+    final String columnTypeName = metadata.getColumnTypeName(colIndex).toLowerCase();
 
     // TIMESTAMPLTZ data type detected as JDBCType.TIMESTAMP which is not correct
     if ("TIMESTAMPLTZ".equalsIgnoreCase(columnTypeName)) {
-      putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-      return;
+      return skipNulls(this::putTimestampWithTimezone, columnName, colIndex);
     }
-    super.copyToJsonField(resultSet, colIndex, json);
+    return super.getColumnCopier(metadata, colIndex);
   }
 
   @Override
@@ -34,61 +34,67 @@ public class TiDBSourceOperations extends AbstractJdbcCompatibleSourceOperations
 
   @Override
   public void copyToJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final ResultSetMetaData metaData = (ResultSetMetaData) resultSet.getMetaData();
-    final Field field = metaData.getFields()[colIndex - 1];
+    copyColumnToJsonField(resultSet, colIndex, json);
+  }
+
+  @Override
+  protected ColumnCopier getColumnCopier(final java.sql.ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    final Field field = ((ResultSetMetaData) metadata).getFields()[colIndex - 1];
     final String columnName = field.getName();
     final MysqlType columnType = field.getMysqlType();
 
-    switch (columnType) {
+    return switch (columnType) {
       case BIT -> {
         if (field.getLength() == 1L) {
           // BIT(1) is boolean
-          putBoolean(json, columnName, resultSet, colIndex);
+          yield skipNullsAfterRead(this::putBoolean, columnName, colIndex);
         } else {
-          putBinary(json, columnName, resultSet, colIndex);
+          yield skipNulls(this::putBinary, columnName, colIndex);
         }
       }
-      case BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
+      case BOOLEAN -> skipNullsAfterRead(this::putBoolean, columnName, colIndex);
       case TINYINT, TINYINT_UNSIGNED -> {
         if (field.getLength() == 1L) {
           // TINYINT(1) is boolean
-          putBoolean(json, columnName, resultSet, colIndex);
+          yield skipNullsAfterRead(this::putBoolean, columnName, colIndex);
         } else {
-          putShortInt(json, columnName, resultSet, colIndex);
+          yield skipNullsAfterRead(this::putShortInt, columnName, colIndex);
         }
       }
-      case SMALLINT, SMALLINT_UNSIGNED, MEDIUMINT, MEDIUMINT_UNSIGNED -> putInteger(json, columnName, resultSet, colIndex);
+      case SMALLINT, SMALLINT_UNSIGNED, MEDIUMINT, MEDIUMINT_UNSIGNED -> skipNullsAfterRead(this::putInteger, columnName, colIndex);
       case INT, INT_UNSIGNED -> {
         if (field.isUnsigned()) {
-          putBigInt(json, columnName, resultSet, colIndex);
+          yield skipNullsAfterRead(this::putBigInt, columnName, colIndex);
         } else {
-          putInteger(json, columnName, resultSet, colIndex);
+          yield skipNullsAfterRead(this::putInteger, columnName, colIndex);
         }
       }
-      case BIGINT, BIGINT_UNSIGNED -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, FLOAT_UNSIGNED -> putFloat(json, columnName, resultSet, colIndex);
-      case DOUBLE, DOUBLE_UNSIGNED -> putDouble(json, columnName, resultSet, colIndex);
-      case DECIMAL, DECIMAL_UNSIGNED -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case DATETIME, TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case YEAR -> {
-        final String year = resultSet.getDate(colIndex).toString().split("-")[0];
-        json.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> year));
-      }
+      case BIGINT, BIGINT_UNSIGNED -> skipNullsAfterRead(this::putBigInt, columnName, colIndex);
+      case FLOAT, FLOAT_UNSIGNED -> skipNullsAfterRead(this::putFloat, columnName, colIndex);
+      case DOUBLE, DOUBLE_UNSIGNED -> skipNullsAfterRead(this::putDouble, columnName, colIndex);
+      case DECIMAL, DECIMAL_UNSIGNED -> skipNullsAfterRead(this::putBigDecimal, columnName, colIndex);
+      case DATE -> skipNulls(this::putDate, columnName, colIndex);
+      case DATETIME, TIMESTAMP -> skipNulls(this::putTimestamp, columnName, colIndex);
+      case TIME -> skipNulls(this::putTime, columnName, colIndex);
+      case YEAR -> skipNulls(this::putYear, columnName, colIndex);
       case CHAR, VARCHAR -> {
         if (field.isBinary()) {
           // when character set is binary, the returned value is binary
-          putBinary(json, columnName, resultSet, colIndex);
+          yield skipNulls(this::putBinary, columnName, colIndex);
         } else {
-          putString(json, columnName, resultSet, colIndex);
+          yield skipNullsAfterRead(this::putString, columnName, colIndex);
         }
       }
-      case TINYBLOB, BLOB, MEDIUMBLOB, LONGBLOB, BINARY, VARBINARY, GEOMETRY -> putBinary(json, columnName, resultSet, colIndex);
-      case TINYTEXT, TEXT, MEDIUMTEXT, LONGTEXT, JSON, ENUM, SET -> putString(json, columnName, resultSet, colIndex);
-      case NULL -> json.set(columnName, NullNode.instance);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+      case TINYBLOB, BLOB, MEDIUMBLOB, LONGBLOB, BINARY, VARBINARY, GEOMETRY -> skipNulls(this::putBinary, columnName, colIndex);
+      case TINYTEXT, TEXT, MEDIUMTEXT, LONGTEXT, JSON, ENUM, SET -> skipNullsAfterRead(this::putString, columnName, colIndex);
+      case NULL -> skipNulls((node, name, resultSet, index) -> node.set(name, NullNode.instance), columnName, colIndex);
+      default -> skipNullsAfterRead(this::putDefault, columnName, colIndex);
+    };
+  }
+
+  private void putYear(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
+    final String year = resultSet.getDate(index).toString().split("-")[0];
+    node.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> year));
   }
 
   @Override
@@ -7,6 +7,9 @@ package io.airbyte.validation.json;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.networknt.schema.JsonMetaSchema;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -44,9 +47,17 @@ public class JsonSchemaValidator {
     }
   }
 
+  // bounds the validators kept for the schemas given to the methods which take a schema, the least
+  // recently used ones are evicted first
+  private static final int MAX_CACHED_VALIDATORS = 1_000;
+
   private final JsonSchemaFactory jsonSchemaFactory;
   private final URI baseUri;
   private final Map<String, JsonSchema> schemaToValidators = new HashMap<>();
+  private final Cache<JsonNode, JsonSchema> cachedValidators = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_VALIDATORS)
+      .recordStats()
+      .build();
 
   public JsonSchemaValidator() {
     this(DEFAULT_BASE_URI);
@@ -106,13 +117,11 @@ public class JsonSchemaValidator {
   }
 
   /**
-   * WARNING
-   * <p>
-   * The following methods perform JSON validation **by re-creating a validator each time**. This is
-   * both CPU and GC expensive, and should be used carefully.
+   * The following methods compile a validator for the given schema the first time they see it, and
+   * reuse it for the schemas with the same content afterwards. Schemas are compared by content, so
+   * the given schema may be a different instance each time, or be modified once given.
    */
 
-  // todo(davin): Rewrite this section to cache schemas.
   public boolean test(final JsonNode schemaJson, final JsonNode objectJson) {
     final Set<ValidationMessage> validationMessages = validateInternal(schemaJson, objectJson);
 
@@ -169,10 +178,30 @@ public class JsonSchemaValidator {
     Preconditions.checkNotNull(schemaJson);
     Preconditions.checkNotNull(objectJson);
 
-    final JsonSchema schema = getSchemaValidator(schemaJson);
+    final JsonSchema schema = getCachedSchemaValidator(schemaJson);
     return schema.validate(objectJson);
   }
 
+  private JsonSchema getCachedSchemaValidator(final JsonNode schemaJson) {
+    final JsonSchema cachedValidator = cachedValidators.getIfPresent(schemaJson);
+    if (cachedValidator != null) {
+      return cachedValidator;
+    }
+    // the validator is compiled from the copy used as key, so that neither is affected if the caller
+    // modifies its schema. Two threads may compile the same schema, in which case the last one wins.
+    final JsonNode schemaJsonCopy = schemaJson.deepCopy();
+    final JsonSchema validator = getSchemaValidator(schemaJsonCopy);
+    cachedValidators.put(schemaJsonCopy, validator);
+    return validator;
+  }
+
+  /**
+   * @return the hits and misses of the validators compiled for the methods which take a schema
+   */
+  public CacheStats getCacheStats() {
+    return cachedValidators.stats();
+  }
+
   /**
    * Return a schema validator for a json schema, defaulting to the V7 Json schema.
    */
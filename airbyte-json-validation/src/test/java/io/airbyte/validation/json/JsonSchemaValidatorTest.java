@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import java.io.File;
@@ -164,4 +165,41 @@ class JsonSchemaValidatorTest {
     assertThrows(JsonValidationException.class, () -> validator.ensureInitializedSchema(schemaName, badJson));
   }
 
+  @Test
+  void testReusesValidatorForSchemasWithSameContent() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final JsonNode object = Jsons.deserialize("{\"host\":\"abc\"}");
+
+    assertTrue(validator.test(VALID_SCHEMA, object));
+    assertTrue(validator.test(VALID_SCHEMA.deepCopy(), object));
+    assertEquals(1, validator.getCacheStats().missCount());
+    assertEquals(1, validator.getCacheStats().hitCount());
+  }
+
+  @Test
+  void testValidatesAgainstModifiedSchema() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final JsonNode schema = VALID_SCHEMA.deepCopy();
+    final JsonNode object = Jsons.deserialize("{\"host\":\"abc\", \"port\":1}");
+    assertTrue(validator.test(schema, object));
+
+    ((ObjectNode) schema.get(PROPERTIES).get("port")).put("minimum", 2);
+    assertFalse(validator.test(schema, object));
+    assertEquals(2, validator.getCacheStats().missCount());
+  }
+
+  @Test
+  void testCachedValidatorIsNotAffectedByModificationsOfTheSchema() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final JsonNode schema = VALID_SCHEMA.deepCopy();
+    final JsonNode object = Jsons.deserialize("{\"host\":\"abc\", \"port\":1}");
+    assertTrue(validator.test(schema, object));
+
+    ((ObjectNode) schema.get(PROPERTIES).get("port")).put("minimum", 2);
+    ((ObjectNode) schema).remove("required");
+    assertTrue(validator.test(VALID_SCHEMA, object));
+    assertFalse(validator.test(VALID_SCHEMA, Jsons.deserialize("{\"port\":1}")));
+    assertEquals(1, validator.getCacheStats().missCount());
+  }
+
 }